@@ -0,0 +1,198 @@
+package com.druidic.transliterator.adapter.in.socket;
+
+import com.druidic.transliterator.core.Script;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client for {@link SocketServer}. One connection is shared by any number of
+ * threads: {@link #submit} writes the request and returns at once, and a
+ * reader thread completes each future when the response with its id arrives,
+ * whatever order the server answers in.
+ *
+ * <pre>
+ *   try (SocketClient client = SocketClient.connect(new InetSocketAddress("translit", 7070))) {
+ *       String runes = client.transliterate(Script.ELDER_FUTHARK, "hello");
+ *   }
+ * </pre>
+ *
+ * Server-side failures (an unknown script, a text over the server's frame
+ * limit, a full worker queue) fail only their own future, with an
+ * IOException carrying the server's message; a malformed frame or a lost
+ * connection fails every outstanding one.
+ */
+public final class SocketClient implements Closeable {
+
+    private final SocketChannel channel;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Integer, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+    // Id 0 is the server's for connection errors
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private volatile IOException failure;
+
+    private SocketClient(SocketChannel channel) {
+        this.channel = channel;
+        Thread reader = new Thread(this::readResponses, "socket-client-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    public static SocketClient connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return new SocketClient(channel);
+    }
+
+    /**
+     * Connects, giving up after {@code timeout} rather than the OS's much longer default.
+     */
+    public static SocketClient connect(InetSocketAddress address, Duration timeout) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.socket().connect(address, (int) Math.max(1, timeout.toMillis()));
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new SocketClient(channel);
+    }
+
+    public static SocketClient connect(Path unixSocket) throws IOException {
+        return new SocketClient(SocketChannel.open(UnixDomainSocketAddress.of(unixSocket)));
+    }
+
+    /**
+     * Sends a request without waiting for its response. Cancelling the future
+     * abandons the request alone; the connection stays open.
+     */
+    public CompletableFuture<String> submit(Script script, String text) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        int id = nextId.getAndUpdate(next -> next == Integer.MAX_VALUE ? 1 : next + 1);
+        pending.put(id, result);
+        // A caller that gives up cancels; its late response is then dropped
+        result.whenComplete((output, error) -> {
+            if (result.isCancelled()) {
+                pending.remove(id, result);
+            }
+        });
+        // Checked after registering, so a concurrent failure cannot miss this future
+        if (failure != null) {
+            fail(id, failure);
+            return result;
+        }
+        ByteBuffer frame = SocketProtocol.request(id, script, text.getBytes(StandardCharsets.UTF_8));
+        writeLock.lock();
+        try {
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+        } catch (IOException e) {
+            fail(id, e);
+        } finally {
+            writeLock.unlock();
+        }
+        return result;
+    }
+
+    public String transliterate(Script script, String text) throws IOException {
+        try {
+            return submit(script, text).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for transliteration");
+        }
+    }
+
+    /**
+     * False once the connection has failed or been closed; every later request fails.
+     */
+    public boolean isOpen() {
+        return failure == null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        failAll(new IOException("Client closed"));
+        channel.close();
+    }
+
+    private void readResponses() {
+        ByteBuffer length = ByteBuffer.allocate(SocketProtocol.LENGTH_BYTES);
+        try {
+            while (true) {
+                readFully(length.clear());
+                int frameBytes = length.getInt(0);
+                if (frameBytes < SocketProtocol.HEADER_BYTES) {
+                    throw new IOException("Malformed response frame of " + frameBytes + " bytes");
+                }
+                ByteBuffer frame = ByteBuffer.allocate(frameBytes);
+                readFully(frame);
+                int id = frame.getInt(0);
+                byte status = frame.get(4);
+                String payload = new String(frame.array(), SocketProtocol.HEADER_BYTES,
+                        frameBytes - SocketProtocol.HEADER_BYTES, StandardCharsets.UTF_8);
+                if (id == SocketProtocol.CONNECTION_ID) {
+                    throw new IOException("Server closed the connection: " + payload);
+                }
+                CompletableFuture<String> result = pending.remove(id);
+                if (result == null) {
+                    continue;
+                }
+                if (status == SocketProtocol.STATUS_OK) {
+                    result.complete(payload);
+                } else {
+                    result.completeExceptionally(new IOException(payload));
+                }
+            }
+        } catch (IOException e) {
+            failAll(e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Connection closed by server");
+            }
+        }
+    }
+
+    private void fail(int id, IOException e) {
+        CompletableFuture<String> result = pending.remove(id);
+        if (result != null) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void failAll(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+        for (Integer id : pending.keySet()) {
+            fail(id, failure);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.druidic.transliterator.adapter.in.socket;
+
+import com.druidic.transliterator.core.Script;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The socket adapter's wire format. Every frame is a big-endian int giving the
+ * length of the rest of the frame, then:
+ *
+ * <pre>
+ *   request:  int id, byte script, UTF-8 text
+ *   response: int id, byte status, UTF-8 result (status 0) or error message (status 1)
+ * </pre>
+ *
+ * Scripts are coded by their position in {@link Script}; new scripts are only
+ * ever appended, so codes stay stable. Ids are chosen by the client and echoed
+ * back; a connection may have any number of requests outstanding and their
+ * responses can come back in any order. Id 0 is reserved for errors about the
+ * connection itself, after which the server closes it.
+ */
+final class SocketProtocol {
+
+    static final int LENGTH_BYTES = 4;
+    static final int HEADER_BYTES = 5;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    static final int CONNECTION_ID = 0;
+
+    private static final Script[] SCRIPTS = Script.values();
+
+    private SocketProtocol() {
+    }
+
+    static byte code(Script script) {
+        return (byte) script.ordinal();
+    }
+
+    /**
+     * The script for a wire code, or null if there is none.
+     */
+    static Script script(int code) {
+        return code >= 0 && code < SCRIPTS.length ? SCRIPTS[code] : null;
+    }
+
+    static ByteBuffer request(int id, Script script, byte[] text) {
+        return frame(id, code(script), text);
+    }
+
+    static ByteBuffer response(int id, byte status, byte[] payload) {
+        return frame(id, status, payload);
+    }
+
+    private static ByteBuffer frame(int id, byte kind, byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + HEADER_BYTES + payload.length);
+        frame.putInt(HEADER_BYTES + payload.length).putInt(id).put(kind).put(payload);
+        return frame.flip();
+    }
+}
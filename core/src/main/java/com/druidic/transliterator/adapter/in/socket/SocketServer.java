@@ -0,0 +1,505 @@
+package com.druidic.transliterator.adapter.in.socket;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves {@link TransliteratePort} over TCP and Unix domain sockets with the
+ * length-prefixed binary {@link SocketProtocol}, for internal clients that
+ * cannot afford HTTP and JSON per call.
+ *
+ * A few selector threads own the connections, read pipelined requests and
+ * run the engines inline, which for the usual short texts costs less than a
+ * hand-off. Texts of {@code offloadBytes} or more go to an equally small
+ * worker pool instead so they cannot stall the other connections on their
+ * selector; their responses overtake nothing but are overtaken, which is why
+ * every response carries its request's id.
+ *
+ * Workers take at most {@value #MAX_QUEUED_OFFLOADS} waiting texts; past
+ * that a long text is answered with an error at once. A frame over
+ * {@code maxFrameBytes} is skipped unread and answered with an error for its
+ * id alone, so the other requests pipelined on the connection carry on.
+ *
+ * A connection stops being read while {@value #MAX_OFFLOADED_PER_CONNECTION}
+ * of its requests are with workers or its unsent responses pass
+ * {@value #OUTPUT_HIGH_WATER_BYTES} bytes, so a client that pipelines faster
+ * than it reads is held back by TCP flow control, not by server memory.
+ */
+public final class SocketServer implements Closeable {
+
+    private static final System.Logger log = System.getLogger(SocketServer.class.getName());
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+    private static final int OUTPUT_HIGH_WATER_BYTES = 1 << 20;
+    private static final int MAX_OFFLOADED_PER_CONNECTION = 64;
+    private static final int MAX_QUEUED_OFFLOADS = 256;
+    private static final int MAX_GATHER = 64;
+
+    private final Map<Script, TransliteratePort> engines;
+    private final InetSocketAddress tcpAddress;
+    private final Path unixSocket;
+    private final int maxFrameBytes;
+    private final int offloadBytes;
+    private final Loop[] loops;
+    private final ThreadPoolExecutor workers;
+    private final List<ServerSocketChannel> listeners = new ArrayList<>();
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile boolean running;
+
+    /**
+     * @param tcpAddress   where to listen for TCP, or null for none
+     * @param unixSocket   where to create a Unix domain socket, or null for none
+     * @param threads      selector threads, and as many workers for long texts
+     * @param maxFrameBytes largest request frame accepted; a larger one is skipped and answered with an error
+     * @param offloadBytes texts of at least this many UTF-8 bytes run on a worker
+     */
+    public SocketServer(Map<Script, TransliteratePort> engines, InetSocketAddress tcpAddress, Path unixSocket,
+                        int threads, int maxFrameBytes, int offloadBytes) throws IOException {
+        if (tcpAddress == null && unixSocket == null) {
+            throw new IllegalArgumentException("Socket server needs a TCP address or a Unix socket path");
+        }
+        if (threads < 1 || maxFrameBytes < SocketProtocol.HEADER_BYTES || offloadBytes < 1) {
+            throw new IllegalArgumentException("Socket server threads, max-frame-bytes and offload-bytes must be positive");
+        }
+        this.engines = new EnumMap<>(engines);
+        this.tcpAddress = tcpAddress;
+        this.unixSocket = unixSocket;
+        this.maxFrameBytes = maxFrameBytes;
+        this.offloadBytes = offloadBytes;
+        this.loops = new Loop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new Loop(i);
+        }
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_OFFLOADS), task -> {
+                    Thread thread = new Thread(task, "socket-worker-" + workerNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        try {
+            if (tcpAddress != null) {
+                listen(ServerSocketChannel.open(StandardProtocolFamily.INET).bind(tcpAddress));
+            }
+            if (unixSocket != null) {
+                // A socket file left by an unclean exit would fail the bind
+                if (Files.exists(unixSocket) && !Files.isRegularFile(unixSocket) && !Files.isDirectory(unixSocket)) {
+                    Files.delete(unixSocket);
+                }
+                listen(ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                        .bind(UnixDomainSocketAddress.of(unixSocket)));
+            }
+        } catch (IOException e) {
+            closeListeners();
+            throw e;
+        }
+        running = true;
+        for (Loop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    private void listen(ServerSocketChannel listener) throws IOException {
+        listeners.add(listener);
+        listener.configureBlocking(false);
+        listener.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * The bound TCP port, or -1 without a TCP listener.
+     */
+    public int port() {
+        for (ServerSocketChannel listener : listeners) {
+            try {
+                if (listener.getLocalAddress() instanceof InetSocketAddress address) {
+                    return address.getPort();
+                }
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    public Path unixSocket() {
+        return unixSocket;
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        running = false;
+        for (Loop loop : loops) {
+            loop.selector.wakeup();
+        }
+        for (Loop loop : loops) {
+            try {
+                loop.thread.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.shutdownNow();
+        closeListeners();
+    }
+
+    private void closeListeners() throws IOException {
+        for (ServerSocketChannel listener : listeners) {
+            listener.close();
+        }
+        listeners.clear();
+        if (unixSocket != null) {
+            Files.deleteIfExists(unixSocket);
+        }
+    }
+
+    // One selector and the connections registered with it
+    private final class Loop implements Runnable {
+
+        final Selector selector;
+        final Thread thread;
+        final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+        final Queue<Connection> offloadsDone = new ConcurrentLinkedQueue<>();
+
+        Loop(int number) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "socket-selector-" + number);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    for (SocketChannel channel; (channel = accepted.poll()) != null; ) {
+                        register(channel);
+                    }
+                    for (Connection connection; (connection = offloadsDone.poll()) != null; ) {
+                        connection.flushQuietly();
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept((ServerSocketChannel) key.channel());
+                        } else {
+                            ((Connection) key.attachment()).ready(key);
+                        }
+                    }
+                    selector.selectedKeys().clear();
+                } catch (IOException e) {
+                    log.log(System.Logger.Level.WARNING, "Socket selector failed", e);
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.log(System.Logger.Level.DEBUG, "Closing selector", e);
+            }
+        }
+
+        private void accept(ServerSocketChannel listener) throws IOException {
+            SocketChannel channel;
+            while ((channel = listener.accept()) != null) {
+                channel.configureBlocking(false);
+                if (channel.getLocalAddress() instanceof InetSocketAddress) {
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                }
+                Loop target = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+                target.accepted.add(channel);
+                target.selector.wakeup();
+            }
+        }
+
+        private void register(SocketChannel channel) {
+            try {
+                Connection connection = new Connection(this, channel);
+                connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+                connections.incrementAndGet();
+            } catch (IOException e) {
+                log.log(System.Logger.Level.DEBUG, "Dropping connection", e);
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // already failing
+                }
+            }
+        }
+    }
+
+    // Read and interest-op state is only touched on the loop's thread;
+    // workers only append to the output queue and hand the connection back
+    private final class Connection {
+
+        final Loop loop;
+        final SocketChannel channel;
+        SelectionKey key;
+
+        ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        final Queue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
+        final AtomicLong queuedBytes = new AtomicLong();
+        final AtomicInteger offloaded = new AtomicInteger();
+        // Bytes still to discard of an oversized frame
+        int skipBytes;
+        boolean inputClosed;
+        boolean failed;
+        boolean closed;
+
+        Connection(Loop loop, SocketChannel channel) {
+            this.loop = loop;
+            this.channel = channel;
+        }
+
+        void ready(SelectionKey key) {
+            try {
+                if (key.isReadable()) {
+                    read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    flush();
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                // The client may half-close after its last request and still read
+                inputClosed = true;
+                flush();
+                return;
+            }
+            in.flip();
+            ByteBuffer grown = null;
+            while (!failed && in.hasRemaining()) {
+                if (skipBytes > 0) {
+                    int skipped = Math.min(skipBytes, in.remaining());
+                    in.position(in.position() + skipped);
+                    skipBytes -= skipped;
+                    continue;
+                }
+                if (in.remaining() < SocketProtocol.LENGTH_BYTES) {
+                    break;
+                }
+                int length = in.getInt(in.position());
+                if (length < SocketProtocol.HEADER_BYTES) {
+                    errors.increment();
+                    failed = true;
+                    queue(SocketProtocol.response(SocketProtocol.CONNECTION_ID, SocketProtocol.STATUS_ERROR,
+                            utf8("frame of " + length + " bytes is under " + SocketProtocol.HEADER_BYTES)));
+                    break;
+                }
+                if (length > maxFrameBytes) {
+                    // Well-formed but too large to buffer: answer its id and drop the text
+                    if (in.remaining() < SocketProtocol.LENGTH_BYTES + SocketProtocol.HEADER_BYTES) {
+                        break;
+                    }
+                    in.getInt();
+                    int id = in.getInt();
+                    in.get();
+                    requests.increment();
+                    errors.increment();
+                    queue(SocketProtocol.response(id, SocketProtocol.STATUS_ERROR,
+                            utf8("frame of " + length + " bytes is over " + maxFrameBytes)));
+                    skipBytes = length - SocketProtocol.HEADER_BYTES;
+                    continue;
+                }
+                if (in.remaining() < SocketProtocol.LENGTH_BYTES + length) {
+                    if (in.capacity() < SocketProtocol.LENGTH_BYTES + length) {
+                        grown = ByteBuffer.allocate(SocketProtocol.LENGTH_BYTES + length).put(in);
+                    }
+                    break;
+                }
+                in.getInt();
+                int id = in.getInt();
+                int code = in.get() & 0xFF;
+                int textBytes = length - SocketProtocol.HEADER_BYTES;
+                String text = new String(in.array(), in.arrayOffset() + in.position(), textBytes, StandardCharsets.UTF_8);
+                in.position(in.position() + textBytes);
+                handle(id, code, text, textBytes);
+            }
+            if (grown != null) {
+                in = grown;
+            } else if (in.capacity() > READ_BUFFER_BYTES && !in.hasRemaining()) {
+                in = ByteBuffer.allocate(READ_BUFFER_BYTES);
+            } else {
+                in.compact();
+            }
+            flush();
+        }
+
+        private void handle(int id, int code, String text, int textBytes) {
+            requests.increment();
+            Script script = SocketProtocol.script(code);
+            TransliteratePort engine = script == null ? null : engines.get(script);
+            if (engine == null) {
+                errors.increment();
+                queue(SocketProtocol.response(id, SocketProtocol.STATUS_ERROR, utf8("unknown script code " + code)));
+                return;
+            }
+            if (textBytes < offloadBytes) {
+                queue(run(engine, script, id, text));
+                return;
+            }
+            offloaded.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    queue(run(engine, script, id, text));
+                    offloaded.decrementAndGet();
+                    loop.offloadsDone.add(this);
+                    loop.selector.wakeup();
+                });
+            } catch (RejectedExecutionException e) {
+                offloaded.decrementAndGet();
+                // Full queue; when shutting down nobody is left to answer
+                if (running) {
+                    errors.increment();
+                    queue(SocketProtocol.response(id, SocketProtocol.STATUS_ERROR, utf8("server busy")));
+                }
+            }
+        }
+
+        private ByteBuffer run(TransliteratePort engine, Script script, int id, String text) {
+            try {
+                String result = engine.transliterate(new TransliterationRequest(text, script)).runeText();
+                return SocketProtocol.response(id, SocketProtocol.STATUS_OK, utf8(result));
+            } catch (RuntimeException e) {
+                errors.increment();
+                log.log(System.Logger.Level.WARNING, "Engine failed on socket request", e);
+                return SocketProtocol.response(id, SocketProtocol.STATUS_ERROR, utf8("transliteration failed"));
+            }
+        }
+
+        private void queue(ByteBuffer response) {
+            queuedBytes.addAndGet(response.limit());
+            out.add(response);
+        }
+
+        void flushQuietly() {
+            try {
+                flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void flush() throws IOException {
+            if (closed) {
+                return;
+            }
+            ByteBuffer[] batch = new ByteBuffer[MAX_GATHER];
+            while (!out.isEmpty()) {
+                int count = 0;
+                for (ByteBuffer buffer : out) {
+                    batch[count++] = buffer;
+                    if (count == batch.length) {
+                        break;
+                    }
+                }
+                channel.write(batch, 0, count);
+                boolean drained = true;
+                for (int i = 0; i < count; i++) {
+                    if (batch[i].hasRemaining()) {
+                        drained = false;
+                        break;
+                    }
+                    out.poll();
+                    queuedBytes.addAndGet(-batch[i].limit());
+                }
+                if (!drained) {
+                    break;
+                }
+            }
+
+            boolean idle = out.isEmpty() && offloaded.get() == 0;
+            if (idle && (failed || inputClosed)) {
+                close();
+                return;
+            }
+            boolean readable = !failed && !inputClosed
+                    && queuedBytes.get() < OUTPUT_HIGH_WATER_BYTES
+                    && offloaded.get() < MAX_OFFLOADED_PER_CONNECTION;
+            key.interestOps((readable ? SelectionKey.OP_READ : 0) | (out.isEmpty() ? 0 : SelectionKey.OP_WRITE));
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            connections.decrementAndGet();
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.log(System.Logger.Level.DEBUG, "Closing connection", e);
+            }
+        }
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import java.util.Arrays;
+
+/**
+ * Builds a {@code TransliterationResult} alignment while an engine runs:
+ * the engine reports how far it has got in input and output at each point
+ * where a segment can end, and the recorder appends one (input length,
+ * output length) pair per segment to a growing int array.
+ */
+final class AlignmentRecorder {
+
+    private int[] pairs;
+    private int size;
+    private int source;
+    private int output;
+
+    AlignmentRecorder(int expectedSegments) {
+        this.pairs = new int[Math.max(2, 2 * expectedSegments)];
+    }
+
+    /**
+     * Ends the current segment at {@code sourceEnd} input and
+     * {@code outputEnd} output characters. Output with no new input joins
+     * the previous segment; nothing new at all is ignored.
+     */
+    void mark(int sourceEnd, int outputEnd) {
+        if (sourceEnd == source) {
+            if (outputEnd != output && size > 0) {
+                pairs[size - 1] += outputEnd - output;
+                output = outputEnd;
+            }
+            return;
+        }
+        if (size == pairs.length) {
+            pairs = Arrays.copyOf(pairs, size * 2);
+        }
+        pairs[size++] = sourceEnd - source;
+        pairs[size++] = outputEnd - output;
+        source = sourceEnd;
+        output = outputEnd;
+    }
+
+    /**
+     * The alignment of a blank input, which no engine writes anything for.
+     */
+    static int[] blank(String input) {
+        return input.isEmpty() ? new int[0] : new int[] {input.length(), 0};
+    }
+
+    int[] toArray() {
+        return size == pairs.length ? pairs : Arrays.copyOf(pairs, size);
+    }
+}
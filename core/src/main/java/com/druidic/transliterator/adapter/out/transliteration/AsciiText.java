@@ -0,0 +1,66 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+/**
+ * Shared pre-pass for the transliteration engines.
+ * Classifies input as pure ASCII and, when it is, lowercases it through a
+ * lookup table instead of String.toLowerCase(). Anything else falls back to
+ * String.toLowerCase() so non-ASCII input behaves exactly as before.
+ */
+final class AsciiText {
+
+    private static final char[] LOWER = new char[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            LOWER[c] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+
+    private AsciiText() {
+    }
+
+    static boolean isAscii(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lowercases the input into a fresh char array — table path for pure ASCII,
+     * String.toLowerCase() otherwise.
+     */
+    static char[] toLowerCase(String input) {
+        if (!isAscii(input)) {
+            return input.toLowerCase().toCharArray();
+        }
+        char[] lower = new char[input.length()];
+        for (int i = 0; i < lower.length; i++) {
+            lower[i] = LOWER[input.charAt(i)];
+        }
+        return lower;
+    }
+
+    /**
+     * Like {@link #toLowerCase(String)}, but the result always has the input's
+     * length so positions in it are positions in the input: characters
+     * String.toLowerCase() would expand (dotted capital I) are lowercased
+     * one for one instead.
+     */
+    static char[] toLowerCasePerChar(String input) {
+        if (isAscii(input)) {
+            return toLowerCase(input);
+        }
+        String lower = input.toLowerCase();
+        if (lower.length() == input.length()) {
+            return lower.toCharArray();
+        }
+        char[] chars = new char[input.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(input.charAt(i));
+        }
+        return chars;
+    }
+}
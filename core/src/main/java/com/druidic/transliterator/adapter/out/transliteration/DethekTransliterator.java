@@ -0,0 +1,116 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class DethekTransliterator implements TransliteratePort {
+
+    // Dethek glyphs are keyed by the Latin letter itself, pre-encoded as
+    // JSON-escaped UTF-8 for the direct output path
+    private static final byte[][] ASCII_GLYPHS_UTF8;
+
+    private static final TransliterationRules RULES;
+
+    static {
+        String[] glyphs = new String[128];
+        Map<Character, String> letters = new HashMap<>();
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            glyphs[letter] = String.valueOf(letter);
+            letters.put(letter, glyphs[letter]);
+        }
+        RULES = TransliterationRules.oneToOne(letters);
+        glyphs[' '] = " ";
+        glyphs['\n'] = "\n";
+        ASCII_GLYPHS_UTF8 = Utf8Output.encodeTable(glyphs);
+    }
+
+    @Override
+    public Script script() {
+        return Script.DETHEK;
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        String input = request.rawText();
+
+        if (input.isBlank()) {
+            return new TransliterationResult(input, "", request.alignment() ? AlignmentRecorder.blank(input) : null);
+        }
+
+        // Dethek glyphs are keyed by the Latin letter itself, so this is a
+        // single compacting pass: keep a-z, space and newline, drop the rest.
+        char[] lower = request.alignment() ? AsciiText.toLowerCasePerChar(input) : AsciiText.toLowerCase(input);
+        AlignmentRecorder alignment = request.alignment() ? new AlignmentRecorder(lower.length) : null;
+        int length = 0;
+        for (int i = 0; i < lower.length; i++) {
+            char ch = lower[i];
+            if ((ch >= 'a' && ch <= 'z') || ch == ' ' || ch == '\n') {
+                lower[length++] = ch;
+            }
+            if (alignment != null) {
+                alignment.mark(i + 1, length);
+            }
+        }
+        String runes = new String(lower, 0, length);
+
+        return new TransliterationResult(input, runes, alignment == null ? null : alignment.toArray());
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        String input = request.rawText();
+        if (input.isBlank()) {
+            return;
+        }
+
+        char[] lower = AsciiText.toLowerCase(input);
+        Utf8Output utf8 = Utf8Output.acquire(lower.length * 2);
+        for (char ch : lower) {
+            byte[] glyph = ch < ASCII_GLYPHS_UTF8.length ? ASCII_GLYPHS_UTF8[ch] : null;
+            if (glyph != null) {
+                utf8.write(glyph);
+            }
+        }
+        utf8.writeTo(out);
+    }
+
+    // One glyph per letter — no state at all
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return true;
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return Optional.of(RULES);
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return List.of(
+            new LegendEntry("a", "A"),   new LegendEntry("b", "B"),
+            new LegendEntry("c", "C/K"), new LegendEntry("d", "D"),
+            new LegendEntry("e", "E"),   new LegendEntry("f", "F"),
+            new LegendEntry("g", "G"),   new LegendEntry("h", "H"),
+            new LegendEntry("i", "I"),   new LegendEntry("j", "J"),
+            new LegendEntry("k", "K"),   new LegendEntry("l", "L"),
+            new LegendEntry("m", "M"),   new LegendEntry("n", "N"),
+            new LegendEntry("o", "O"),   new LegendEntry("p", "P"),
+            new LegendEntry("q", "Q"),   new LegendEntry("r", "R"),
+            new LegendEntry("s", "S"),   new LegendEntry("t", "T"),
+            new LegendEntry("u", "U"),   new LegendEntry("v", "V"),
+            new LegendEntry("w", "W/X/Z"), new LegendEntry("y", "Y")
+        );
+    }
+}
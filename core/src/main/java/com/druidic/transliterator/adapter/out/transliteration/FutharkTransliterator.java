@@ -1,15 +1,17 @@
 package com.druidic.transliterator.adapter.out.transliteration;
 
 import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
 import com.druidic.transliterator.core.TransliterationRequest;
 import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
 import com.druidic.transliterator.port.in.TransliteratePort;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Outbound adapter — Elder Futhark transliteration engine.
@@ -18,8 +20,6 @@ import java.util.stream.Collectors;
  * (Elder Futhark, Younger Futhark, Anglo-Saxon futhorc…) is swappable
  * without touching ports or domain models.
  */
-@Qualifier("elderFuthark")
-@Component
 public class FutharkTransliterator implements TransliteratePort {
 
     // Elder Futhark — one rune per Latin letter.
@@ -53,24 +53,79 @@ public class FutharkTransliterator implements TransliteratePort {
             Map.entry('z', "ᛉ")   // Algiz
     );
 
+    // RUNE_MAP flattened into an ASCII-indexed table, plus space and newline.
+    // Unmapped slots stay null and are dropped.
+    private static final String[] ASCII_RUNES = new String[128];
+
+    static {
+        RUNE_MAP.forEach((letter, rune) -> ASCII_RUNES[letter] = rune);
+        ASCII_RUNES[' '] = " ";
+        ASCII_RUNES['\n'] = "\n";
+    }
+
+    // ASCII_RUNES pre-encoded as JSON-escaped UTF-8 — three bytes per rune
+    private static final byte[][] ASCII_RUNES_UTF8 = Utf8Output.encodeTable(ASCII_RUNES);
+
+    private static final TransliterationRules RULES = TransliterationRules.oneToOne(RUNE_MAP);
+
+    @Override
+    public Script script() {
+        return Script.ELDER_FUTHARK;
+    }
+
     @Override
     public TransliterationResult transliterate(TransliterationRequest request) {
         String input = request.rawText();
 
         if (input.isBlank()) {
-            return new TransliterationResult(input, "");
+            return new TransliterationResult(input, "", request.alignment() ? AlignmentRecorder.blank(input) : null);
+        }
+
+        char[] lower = request.alignment() ? AsciiText.toLowerCasePerChar(input) : AsciiText.toLowerCase(input);
+        AlignmentRecorder alignment = request.alignment() ? new AlignmentRecorder(lower.length) : null;
+        StringBuilder runes = new StringBuilder(lower.length);
+        for (int i = 0; i < lower.length; i++) {
+            char ch = lower[i];
+            String rune = ch < ASCII_RUNES.length ? ASCII_RUNES[ch] : null;
+            if (rune != null) {
+                runes.append(rune);
+            }
+            // Every letter is its own segment; dropped ones map to nothing
+            if (alignment != null) {
+                alignment.mark(i + 1, runes.length());
+            }
         }
 
-        String runes = input.toLowerCase()
-                .chars()
-                .mapToObj(ch -> switch ((char) ch) {
-                    case ' '  -> " ";
-                    case '\n' -> "\n";
-                    default   -> RUNE_MAP.getOrDefault((char) ch, "");
-                })
-                .collect(Collectors.joining());
+        return new TransliterationResult(input, runes.toString(), alignment == null ? null : alignment.toArray());
+    }
 
-        return new TransliterationResult(input, runes);
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        String input = request.rawText();
+        if (input.isBlank()) {
+            return;
+        }
+
+        char[] lower = AsciiText.toLowerCase(input);
+        Utf8Output utf8 = Utf8Output.acquire(lower.length * 3);
+        for (char ch : lower) {
+            byte[] rune = ch < ASCII_RUNES_UTF8.length ? ASCII_RUNES_UTF8[ch] : null;
+            if (rune != null) {
+                utf8.write(rune);
+            }
+        }
+        utf8.writeTo(out);
+    }
+
+    // One rune per letter — no state at all
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return true;
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return Optional.of(RULES);
     }
 
     @Override
@@ -0,0 +1,247 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.zip.CRC32C;
+
+/**
+ * English pronunciations, looked up in place in a compact read-only file
+ * instead of being loaded into a map.
+ *
+ * Words are sorted and front-coded in blocks of {@value #BLOCK_ENTRIES}:
+ * each entry stores how many leading letters it shares with the word before
+ * it, the remaining letters, and its phonemes at one byte each (ARPAbet,
+ * stress dropped). A lookup binary-searches the first words of the blocks
+ * through an offset index, then walks one block comparing against the shared
+ * prefixes without rebuilding any key — a few cache lines, no allocation.
+ * A full CMUdict comes to under 2 MB and is mapped from disk, so opening it
+ * costs nothing on the heap; see {@link PronunciationDictionaryCompiler}.
+ *
+ * Layout: a header (magic, format, entries, block size, blocks), one int
+ * offset per block, then the entries. Each entry is a shared-prefix byte, a
+ * suffix-length byte, the suffix in ASCII, a phoneme-count byte and the
+ * phoneme codes.
+ */
+public final class PronunciationDictionary {
+
+    /**
+     * The ARPAbet phonemes of CMUdict; a phoneme's code is its index here.
+     */
+    public static final List<String> PHONEMES = List.of(
+            "AA", "AE", "AH", "AO", "AW", "AY", "B", "CH", "D", "DH",
+            "EH", "ER", "EY", "F", "G", "HH", "IH", "IY", "JH", "K",
+            "L", "M", "N", "NG", "OW", "OY", "P", "R", "S", "SH",
+            "T", "TH", "UH", "UW", "V", "W", "Y", "Z", "ZH");
+
+    public static final int MAX_WORD_LENGTH = 64;
+    public static final int MAX_PHONEMES = 64;
+
+    // A few hundred common words English spelling gets wrong, compiled from
+    // core/src/main/dictionary/pronunciations.txt
+    public static final String BUNDLED_RESOURCE = "/tengwar/pronunciations.dict";
+
+    static final int MAGIC = 0x50524431; // "PRD1"
+    static final int FORMAT = 1;
+    static final int HEADER_BYTES = 20;
+    static final int BLOCK_ENTRIES = 16;
+
+    private final ByteBuffer data;
+    private final int entries;
+    private final int blocks;
+
+    private PronunciationDictionary(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a pronunciation dictionary");
+        }
+        if (data.getInt(4) != FORMAT || data.getInt(12) != BLOCK_ENTRIES) {
+            throw new IOException("Unsupported pronunciation dictionary format " + data.getInt(4));
+        }
+        this.entries = data.getInt(8);
+        this.blocks = data.getInt(16);
+        if (entries < 0 || blocks != (entries + BLOCK_ENTRIES - 1) / BLOCK_ENTRIES
+                || HEADER_BYTES + 4L * blocks > data.capacity()) {
+            throw new IOException("Corrupt pronunciation dictionary header");
+        }
+        int previous = HEADER_BYTES + 4 * blocks - 1;
+        for (int block = 0; block < blocks; block++) {
+            int offset = blockOffset(block);
+            if (offset <= previous || offset >= data.capacity()) {
+                throw new IOException("Corrupt pronunciation dictionary index at block " + block);
+            }
+            previous = offset;
+        }
+    }
+
+    /**
+     * Maps a compiled dictionary file read-only; pages are loaded as lookups touch them.
+     */
+    public static PronunciationDictionary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large for a pronunciation dictionary");
+            }
+            return new PronunciationDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * The small dictionary bundled with the engine. A resource inside a jar
+     * cannot be mapped, so it is copied off-heap instead.
+     */
+    public static PronunciationDictionary bundled() {
+        try (InputStream in = PronunciationDictionary.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing pronunciation dictionary " + BUNDLED_RESOURCE);
+            }
+            byte[] bytes = in.readAllBytes();
+            return new PronunciationDictionary(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + BUNDLED_RESOURCE, e);
+        }
+    }
+
+    static PronunciationDictionary wrap(ByteBuffer compiled) throws IOException {
+        return new PronunciationDictionary(compiled);
+    }
+
+    public int size() {
+        return entries;
+    }
+
+    /**
+     * Checksum of the compiled bytes as hex — changes whenever any entry does.
+     */
+    public String version() {
+        CRC32C crc = new CRC32C();
+        crc.update(data.duplicate().clear());
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Looks up the lower-case word {@code word[from, to)} and copies its
+     * phoneme codes into {@code phonemes}, which must hold
+     * {@value #MAX_PHONEMES}. Returns the number of phonemes, or -1 if the
+     * word is not in the dictionary.
+     */
+    public int lookup(char[] word, int from, int to, byte[] phonemes) {
+        int length = to - from;
+        if (length < 1 || length > MAX_WORD_LENGTH || blocks == 0) {
+            return -1;
+        }
+
+        // The last block whose first word is not after the word
+        int low = 0;
+        int high = blocks - 1;
+        int block = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int at = blockOffset(mid);
+            int cmp = compare(word, from, length, at + 2, u8(at + 1));
+            if (cmp == 0) {
+                return phonemes(at, phonemes);
+            }
+            if (cmp > 0) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (block < 0) {
+            return -1;
+        }
+
+        // Walk the block keeping how many leading letters the word shares
+        // with the last entry, which is known to sort before it. An entry
+        // sharing fewer letters with that one sorts after the word; one
+        // sharing more sorts before it too.
+        int at = blockOffset(block);
+        int matched = commonPrefix(word, from, length, at + 2, u8(at + 1));
+        at = next(at);
+        int inBlock = Math.min(BLOCK_ENTRIES, entries - block * BLOCK_ENTRIES);
+        for (int entry = 1; entry < inBlock; entry++) {
+            int shared = u8(at);
+            if (shared < matched) {
+                return -1;
+            }
+            if (shared == matched) {
+                int suffix = u8(at + 1);
+                int i = 0;
+                while (i < suffix && matched + i < length && data.get(at + 2 + i) == word[from + matched + i]) {
+                    i++;
+                }
+                if (matched + i == length) {
+                    return i == suffix ? phonemes(at, phonemes) : -1;
+                }
+                if (i < suffix && u8(at + 2 + i) > word[from + matched + i]) {
+                    return -1;
+                }
+                matched += i;
+            }
+            at = next(at);
+        }
+        return -1;
+    }
+
+    /**
+     * The pronunciation as space-separated ARPAbet, for diagnostics and tests.
+     */
+    public Optional<String> pronunciation(String word) {
+        byte[] phonemes = new byte[MAX_PHONEMES];
+        int count = lookup(word.toCharArray(), 0, word.length(), phonemes);
+        if (count < 0) {
+            return Optional.empty();
+        }
+        StringJoiner arpabet = new StringJoiner(" ");
+        for (int i = 0; i < count; i++) {
+            arpabet.add(PHONEMES.get(phonemes[i]));
+        }
+        return Optional.of(arpabet.toString());
+    }
+
+    private int blockOffset(int block) {
+        return data.getInt(HEADER_BYTES + 4 * block);
+    }
+
+    private int u8(int at) {
+        return data.get(at) & 0xFF;
+    }
+
+    private int next(int at) {
+        int count = at + 2 + u8(at + 1);
+        return count + 1 + u8(count);
+    }
+
+    private int phonemes(int at, byte[] phonemes) {
+        int count = at + 2 + u8(at + 1);
+        int length = u8(count);
+        data.get(count + 1, phonemes, 0, length);
+        return length;
+    }
+
+    private int compare(char[] word, int from, int length, int key, int keyLength) {
+        int common = commonPrefix(word, from, length, key, keyLength);
+        if (common < length && common < keyLength) {
+            return word[from + common] - u8(key + common);
+        }
+        return length - keyLength;
+    }
+
+    private int commonPrefix(char[] word, int from, int length, int key, int keyLength) {
+        int limit = Math.min(length, keyLength);
+        int i = 0;
+        while (i < limit && data.get(key + i) == word[from + i]) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,151 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiles a CMUdict-format word list into a {@link PronunciationDictionary}.
+ *
+ * Accepts both the classic {@code WORD  AH0 B AW1 T} layout and the newer
+ * lower-case {@code cmudict.dict} one. Comments ({@code ;;;} lines and
+ * {@code #} tails) are ignored, alternate pronunciations ({@code WORD(2)})
+ * are dropped in favour of the first, and so are entries that are not plain
+ * words — punctuation names, abbreviations with dots, hyphenated forms.
+ *
+ * Usage: PronunciationDictionaryCompiler cmudict.dict pronunciations.dict
+ */
+public final class PronunciationDictionaryCompiler {
+
+    private static final Map<String, Byte> CODES = new HashMap<>();
+
+    static {
+        for (int code = 0; code < PronunciationDictionary.PHONEMES.size(); code++) {
+            CODES.put(PronunciationDictionary.PHONEMES.get(code), (byte) code);
+        }
+    }
+
+    private PronunciationDictionaryCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: PronunciationDictionaryCompiler <cmudict> <output>");
+            System.exit(2);
+        }
+        try (BufferedReader in = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.ISO_8859_1);
+             OutputStream out = Files.newOutputStream(Path.of(args[1]))) {
+            int entries = compile(in, out);
+            System.out.printf("%d words, %d bytes%n", entries, Files.size(Path.of(args[1])));
+        }
+    }
+
+    /**
+     * Writes the compiled dictionary to {@code out} and returns the number of words.
+     */
+    public static int compile(BufferedReader in, OutputStream out) throws IOException {
+        TreeMap<String, byte[]> words = new TreeMap<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String entry = (comment >= 0 ? line.substring(0, comment) : line).strip();
+            if (entry.isEmpty() || entry.startsWith(";;;")) {
+                continue;
+            }
+            String[] fields = entry.split("\\s+");
+            String word = fields[0].toLowerCase(Locale.ROOT);
+            if (fields.length < 2 || !isPlainWord(word) || fields.length - 1 > PronunciationDictionary.MAX_PHONEMES) {
+                continue;
+            }
+            byte[] phonemes = new byte[fields.length - 1];
+            for (int i = 1; i < fields.length; i++) {
+                Byte code = CODES.get(stripStress(fields[i]));
+                if (code == null) {
+                    throw new IOException("Line " + lineNumber + ": unknown phoneme " + fields[i]);
+                }
+                phonemes[i - 1] = code;
+            }
+            words.putIfAbsent(word, phonemes);
+        }
+        write(words, out);
+        return words.size();
+    }
+
+    private static void write(TreeMap<String, byte[]> words, OutputStream out) throws IOException {
+        int blockEntries = PronunciationDictionary.BLOCK_ENTRIES;
+        int blocks = (words.size() + blockEntries - 1) / blockEntries;
+        int dataStart = PronunciationDictionary.HEADER_BYTES + 4 * blocks;
+
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        int[] offsets = new int[blocks];
+        String previous = "";
+        int index = 0;
+        for (Map.Entry<String, byte[]> word : words.entrySet()) {
+            String key = word.getKey();
+            int shared = 0;
+            if (index % blockEntries == 0) {
+                offsets[index / blockEntries] = dataStart + entries.size();
+            } else {
+                int limit = Math.min(previous.length(), key.length());
+                while (shared < limit && previous.charAt(shared) == key.charAt(shared)) {
+                    shared++;
+                }
+            }
+            byte[] suffix = key.substring(shared).getBytes(StandardCharsets.US_ASCII);
+            entries.write(shared);
+            entries.write(suffix.length);
+            entries.write(suffix);
+            entries.write(word.getValue().length);
+            entries.write(word.getValue());
+            previous = key;
+            index++;
+        }
+
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(PronunciationDictionary.MAGIC);
+        header.writeInt(PronunciationDictionary.FORMAT);
+        header.writeInt(words.size());
+        header.writeInt(blockEntries);
+        header.writeInt(blocks);
+        for (int offset : offsets) {
+            header.writeInt(offset);
+        }
+        entries.writeTo(header);
+        header.flush();
+    }
+
+    // Letters with inner apostrophes: "don't", "o'clock"; not "'em" or "a.m."
+    private static boolean isPlainWord(String word) {
+        if (word.isEmpty() || word.length() > PronunciationDictionary.MAX_WORD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char ch = word.charAt(i);
+            boolean letter = ch >= 'a' && ch <= 'z';
+            boolean innerApostrophe = ch == '\'' && i > 0 && i < word.length() - 1;
+            if (!letter && !innerApostrophe) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String stripStress(String phoneme) {
+        int end = phoneme.length();
+        while (end > 0 && Character.isDigit(phoneme.charAt(end - 1))) {
+            end--;
+        }
+        return phoneme.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+}
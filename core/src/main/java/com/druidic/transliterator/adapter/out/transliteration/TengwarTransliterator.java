@@ -0,0 +1,405 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Tengwar transliterator using English Tengwar Mode with Tengwar Annatar font encoding.
+ * Uses Daniel Smith's de facto standard encoding — glyphs are mapped to Latin/special
+ * characters based on the QWERTY keyboard layout, NOT to their phonetic Latin equivalents.
+ * Vowels (tehtar) are diacritics placed on the preceding consonant. If a vowel has no
+ * preceding consonant it is placed on the short carrier (backtick).
+ *
+ * By default words are spelled letter by letter. Given a
+ * {@link PronunciationDictionary} the engine writes by sound instead: each
+ * word the dictionary knows is written from its phonemes ("knight" as n-ai-t),
+ * and any other word falls back to the spelling rules.
+ */
+public class TengwarTransliterator implements TransliteratePort {
+
+    // Short carrier — for vowels with no preceding consonant
+    private static final String SHORT_CARRIER = "`";
+
+    // Doubling mark
+    private static final String DOUBLE_MARK = "~";
+
+    // Vowel tehtar — diacritics placed after the preceding tengwa
+    private static final Map<Character, String> VOWELS = Map.of(
+            'a', "#",
+            'e', "$",
+            'i', "%",
+            'o', "^",
+            'u', "&"
+    );
+
+    // Digraphs — checked before single consonants
+    private static final Map<String, String> DIGRAPHS = Map.of(
+            "th", "3",   // súle
+            "qu", "zz",  // quesse (q already maps to quesse so qu = quesse)
+            "wh", "Q",   // hwesta
+            "ch", "a",   // calma
+            "sh", "u",   // harma
+            "ph", "e",   // formen
+            "ng", "g",   // nwalme
+            "ck", "z"    // quesse
+    );
+
+    // Single consonants
+    private static final Map<Character, String> CONSONANTS = Map.ofEntries(
+            Map.entry('t', "1"),   // tinco
+            Map.entry('p', "q"),   // parma
+            Map.entry('c', "a"),   // calma
+            Map.entry('k', "z"),   // quesse
+            Map.entry('d', "2"),   // ando
+            Map.entry('b', "w"),   // umbar
+            Map.entry('g', "s"),   // ungwe
+            Map.entry('f', "e"),   // formen
+            Map.entry('v', "r"),   // ampa
+            Map.entry('n', "5"),   // numen
+            Map.entry('m', "t"),   // malta
+            Map.entry('r', "6"),   // ore
+            Map.entry('l', "j"),   // lambe
+            Map.entry('s', "8"),   // silme
+            Map.entry('z', "i"),   // esse
+            Map.entry('h', "9"),   // hyarmen
+            Map.entry('w', "n"),   // vala
+            Map.entry('y', "h"),   // anna
+            Map.entry('q', "z"),   // → quesse
+            Map.entry('x', "8z")   // s+k cluster (silme + quesse)
+    );
+
+    // Phonetic mode: consonant phonemes by ARPAbet name, using the same tengwar
+    // as the letters above where English spells the sound. Voiced th (anto)
+    // and j (anca) have tengwar of their own; zh shares esse with z.
+    private static final Map<String, String> PHONEME_TENGWAR = Map.ofEntries(
+            Map.entry("P", "q"),  Map.entry("B", "w"),  Map.entry("T", "1"),  Map.entry("D", "2"),
+            Map.entry("K", "z"),  Map.entry("G", "s"),  Map.entry("CH", "a"), Map.entry("JH", "f"),
+            Map.entry("F", "e"),  Map.entry("V", "r"),  Map.entry("TH", "3"), Map.entry("DH", "4"),
+            Map.entry("S", "8"),  Map.entry("Z", "i"),  Map.entry("SH", "u"), Map.entry("ZH", "i"),
+            Map.entry("HH", "9"), Map.entry("M", "t"),  Map.entry("N", "5"),  Map.entry("NG", "g"),
+            Map.entry("L", "j"),  Map.entry("R", "6"),  Map.entry("W", "n"),  Map.entry("Y", "h")
+    );
+
+    // Vowel phonemes as tehtar; diphthongs and r-coloured vowels add their
+    // glide as a following tengwa, the way the spelling rules treat "ay" or "er"
+    private static final Map<String, String> PHONEME_TEHTAR = Map.ofEntries(
+            Map.entry("AA", "#"), Map.entry("AE", "#"), Map.entry("AH", "#"), Map.entry("AO", "^"),
+            Map.entry("AW", "#"), Map.entry("AY", "#"), Map.entry("EH", "$"), Map.entry("ER", "$"),
+            Map.entry("EY", "$"), Map.entry("IH", "%"), Map.entry("IY", "%"), Map.entry("OW", "^"),
+            Map.entry("OY", "^"), Map.entry("UH", "&"), Map.entry("UW", "&")
+    );
+    private static final Map<String, String> PHONEME_GLIDES = Map.of(
+            "AW", "n", "AY", "h", "EY", "h", "OY", "h", "ER", "6");
+
+    private static final List<LegendEntry> LEGEND = List.of(
+            new LegendEntry("1", "T"),    new LegendEntry("q", "P"),
+            new LegendEntry("a", "CH"),   new LegendEntry("z", "K/C/Q"),
+            new LegendEntry("2", "D"),    new LegendEntry("w", "B"),
+            new LegendEntry("s", "G"),    new LegendEntry("3", "TH"),
+            new LegendEntry("e", "F/PH"), new LegendEntry("u", "SH"),
+            new LegendEntry("r", "V"),    new LegendEntry("5", "N"),
+            new LegendEntry("t", "M"),    new LegendEntry("g", "NG"),
+            new LegendEntry("6", "R"),    new LegendEntry("j", "L"),
+            new LegendEntry("8", "S"),    new LegendEntry("i", "Z"),
+            new LegendEntry("9", "H"),    new LegendEntry("n", "W"),
+            new LegendEntry("h", "Y"),    new LegendEntry("Q", "WH")
+    );
+    private static final List<LegendEntry> PHONETIC_LEGEND;
+
+    // The maps above flattened into ASCII-indexed tables so the hot loop never
+    // boxes a char or builds a lookahead String. Digraphs are indexed by first
+    // letter, then second; rows exist only for letters that start a digraph.
+    private static final String[] ASCII_VOWELS = new String[128];
+    private static final String[] ASCII_CONSONANTS = new String[128];
+    private static final String[] ASCII_DOUBLED = new String[128];
+    private static final String[][] ASCII_DIGRAPHS = new String[128][];
+    private static final String[] PHONEME_CONSONANTS = new String[PronunciationDictionary.PHONEMES.size()];
+    private static final String[] PHONEME_VOWELS = new String[PronunciationDictionary.PHONEMES.size()];
+    private static final String[] PHONEME_OFFGLIDES = new String[PronunciationDictionary.PHONEMES.size()];
+
+    private static final TransliterationRules RULES =
+            new TransliterationRules(CONSONANTS, DIGRAPHS, VOWELS, SHORT_CARRIER, DOUBLE_MARK);
+
+    // Tengwar Annatar glyphs are plain ASCII — one byte each once encoded,
+    // except newline, which JSON escapes to two
+    private static final byte[][] FONT_UTF8;
+
+    static {
+        VOWELS.forEach((letter, tehta) -> ASCII_VOWELS[letter] = tehta);
+        CONSONANTS.forEach((letter, tengwa) -> {
+            ASCII_CONSONANTS[letter] = tengwa;
+            ASCII_DOUBLED[letter] = tengwa + DOUBLE_MARK;
+        });
+        DIGRAPHS.forEach((pair, tengwa) -> {
+            char first = pair.charAt(0);
+            if (ASCII_DIGRAPHS[first] == null) {
+                ASCII_DIGRAPHS[first] = new String[128];
+            }
+            ASCII_DIGRAPHS[first][pair.charAt(1)] = tengwa;
+        });
+        for (int code = 0; code < PronunciationDictionary.PHONEMES.size(); code++) {
+            String phoneme = PronunciationDictionary.PHONEMES.get(code);
+            PHONEME_CONSONANTS[code] = PHONEME_TENGWAR.get(phoneme);
+            PHONEME_VOWELS[code] = PHONEME_TEHTAR.get(phoneme);
+            PHONEME_OFFGLIDES[code] = PHONEME_GLIDES.get(phoneme);
+            if (PHONEME_CONSONANTS[code] == null && PHONEME_VOWELS[code] == null) {
+                throw new IllegalStateException("No tengwa for phoneme " + phoneme);
+            }
+        }
+
+        List<LegendEntry> phonetic = new ArrayList<>(LEGEND);
+        phonetic.add(new LegendEntry("4", "TH (this)"));
+        phonetic.add(new LegendEntry("f", "J"));
+        PHONETIC_LEGEND = List.copyOf(phonetic);
+
+        String[] font = new String[128];
+        for (char ch = 0; ch < font.length; ch++) {
+            font[ch] = String.valueOf(ch);
+        }
+        FONT_UTF8 = Utf8Output.encodeTable(font);
+    }
+
+    // Receives each glyph as it is produced, so the same rules drive both
+    // the String result and the direct UTF-8 output path. boundary() is
+    // called wherever an alignment segment may end, with the input read so far.
+    @FunctionalInterface
+    private interface GlyphSink {
+        void emit(String glyph);
+
+        default void boundary(int source) {
+        }
+    }
+
+    private static final class AlignedSink implements GlyphSink {
+
+        private final StringBuilder out;
+        private final AlignmentRecorder alignment;
+
+        AlignedSink(int length) {
+            this.out = new StringBuilder(length * 2);
+            this.alignment = new AlignmentRecorder(length);
+        }
+
+        @Override
+        public void emit(String glyph) {
+            out.append(glyph);
+        }
+
+        @Override
+        public void boundary(int source) {
+            alignment.mark(source, out.length());
+        }
+    }
+
+    // Null when spelling letter by letter
+    private final PronunciationDictionary pronunciations;
+
+    public TengwarTransliterator() {
+        this.pronunciations = null;
+    }
+
+    /**
+     * Phonetic mode: words in {@code pronunciations} are written by sound.
+     */
+    public TengwarTransliterator(PronunciationDictionary pronunciations) {
+        this.pronunciations = Objects.requireNonNull(pronunciations);
+    }
+
+    @Override
+    public Script script() {
+        return Script.TENGWAR;
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        String input = request.rawText();
+        if (input.isBlank()) {
+            return new TransliterationResult(input, "", request.alignment() ? AlignmentRecorder.blank(input) : null);
+        }
+
+        if (request.alignment()) {
+            char[] lower = AsciiText.toLowerCasePerChar(input);
+            AlignedSink out = new AlignedSink(lower.length);
+            transliterate(lower, out);
+            return new TransliterationResult(input, out.out.toString(), out.alignment.toArray());
+        }
+
+        char[] lower = AsciiText.toLowerCase(input);
+        StringBuilder out = new StringBuilder(lower.length * 2);
+        transliterate(lower, out::append);
+        return new TransliterationResult(input, out.toString());
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        String input = request.rawText();
+        if (input.isBlank()) {
+            return;
+        }
+
+        char[] lower = AsciiText.toLowerCase(input);
+        Utf8Output utf8 = Utf8Output.acquire(lower.length * 2);
+        transliterate(lower, glyph -> {
+            for (int i = 0; i < glyph.length(); i++) {
+                utf8.write(FONT_UTF8[glyph.charAt(i)]);
+            }
+        });
+        utf8.writeTo(out);
+    }
+
+    private void transliterate(char[] lower, GlyphSink out) {
+        if (pronunciations == null) {
+            spell(lower, 0, lower.length, out);
+        } else {
+            pronounce(lower, out);
+        }
+    }
+
+    // A consonant is held as pending until we know whether a vowel follows,
+    // so the tehta can be placed on it instead of on a short carrier. An
+    // alignment segment is a tengwa with its tehta, or a space or newline;
+    // dropped characters join the segment they fall in.
+    private void spell(char[] lower, int from, int to, GlyphSink out) {
+        String pending = null;
+
+        for (int i = from; i < to; i++) {
+            char ch = lower[i];
+            char next = i + 1 < to ? lower[i + 1] : 0;
+            String digraph = lookup(ASCII_DIGRAPHS, ch, next);
+            String consonant = lookup(ASCII_CONSONANTS, ch);
+            String vowel = lookup(ASCII_VOWELS, ch);
+
+            if (ch == ' ' || ch == '\n') {
+                flushPending(out, pending);
+                pending = null;
+                out.boundary(i);
+                out.emit(ch == ' ' ? " " : "\n");
+                out.boundary(i + 1);
+            } else if (digraph != null) {
+                flushPending(out, pending);
+                out.boundary(i);
+                pending = digraph;
+                i++;
+            } else if (ch == next && consonant != null) {
+                flushPending(out, pending);
+                out.boundary(i);
+                pending = ASCII_DOUBLED[ch];
+                i++;
+            } else if (vowel != null) {
+                out.emit(pending == null ? SHORT_CARRIER : pending);
+                out.emit(vowel);
+                pending = null;
+                out.boundary(i + 1);
+            } else if (consonant != null) {
+                flushPending(out, pending);
+                out.boundary(i);
+                pending = consonant;
+            }
+            // unmapped — drop
+        }
+
+        flushPending(out, pending);
+        out.boundary(to);
+    }
+
+    // Each word (letters, with inner apostrophes) is looked up whole; words
+    // the dictionary lacks and everything between words are spelled. A word
+    // written by sound is one alignment segment.
+    private void pronounce(char[] lower, GlyphSink out) {
+        byte[] phonemes = new byte[PronunciationDictionary.MAX_PHONEMES];
+        int i = 0;
+        while (i < lower.length) {
+            int start = i;
+            if (!isLetter(lower[i])) {
+                while (i < lower.length && !isLetter(lower[i])) {
+                    i++;
+                }
+                spell(lower, start, i, out);
+                continue;
+            }
+            while (i < lower.length && (isLetter(lower[i])
+                    || (lower[i] == '\'' && i + 1 < lower.length && isLetter(lower[i + 1])))) {
+                i++;
+            }
+            int count = pronunciations.lookup(lower, start, i, phonemes);
+            if (count < 0) {
+                spell(lower, start, i, out);
+            } else {
+                sound(phonemes, count, out);
+                out.boundary(i);
+            }
+        }
+    }
+
+    // The spelling rules' pending-consonant placement, over phonemes
+    private static void sound(byte[] phonemes, int count, GlyphSink out) {
+        String pending = null;
+        for (int i = 0; i < count; i++) {
+            int phoneme = phonemes[i];
+            String vowel = PHONEME_VOWELS[phoneme];
+            if (vowel != null) {
+                out.emit(pending == null ? SHORT_CARRIER : pending);
+                out.emit(vowel);
+                pending = PHONEME_OFFGLIDES[phoneme];
+            } else {
+                flushPending(out, pending);
+                pending = PHONEME_CONSONANTS[phoneme];
+            }
+        }
+        flushPending(out, pending);
+    }
+
+    private static boolean isLetter(char ch) {
+        return ch >= 'a' && ch <= 'z';
+    }
+
+    private static String lookup(String[] table, char ch) {
+        return ch < table.length ? table[ch] : null;
+    }
+
+    private static String lookup(String[][] table, char first, char second) {
+        String[] row = first < table.length ? table[first] : null;
+        return row != null && second < row.length ? row[second] : null;
+    }
+
+    private static void flushPending(GlyphSink out, String pending) {
+        if (pending != null) {
+            out.emit(pending);
+        }
+    }
+
+    // pending is flushed on every space and newline
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return true;
+    }
+
+    // In phonetic mode these are the rules unknown words fall back to; a
+    // client transliterating offline spells every word
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return Optional.of(RULES);
+    }
+
+    @Override
+    public String variant() {
+        return pronunciations == null ? "" : "phonetic-" + pronunciations.version();
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return pronunciations == null ? LEGEND : PHONETIC_LEGEND;
+    }
+}
@@ -0,0 +1,68 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.JsonUtf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Byte buffer the engines fill with pre-encoded, JSON-escaped UTF-8 glyphs.
+ * One buffer is pooled per thread, so the API path allocates neither a
+ * String nor a fresh byte array per request.
+ */
+final class Utf8Output {
+
+    private static final int INITIAL_CAPACITY = 2048;
+
+    // Buffers grown past this by an unusually large input are not kept in the pool
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<Utf8Output> POOL = ThreadLocal.withInitial(Utf8Output::new);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private Utf8Output() {
+    }
+
+    static Utf8Output acquire(int expectedLength) {
+        Utf8Output output = POOL.get();
+        if (output.bytes.length > MAX_POOLED_CAPACITY) {
+            output.bytes = new byte[INITIAL_CAPACITY];
+        }
+        output.length = 0;
+        output.ensureCapacity(expectedLength);
+        return output;
+    }
+
+    /**
+     * Pre-encodes every non-null slot of an ASCII-indexed glyph table.
+     */
+    static byte[][] encodeTable(String[] glyphs) {
+        byte[][] encoded = new byte[glyphs.length][];
+        for (int i = 0; i < glyphs.length; i++) {
+            if (glyphs[i] != null) {
+                encoded[i] = JsonUtf8.encode(glyphs[i]);
+            }
+        }
+        return encoded;
+    }
+
+    void write(byte[] glyph) {
+        ensureCapacity(length + glyph.length);
+        System.arraycopy(glyph, 0, bytes, length, glyph.length);
+        length += glyph.length;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            byte[] grown = new byte[Math.max(capacity, bytes.length * 2)];
+            System.arraycopy(bytes, 0, grown, 0, length);
+            bytes = grown;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.druidic.transliterator.core;
+
+import java.util.Arrays;
+
+/**
+ * Sparse map from input offsets to output offsets for one transliterated
+ * text. Each checkpoint is a place where the engine starts afresh — after a
+ * space or newline, for engines whose output does not depend on what came
+ * before — so the output between any two checkpoints is the engine's output
+ * for the input between them, and a range of a long output can be produced
+ * by transliterating only the segments that cover it.
+ *
+ * The first checkpoint is (0, 0) and the last is (input length, output
+ * length); offsets never decrease. Two int arrays, however long the text.
+ */
+public final class CheckpointIndex {
+
+    private final int[] input;
+    private final int[] output;
+
+    private CheckpointIndex(int[] input, int[] output) {
+        this.input = input;
+        this.output = output;
+    }
+
+    public int size() {
+        return input.length;
+    }
+
+    public int inputOffset(int checkpoint) {
+        return input[checkpoint];
+    }
+
+    public int outputOffset(int checkpoint) {
+        return output[checkpoint];
+    }
+
+    public int inputLength() {
+        return input[input.length - 1];
+    }
+
+    public int outputLength() {
+        return output[output.length - 1];
+    }
+
+    /**
+     * The last checkpoint at or before {@code outputOffset}.
+     */
+    public int floor(int outputOffset) {
+        int low = 0;
+        int high = output.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (output[mid] <= outputOffset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The first checkpoint at or after {@code outputOffset}, or the last
+     * checkpoint if the output is shorter.
+     */
+    public int ceiling(int outputOffset) {
+        int low = 0;
+        int high = output.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (output[mid] >= outputOffset) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects checkpoints in order, starting from (0, 0).
+     */
+    public static final class Builder {
+
+        private int[] input = new int[16];
+        private int[] output = new int[16];
+        private int size = 1;
+
+        public Builder add(int inputOffset, int outputOffset) {
+            if (inputOffset <= input[size - 1] || outputOffset < output[size - 1]) {
+                throw new IllegalArgumentException("Checkpoint (" + inputOffset + ", " + outputOffset
+                        + ") is not after (" + input[size - 1] + ", " + output[size - 1] + ")");
+            }
+            if (size == input.length) {
+                input = Arrays.copyOf(input, size * 2);
+                output = Arrays.copyOf(output, size * 2);
+            }
+            input[size] = inputOffset;
+            output[size] = outputOffset;
+            size++;
+            return this;
+        }
+
+        public CheckpointIndex build() {
+            return new CheckpointIndex(Arrays.copyOf(input, size), Arrays.copyOf(output, size));
+        }
+    }
+}
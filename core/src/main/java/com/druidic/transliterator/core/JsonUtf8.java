@@ -0,0 +1,46 @@
+package com.druidic.transliterator.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes text as the body of a JSON string literal — escaped per RFC 8259,
+ * UTF-8 encoded, without the surrounding quotes.
+ * Lives in core — no framework dependencies, no ports, no adapters.
+ */
+public final class JsonUtf8 {
+
+    private JsonUtf8() {
+    }
+
+    public static byte[] encode(String text) {
+        return escape(text).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            String replacement = switch (ch) {
+                case '"'  -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                default   -> ch < 0x20 ? String.format("\\u%04x", (int) ch) : null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 8).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(ch);
+                }
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+}
@@ -2,12 +2,18 @@ package com.druidic.transliterator.core;
 
 /**
  * Value object representing the raw text submitted for transliteration.
+ * With {@code alignment} set, the engine also reports which output came
+ * from which input; see {@link TransliterationResult#alignment()}.
  * Lives in core — no framework dependencies, no ports, no adapters.
  */
-public record TransliterationRequest(String rawText, Script script) {
+public record TransliterationRequest(String rawText, Script script, boolean alignment) {
 
     public TransliterationRequest {
         rawText = rawText == null ? "" : rawText;
         script = script == null ? Script.ELDER_FUTHARK : script;
     }
+
+    public TransliterationRequest(String rawText, Script script) {
+        this(rawText, script, false);
+    }
 }
@@ -0,0 +1,39 @@
+package com.druidic.transliterator.core;
+
+import java.util.Objects;
+
+/**
+ * Value object representing the outcome of a transliteration.
+ * Carries both the original input and the resulting rune string.
+ * Lives in core — no framework dependencies, no ports, no adapters.
+ *
+ * {@code alignment} is null unless the request asked for it. It is then a
+ * flat array of pairs — characters of input, characters of output — one
+ * pair per segment. Segments tile both strings in order, so running sums
+ * give each segment's offsets; lengths are in UTF-16 units, as JavaScript
+ * indexes strings. Input that produces nothing has a pair with an output
+ * length of 0, or falls inside a neighbouring segment. Being an array,
+ * it takes no part in equals.
+ */
+public record TransliterationResult(String originalText, String runeText, int[] alignment) {
+
+    public TransliterationResult(String originalText, String runeText) {
+        this(originalText, runeText, null);
+    }
+
+    public boolean hasContent() {
+        return runeText != null && !runeText.isBlank();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TransliterationResult result
+                && Objects.equals(originalText, result.originalText)
+                && Objects.equals(runeText, result.runeText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(originalText, runeText);
+    }
+}
@@ -0,0 +1,124 @@
+package com.druidic.transliterator.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The compiled mapping tables of an engine, in a form any client can interpret.
+ * Lives in core — no framework dependencies, no ports, no adapters.
+ *
+ * Input is lowercased and read one UTF-16 unit at a time. Blank input gives
+ * empty output; otherwise space and newline pass through and anything without
+ * a rule is dropped. At each position the first matching rule wins:
+ * <ol>
+ *   <li>digraphs — a two-letter sequence to one glyph</li>
+ *   <li>doubled letter — when {@code doublingMark} is set, a letter followed by
+ *       itself becomes its glyph plus the mark</li>
+ *   <li>vowels — a tehta written after the pending glyph, or after
+ *       {@code carrier} when nothing is pending</li>
+ *   <li>letters — one glyph per letter</li>
+ * </ol>
+ * Glyphs from rules 1, 2 and 4 stay pending until the next position shows
+ * whether a vowel sits on them.
+ */
+public record TransliterationRules(
+        Map<Character, String> letters,
+        Map<String, String> digraphs,
+        Map<Character, String> vowels,
+        String carrier,
+        String doublingMark) {
+
+    // Sorted copies, so iteration order — and with it the JSON — is fixed
+    public TransliterationRules {
+        letters = Collections.unmodifiableMap(new TreeMap<>(letters));
+        digraphs = Collections.unmodifiableMap(new TreeMap<>(digraphs));
+        vowels = Collections.unmodifiableMap(new TreeMap<>(vowels));
+        if (digraphs.keySet().stream().anyMatch(pair -> pair.length() != 2)) {
+            throw new IllegalArgumentException("Digraphs must be two letters: " + digraphs.keySet());
+        }
+        if (!vowels.isEmpty() && carrier == null) {
+            throw new IllegalArgumentException("Vowel rules need a carrier");
+        }
+    }
+
+    /**
+     * Rules for a script with one glyph per letter — no digraphs, no vowel
+     * placement, no doubling.
+     */
+    public static TransliterationRules oneToOne(Map<Character, String> letters) {
+        return new TransliterationRules(letters, Map.of(), Map.of(), null, null);
+    }
+
+    /**
+     * Compact JSON with keys in a fixed order, so equal rules always give equal
+     * bytes. Digraphs are written as a two-level trie: first letter, then second.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(512).append("{\"letters\":");
+        appendObject(json, letters);
+        json.append(",\"digraphs\":{");
+        String first = null;
+        for (Map.Entry<String, String> digraph : digraphs.entrySet()) {
+            String head = digraph.getKey().substring(0, 1);
+            if (!head.equals(first)) {
+                if (first != null) {
+                    json.append("},");
+                }
+                appendString(json, head).append(":{");
+                first = head;
+            } else {
+                json.append(',');
+            }
+            appendString(json, digraph.getKey().substring(1)).append(':');
+            appendString(json, digraph.getValue());
+        }
+        json.append(first == null ? "}" : "}}");
+        json.append(",\"vowels\":");
+        appendObject(json, vowels);
+        json.append(",\"carrier\":");
+        appendString(json, carrier);
+        json.append(",\"doublingMark\":");
+        appendString(json, doublingMark);
+        return json.append('}').toString();
+    }
+
+    /**
+     * Content hash of {@link #toJson()} — changes whenever any table does.
+     */
+    public String version() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toJson().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void appendObject(StringBuilder json, Map<?, String> map) {
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<?, String> entry : map.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            appendString(json, entry.getKey().toString()).append(':');
+            appendString(json, entry.getValue());
+            first = false;
+        }
+        json.append('}');
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+        return json.append('"').append(JsonUtf8.escape(value)).append('"');
+    }
+}
@@ -0,0 +1,62 @@
+package com.druidic.transliterator.port.in;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Input port — the contract the outside world uses to drive the application.
+ * The web adapter depends on this interface only; it never touches any implementation.
+ */
+public interface TransliteratePort {
+
+    /**
+     * The script this engine writes; {@code ScriptRegistry} dispatches on it.
+     */
+    Script script();
+
+    TransliterationResult transliterate(TransliterationRequest request);
+    List<LegendEntry> getLegend();
+
+    /**
+     * Writes the transliterated text as the body of a JSON string — JSON-escaped
+     * UTF-8, without the surrounding quotes. Engines override this to write
+     * pre-encoded glyphs directly; the default encodes the String result.
+     */
+    default void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        out.write(JsonUtf8.encode(transliterate(request).runeText()));
+    }
+
+    /**
+     * True when the engine carries no state across a space or newline, so each
+     * word transliterates independently and per-word results can be memoized.
+     */
+    default boolean isWhitespaceContextFree() {
+        return false;
+    }
+
+    /**
+     * The engine's mapping tables, for clients that transliterate locally.
+     * Empty when the engine's behaviour cannot be expressed as {@link TransliterationRules}.
+     */
+    default Optional<TransliterationRules> getRules() {
+        return Optional.empty();
+    }
+
+    /**
+     * Names whatever shapes the output besides {@link #getRules()} — a mode, a
+     * dictionary — so two configurations of one engine can be told apart.
+     * Empty when the rules alone decide the output.
+     */
+    default String variant() {
+        return "";
+    }
+}
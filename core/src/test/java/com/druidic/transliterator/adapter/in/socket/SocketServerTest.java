@@ -0,0 +1,256 @@
+package com.druidic.transliterator.adapter.in.socket;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SocketServerTest {
+
+    private static final Map<Script, TransliteratePort> ENGINES = Map.of(
+            Script.ELDER_FUTHARK, new FutharkTransliterator(),
+            Script.TENGWAR, new TengwarTransliterator(),
+            Script.DETHEK, new DethekTransliterator());
+
+    private SocketServer server;
+
+    @AfterEach
+    void stop() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void pipelinesRequestsAndMatchesResponsesById() throws Exception {
+        // Long texts go to workers while short ones are answered inline, so they come back out of order
+        server = start(null, 1_000);
+        Script[] scripts = Script.values();
+        List<String> texts = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        try (SocketClient client = SocketClient.connect(tcp())) {
+            for (int i = 0; i < 2_000; i++) {
+                String text = i % 50 == 0 ? "the quick brown fox ".repeat(100 + i) : "word " + i;
+                texts.add(text);
+                results.add(client.submit(scripts[i % scripts.length], text));
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                Script script = scripts[i % scripts.length];
+                assertEquals(expected(script, texts.get(i)), results.get(i).get(10, TimeUnit.SECONDS), "request " + i);
+            }
+        }
+        assertEquals(2_000, server.requests());
+        assertEquals(0, server.errors());
+    }
+
+    @Test
+    void servesUnixDomainSockets(@TempDir Path dir) throws Exception {
+        Path socket = dir.resolve("transliterator.sock");
+        server = new SocketServer(ENGINES, null, socket, 1, 1 << 20, 16_384);
+        server.start();
+
+        try (SocketClient client = SocketClient.connect(socket)) {
+            assertEquals(expected(Script.DETHEK, "Moria"), client.transliterate(Script.DETHEK, "Moria"));
+            assertEquals("", client.transliterate(Script.TENGWAR, ""));
+        }
+        assertEquals(-1, server.port());
+    }
+
+    @Test
+    void answersUnknownScriptsWithAnErrorAndKeepsTheConnection() throws Exception {
+        server = start(null, 16_384);
+        try (SocketChannel channel = SocketChannel.open(tcp())) {
+            ByteBuffer request = SocketProtocol.request(7, Script.TENGWAR, bytes("elen"));
+            request.put(8, (byte) 99);
+            write(channel, request);
+            write(channel, SocketProtocol.request(8, Script.TENGWAR, bytes("elen")));
+
+            ByteBuffer error = readFrame(channel);
+            assertEquals(7, error.getInt());
+            assertEquals(SocketProtocol.STATUS_ERROR, error.get());
+            assertEquals("unknown script code 99", text(error));
+
+            ByteBuffer ok = readFrame(channel);
+            assertEquals(8, ok.getInt());
+            assertEquals(SocketProtocol.STATUS_OK, ok.get());
+            assertEquals(expected(Script.TENGWAR, "elen"), text(ok));
+        }
+        assertEquals(1, server.errors());
+    }
+
+    @Test
+    void oversizedFramesFailOnlyTheirOwnRequest() throws Exception {
+        server = new SocketServer(ENGINES, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), null,
+                1, 64, 16_384);
+        server.start();
+        try (SocketClient client = SocketClient.connect(tcp())) {
+            CompletableFuture<String> before = client.submit(Script.ELDER_FUTHARK, "before");
+            // Larger than the read buffer, so it is skipped across several reads
+            CompletableFuture<String> oversized = client.submit(Script.ELDER_FUTHARK, "x".repeat(200_000));
+            CompletableFuture<String> after = client.submit(Script.ELDER_FUTHARK, "after");
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> oversized.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause().getMessage().contains("is over 64"), e.getCause().getMessage());
+            assertEquals(expected(Script.ELDER_FUTHARK, "before"), before.get(10, TimeUnit.SECONDS));
+            assertEquals(expected(Script.ELDER_FUTHARK, "after"), after.get(10, TimeUnit.SECONDS));
+            assertTrue(client.isOpen());
+        }
+    }
+
+    @Test
+    void closesConnectionsThatSendMalformedFrames() throws Exception {
+        server = start(null, 100);
+        try (SocketChannel channel = SocketChannel.open(tcp())) {
+            write(channel, ByteBuffer.allocate(SocketProtocol.LENGTH_BYTES).putInt(0, 2));
+
+            ByteBuffer response = readFrame(channel);
+            assertEquals(SocketProtocol.CONNECTION_ID, response.getInt());
+            assertEquals(SocketProtocol.STATUS_ERROR, response.get());
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    void answersBusyWhenTheWorkerQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TransliteratePort futhark = new FutharkTransliterator() {
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.transliterate(request);
+            }
+        };
+        server = new SocketServer(Map.of(Script.ELDER_FUTHARK, futhark),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), null, 1, 1 << 20, 1);
+        server.start();
+
+        // Each connection stops being read at 64 offloaded requests, so spread them
+        List<SocketClient> clients = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        try {
+            for (int c = 0; c < 5; c++) {
+                SocketClient client = SocketClient.connect(tcp());
+                clients.add(client);
+                for (int i = 0; i < 60; i++) {
+                    results.add(client.submit(Script.ELDER_FUTHARK, "rune"));
+                }
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (results.stream().noneMatch(CompletableFuture::isCompletedExceptionally)
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            int busy = 0;
+            for (CompletableFuture<String> result : results) {
+                try {
+                    assertEquals(expected(Script.ELDER_FUTHARK, "rune"), result.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertEquals("server busy", e.getCause().getMessage());
+                    busy++;
+                }
+            }
+            assertTrue(busy > 0, "no request was refused");
+            assertTrue(clients.stream().allMatch(SocketClient::isOpen));
+        } finally {
+            release.countDown();
+            for (SocketClient client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    void sendsEveryResponseToAClientThatHalfClosesAfterItsLastRequest() throws Exception {
+        server = start(null, 100);
+        try (SocketChannel channel = SocketChannel.open(tcp())) {
+            for (int id = 1; id <= 10; id++) {
+                write(channel, SocketProtocol.request(id, Script.ELDER_FUTHARK, bytes("rune ".repeat(id * 10))));
+            }
+            channel.shutdownOutput();
+
+            int seen = 0;
+            for (int i = 0; i < 10; i++) {
+                ByteBuffer response = readFrame(channel);
+                int id = response.getInt();
+                assertEquals(SocketProtocol.STATUS_OK, response.get());
+                assertEquals(expected(Script.ELDER_FUTHARK, "rune ".repeat(id * 10)), text(response));
+                seen |= 1 << id;
+            }
+            assertEquals(0b111_1111_1110, seen);
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    private SocketServer start(Path unixSocket, int offloadBytes) throws IOException {
+        SocketServer started = new SocketServer(ENGINES, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                unixSocket, 2, 1 << 20, offloadBytes);
+        started.start();
+        return started;
+    }
+
+    private InetSocketAddress tcp() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), server.port());
+    }
+
+    private static String expected(Script script, String text) {
+        return ENGINES.get(script).transliterate(new TransliterationRequest(text, script)).runeText();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer frame) {
+        return StandardCharsets.UTF_8.decode(frame).toString();
+    }
+
+    private static void write(SocketChannel channel, ByteBuffer frame) throws IOException {
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    // The frame after its length prefix
+    private static ByteBuffer readFrame(SocketChannel channel) throws IOException {
+        ByteBuffer length = readFully(channel, ByteBuffer.allocate(SocketProtocol.LENGTH_BYTES));
+        return readFully(channel, ByteBuffer.allocate(length.getInt()));
+    }
+
+    private static ByteBuffer readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Connection closed");
+            }
+        }
+        return buffer.flip();
+    }
+}
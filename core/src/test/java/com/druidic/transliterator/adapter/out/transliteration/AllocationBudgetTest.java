@@ -0,0 +1,79 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.AllocatedBytes;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails when an engine allocates more bytes per input character than its
+ * budget, measured on its own thread after the JIT has settled. Budgets sit
+ * about half again above what the engines allocate today — a new object per
+ * character blows through them, noise does not. Tagged so it runs as its own
+ * task, {@code ./gradlew :core:allocationBudgetTest}, in a fresh JVM.
+ */
+@Tag("allocation-budget")
+class AllocationBudgetTest {
+
+    private static final String TEXT =
+            "The quick brown fox jumps over the lazy dog, and the knight's thorough thoughts wandered. ".repeat(10);
+    private static final int WARM_UP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 2_000;
+
+    // Engine, then bytes per input character for transliterate and for writeJsonUtf8
+    @ParameterizedTest
+    @CsvSource({
+            "futhark,            12,            3.5",
+            "tengwar,            8,             3.5",
+            "tengwar-phonetic,   8,             3.5",
+            "dethek,             5,             3.5",
+    })
+    void staysWithinBudget(String engine, double stringBudget, double jsonBudget) throws IOException {
+        assertTrue(AllocatedBytes.supported(), "This JVM does not count per-thread allocation");
+        TransliteratePort port = engine(engine);
+        TransliterationRequest request = new TransliterationRequest(TEXT, port.script());
+        OutputStream sink = OutputStream.nullOutputStream();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            port.transliterate(request);
+            port.writeJsonUtf8(request, sink);
+        }
+
+        long start = AllocatedBytes.currentThread();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            port.transliterate(request);
+        }
+        long afterStrings = AllocatedBytes.currentThread();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            port.writeJsonUtf8(request, sink);
+        }
+        long afterJson = AllocatedBytes.currentThread();
+
+        double perCharString = perChar(afterStrings - start);
+        double perCharJson = perChar(afterJson - afterStrings);
+        assertTrue(perCharString <= stringBudget, String.format(
+                "%s transliterate allocates %.2f bytes/char, budget %.2f", engine, perCharString, stringBudget));
+        assertTrue(perCharJson <= jsonBudget, String.format(
+                "%s writeJsonUtf8 allocates %.2f bytes/char, budget %.2f", engine, perCharJson, jsonBudget));
+    }
+
+    private static double perChar(long bytes) {
+        return (double) bytes / MEASURED_CALLS / TEXT.length();
+    }
+
+    private static TransliteratePort engine(String name) throws IOException {
+        return switch (name) {
+            case "futhark" -> new FutharkTransliterator();
+            case "tengwar" -> new TengwarTransliterator();
+            case "tengwar-phonetic" -> new TengwarTransliterator(PronunciationDictionary.bundled());
+            case "dethek" -> new DethekTransliterator();
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiTextTest {
+
+    @Test
+    void classifiesPureAscii() {
+        assertTrue(AsciiText.isAscii("Hello, World!\n"));
+        assertTrue(AsciiText.isAscii(""));
+    }
+
+    @Test
+    void classifiesNonAscii() {
+        assertFalse(AsciiText.isAscii("café"));
+        assertFalse(AsciiText.isAscii("ᚨ"));
+    }
+
+    @Test
+    void lowercasesAsciiThroughTable() {
+        assertArrayEquals("hello world 42!".toCharArray(), AsciiText.toLowerCase("HeLLo World 42!"));
+    }
+
+    @Test
+    void nonAsciiFallsBackToStringToLowerCase() {
+        String input = "ÄBC İ";
+        assertArrayEquals(input.toLowerCase().toCharArray(), AsciiText.toLowerCase(input));
+    }
+}
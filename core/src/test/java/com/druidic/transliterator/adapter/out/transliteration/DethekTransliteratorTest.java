@@ -1,5 +1,6 @@
 package com.druidic.transliterator.adapter.out.transliteration;
 
+import com.druidic.transliterator.core.JsonUtf8;
 import com.druidic.transliterator.core.Script;
 import com.druidic.transliterator.core.TransliterationRequest;
 import com.druidic.transliterator.core.TransliterationResult;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.ByteArrayOutputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DethekTransliteratorTest {
@@ -49,6 +52,19 @@ class DethekTransliteratorTest {
         assertEquals("ab", transliterate("a!b").runeText());
     }
 
+    @Test
+    void nonAsciiInputFallsBackToFullLowercasing() {
+        assertEquals("bc", transliterate("ÄBC").runeText());
+    }
+
+    @Test
+    void writesSameTextAsJsonUtf8() throws Exception {
+        String input = "Hello \"World\"\nÄbc";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transliterator.writeJsonUtf8(new TransliterationRequest(input, Script.DETHEK), out);
+        assertArrayEquals(JsonUtf8.encode(transliterate(input).runeText()), out.toByteArray());
+    }
+
     @Test
     void blankInputReturnsEmpty() {
         TransliterationResult result = transliterate("   ");
@@ -60,4 +76,11 @@ class DethekTransliteratorTest {
         TransliterationResult result = transliterate("");
         assertEquals("", result.runeText());
     }
+
+    @Test
+    void alignmentPairsEachLetterWithItsGlyph() {
+        TransliterationResult result = transliterator.transliterate(new TransliterationRequest("A-b", Script.DETHEK, true));
+        assertEquals("ab", result.runeText());
+        assertArrayEquals(new int[] {1, 1, 1, 0, 1, 1}, result.alignment());
+    }
 }
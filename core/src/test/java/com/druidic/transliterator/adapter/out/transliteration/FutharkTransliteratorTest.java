@@ -1,5 +1,6 @@
 package com.druidic.transliterator.adapter.out.transliteration;
 
+import com.druidic.transliterator.core.JsonUtf8;
 import com.druidic.transliterator.core.Script;
 import com.druidic.transliterator.core.TransliterationRequest;
 import com.druidic.transliterator.core.TransliterationResult;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.ByteArrayOutputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FutharkTransliteratorTest {
@@ -49,6 +52,19 @@ class FutharkTransliteratorTest {
         assertEquals("ᚨᛒ", transliterate("a!b").runeText());
     }
 
+    @Test
+    void nonAsciiInputFallsBackToFullLowercasing() {
+        assertEquals("ᛒᚲ", transliterate("ÄBC").runeText());
+    }
+
+    @Test
+    void writesSameTextAsJsonUtf8() throws Exception {
+        String input = "Hello \"World\"\nÄbc";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transliterator.writeJsonUtf8(new TransliterationRequest(input, Script.ELDER_FUTHARK), out);
+        assertArrayEquals(JsonUtf8.encode(transliterate(input).runeText()), out.toByteArray());
+    }
+
     @Test
     void blankInputReturnsEmpty() {
         TransliterationResult result = transliterate("   ");
@@ -60,4 +76,26 @@ class FutharkTransliteratorTest {
         TransliterationResult result = transliterate("");
         assertEquals("", result.runeText());
     }
+
+    @Test
+    void alignmentPairsEachLetterWithItsRune() {
+        TransliterationResult result = transliterator.transliterate(new TransliterationRequest("hi!", Script.ELDER_FUTHARK, true));
+        assertEquals(transliterate("hi!"), result);
+        assertArrayEquals(new int[] {1, 1, 1, 1, 1, 0}, result.alignment());
+    }
+
+    @Test
+    void alignmentKeepsInputPositionsWhenLowercasingWouldExpand() {
+        // String.toLowerCase() turns the dotted capital I into two chars
+        TransliterationResult result = transliterator.transliterate(new TransliterationRequest("\u0130a", Script.ELDER_FUTHARK, true));
+        assertEquals("ᛁᚨ", result.runeText());
+        assertArrayEquals(new int[] {1, 1, 1, 1}, result.alignment());
+    }
+
+    @Test
+    void alignmentIsOnlyRecordedOnRequest() {
+        assertNull(transliterate("hi").alignment());
+        assertArrayEquals(new int[] {2, 0},
+                transliterator.transliterate(new TransliterationRequest("  ", Script.ELDER_FUTHARK, true)).alignment());
+    }
 }
@@ -0,0 +1,153 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PronunciationDictionaryTest {
+
+    private static final Path BUNDLED_SOURCE = Path.of("src", "main", "dictionary", "pronunciations.txt");
+
+    @Test
+    void findsEveryWordAndNothingElse() throws IOException {
+        Random random = new Random(42);
+        Map<String, String> words = new TreeMap<>();
+        while (words.size() < 20_000) {
+            words.put(randomWord(random), randomPronunciation(random));
+        }
+        PronunciationDictionary dictionary = compile(words);
+
+        assertEquals(words.size(), dictionary.size());
+        words.forEach((word, arpabet) -> assertEquals(Optional.of(arpabet), dictionary.pronunciation(word), word));
+        for (String word : words.keySet()) {
+            // Neighbours in sort order: prefixes, extensions, one letter off
+            for (String near : new String[] {word.substring(0, word.length() - 1), word + "a", word + "z",
+                    word.substring(0, word.length() - 1) + (char) (word.charAt(word.length() - 1) + 1)}) {
+                if (!words.containsKey(near)) {
+                    assertEquals(Optional.empty(), dictionary.pronunciation(near), near);
+                }
+            }
+        }
+        assertEquals(Optional.empty(), dictionary.pronunciation(""));
+        assertEquals(Optional.empty(), dictionary.pronunciation("zzzzzzzzzzzzzzzzzzzzzz"));
+        assertEquals(Optional.empty(), dictionary.pronunciation("'"));
+    }
+
+    @Test
+    void looksUpWordsInsideLargerText() throws IOException {
+        PronunciationDictionary dictionary = compile(Map.of("knight", "N AY T", "night", "N AY T"));
+        char[] text = "a knight's night".toCharArray();
+        byte[] phonemes = new byte[PronunciationDictionary.MAX_PHONEMES];
+
+        assertEquals(3, dictionary.lookup(text, 2, 8, phonemes));
+        assertEquals(PronunciationDictionary.PHONEMES.indexOf("AY"), phonemes[1]);
+        assertEquals(-1, dictionary.lookup(text, 2, 10, phonemes));
+        assertEquals(3, dictionary.lookup(text, 11, 16, phonemes));
+    }
+
+    @Test
+    void compilerReadsCmudictLayoutsAndSkipsWhatIsNotAWord() throws IOException {
+        String source = """
+                ;;; comment
+                KNIGHT  N AY1 T
+                KNIGHT(1)  K N IH1 G T
+                knight(2) k n ay t
+                tough t ah1 f # 'tuff'
+                DON'T  D OW1 N T
+                !EXCLAMATION-POINT  EH2 K S K L AH0 M EY1 SH AH0 N P OY2 N T
+                A.M.  EY2 EH1 M
+                'EM  AH0 M
+                """;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int entries = PronunciationDictionaryCompiler.compile(new BufferedReader(new StringReader(source)), out);
+        PronunciationDictionary dictionary = PronunciationDictionary.wrap(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(3, entries);
+        assertEquals(Optional.of("N AY T"), dictionary.pronunciation("knight"));
+        assertEquals(Optional.of("T AH F"), dictionary.pronunciation("tough"));
+        assertEquals(Optional.of("D OW N T"), dictionary.pronunciation("don't"));
+    }
+
+    @Test
+    void compilerRejectsUnknownPhonemes() {
+        IOException e = assertThrows(IOException.class, () -> PronunciationDictionaryCompiler.compile(
+                new BufferedReader(new StringReader("WORD  W ER1 D\nBAD  B XX D\n")), new ByteArrayOutputStream()));
+        assertTrue(e.getMessage().contains("Line 2"));
+    }
+
+    @Test
+    void mapsCompiledFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("pronunciations.dict");
+        Files.write(file, compiledBytes(Map.of("through", "TH R UW")));
+
+        assertEquals(Optional.of("TH R UW"), PronunciationDictionary.open(file).pronunciation("through"));
+
+        Files.write(file, new byte[] {1, 2, 3, 4});
+        assertThrows(IOException.class, () -> PronunciationDictionary.open(file));
+    }
+
+    @Test
+    void bundledDictionaryMatchesItsSource() throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (BufferedReader in = Files.newBufferedReader(BUNDLED_SOURCE, StandardCharsets.ISO_8859_1)) {
+            PronunciationDictionaryCompiler.compile(in, expected);
+        }
+        byte[] bundled;
+        try (InputStream in = getClass().getResourceAsStream(PronunciationDictionary.BUNDLED_RESOURCE)) {
+            assertNotNull(in, "Missing core/src/main/resources" + PronunciationDictionary.BUNDLED_RESOURCE);
+            bundled = in.readAllBytes();
+        }
+        assertArrayEquals(expected.toByteArray(), bundled,
+                "Bundled dictionary is stale — run ./gradlew :core:compilePronunciations");
+        assertEquals(Optional.of("N AY T"), PronunciationDictionary.bundled().pronunciation("knight"));
+    }
+
+    private static PronunciationDictionary compile(Map<String, String> words) throws IOException {
+        return PronunciationDictionary.wrap(ByteBuffer.wrap(compiledBytes(words)));
+    }
+
+    private static byte[] compiledBytes(Map<String, String> words) throws IOException {
+        StringBuilder source = new StringBuilder();
+        words.forEach((word, arpabet) -> source.append(word.toUpperCase()).append("  ").append(arpabet).append('\n'));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PronunciationDictionaryCompiler.compile(new BufferedReader(new StringReader(source.toString())), out);
+        return out.toByteArray();
+    }
+
+    // Short words over a few letters, so many share prefixes as in English
+    private static String randomWord(Random random) {
+        int length = 1 + random.nextInt(9);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(i < 3 ? 6 : 26)));
+        }
+        if (length > 3 && random.nextInt(20) == 0) {
+            word.setCharAt(length - 2, '\'');
+        }
+        return word.toString();
+    }
+
+    private static String randomPronunciation(Random random) {
+        StringJoiner arpabet = new StringJoiner(" ");
+        for (int i = 1 + random.nextInt(8); i > 0; i--) {
+            arpabet.add(PronunciationDictionary.PHONEMES.get(random.nextInt(PronunciationDictionary.PHONEMES.size())));
+        }
+        return arpabet.toString();
+    }
+}
@@ -0,0 +1,216 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TengwarTransliteratorTest {
+
+    private final TengwarTransliterator transliterator = new TengwarTransliterator();
+
+    private TransliterationResult transliterate(String input) {
+        return transliterator.transliterate(new TransliterationRequest(input, Script.TENGWAR));
+    }
+
+    @Test
+    void vowelWithNoPrecedingConsonantUsesShortCarrier() {
+        assertEquals("`#", transliterate("a").runeText());
+    }
+
+    @Test
+    void vowelAfterConsonantAttachesToConsonant() {
+        assertEquals("1#", transliterate("ta").runeText());
+    }
+
+    @Test
+    void consecutiveVowelsEachGetCarrier() {
+        assertEquals("`#`$", transliterate("ae").runeText());
+    }
+
+    @Test
+    void consonantWithNoFollowingVowelFlushesBare() {
+        assertEquals("1", transliterate("t").runeText());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "th, 3", "ch, a", "sh, u", "ph, e",
+        "wh, Q", "ng, g", "ck, z", "qu, zz"
+    })
+    void handlesDigraphs(String input, String expected) {
+        assertEquals(expected, transliterate(input).runeText());
+    }
+
+    @Test
+    void digraphWithFollowingVowel() {
+        assertEquals("3$", transliterate("the").runeText());
+    }
+
+    @Test
+    void doubledConsonantUsesDoublingMark() {
+        assertEquals("j~", transliterate("ll").runeText());
+    }
+
+    @Test
+    void doubledConsonantWithVowel() {
+        assertEquals("`#j~", transliterate("all").runeText());
+    }
+
+    @Test
+    void doubledVowelDoesNotTriggerDoublingMark() {
+        // "aa" — both chars match (ch == next) but 'a' is not in CONSONANTS,
+        // so each vowel gets its own short carrier instead of a doubling mark
+        assertEquals("`#`#", transliterate("aa").runeText());
+    }
+
+    @Test
+    void preservesSpaces() {
+        assertEquals("1# 1#", transliterate("ta ta").runeText());
+    }
+
+    @Test
+    void preservesNewlines() {
+        assertEquals("1#\n1#", transliterate("ta\nta").runeText());
+    }
+
+    @Test
+    void dropsUnmappedCharacters() {
+        assertEquals("1#", transliterate("t!a").runeText());
+    }
+
+    @Test
+    void nonAsciiInputFallsBackToFullLowercasing() {
+        assertEquals("1#", transliterate("TÄA").runeText());
+    }
+
+    @Test
+    void writesSameTextAsJsonUtf8() throws Exception {
+        String input = "The quick\nbrown fox, all ÄA";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transliterator.writeJsonUtf8(new TransliterationRequest(input, Script.TENGWAR), out);
+        assertArrayEquals(JsonUtf8.encode(transliterate(input).runeText()), out.toByteArray());
+    }
+
+    @Test
+    void blankInputReturnsEmpty() {
+        assertEquals("", transliterate("   ").runeText());
+    }
+
+    @Test
+    void emptyInputReturnsEmpty() {
+        assertEquals("", transliterate("").runeText());
+    }
+
+    @Test
+    void handlesUpperCase() {
+        assertEquals("1#", transliterate("TA").runeText());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "t, 1", "p, q", "d, 2", "b, w", "g, s",
+        "f, e", "v, r", "n, 5", "m, t", "r, 6",
+        "l, j", "s, 8", "z, i", "h, 9", "w, n",
+        "y, h", "k, z", "c, a", "q, z"
+    })
+    void singleConsonantMappings(String input, String expected) {
+        assertEquals(expected, transliterate(input).runeText());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "a, `#", "e, `$", "i, `%", "o, `^", "u, `&"
+    })
+    void standaloneVowelMappings(String input, String expected) {
+        assertEquals(expected, transliterate(input).runeText());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "knight, 5#h1", "through, 36&", "the, 4#", "one, n#5"
+    })
+    void phoneticModeWritesKnownWordsBySound(String input, String expected) {
+        assertEquals(expected, phonetic(input));
+    }
+
+    @Test
+    void phoneticModeLooksUpWordsWithInnerApostrophes() {
+        assertEquals("2^51", phonetic("don't"));
+    }
+
+    @Test
+    void phoneticModeSpellsUnknownWords() {
+        assertEquals(transliterate("tengwar frodo").runeText(), phonetic("tengwar frodo"));
+    }
+
+    @Test
+    void phoneticModeMixesLookupAndSpellingAroundPunctuation() {
+        assertEquals("4# 5#h1 e6^2^", phonetic("The KNIGHT, Frodo!"));
+    }
+
+    @Test
+    void phoneticModeWritesSameTextAsJsonUtf8() throws Exception {
+        TengwarTransliterator phonetic = new TengwarTransliterator(PronunciationDictionary.bundled());
+        String input = "The knight\nthough tough, Ä ghost";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        phonetic.writeJsonUtf8(new TransliterationRequest(input, Script.TENGWAR), out);
+        assertArrayEquals(JsonUtf8.encode(phonetic(input)), out.toByteArray());
+    }
+
+    @Test
+    void phoneticLegendAddsTheSoundsSpellingCannotReach() {
+        TengwarTransliterator phonetic = new TengwarTransliterator(PronunciationDictionary.bundled());
+        assertTrue(phonetic.getLegend().containsAll(transliterator.getLegend()));
+        assertTrue(phonetic.getLegend().stream().anyMatch(entry -> entry.glyph().equals("4")));
+    }
+
+    @Test
+    void phoneticModeIsAVariantTheRulesDoNotDescribe() {
+        assertEquals("", transliterator.variant());
+        assertTrue(new TengwarTransliterator(PronunciationDictionary.bundled()).variant().startsWith("phonetic-"));
+    }
+
+    private static String phonetic(String input) {
+        return new TengwarTransliterator(PronunciationDictionary.bundled())
+                .transliterate(new TransliterationRequest(input, Script.TENGWAR)).runeText();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "the, 3;2",
+        "tap, 2;2;1;1",
+        "ta ll!, 2;2;1;1;3;2",
+        "ae, 1;2;1;2",
+        "x, 1;2"
+    })
+    void alignmentGroupsEachTengwaWithItsTehta(String input, String expected) {
+        TransliterationResult result = transliterator.transliterate(new TransliterationRequest(input, Script.TENGWAR, true));
+        assertEquals(transliterate(input), result);
+        assertArrayEquals(pairs(expected), result.alignment());
+    }
+
+    @Test
+    void phoneticAlignmentTreatsEachWordWrittenBySoundAsOneSegment() {
+        TransliterationResult result = new TengwarTransliterator(PronunciationDictionary.bundled())
+                .transliterate(new TransliterationRequest("The KNIGHT,", Script.TENGWAR, true));
+        assertEquals("4# 5#h1", result.runeText());
+        assertArrayEquals(new int[] {3, 2, 1, 1, 6, 4, 1, 0}, result.alignment());
+    }
+
+    private static int[] pairs(String encoded) {
+        String[] parts = encoded.split(";");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,173 @@
+package com.druidic.transliterator.adapter.out.transliteration;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The exported rules must transliterate exactly like the engines they come from.
+ * Checked twice: here, through a reference interpreter over random input, and in
+ * src/test/js/rules.test.js, where the browser interpreter replays the committed
+ * fixture this test keeps in step with the engines.
+ */
+class TransliterationRulesConformanceTest {
+
+    private static final String FIXTURE = "/rules-conformance.json";
+
+    private static final Map<Script, TransliteratePort> ENGINES = Map.of(
+            Script.ELDER_FUTHARK, new FutharkTransliterator(),
+            Script.TENGWAR, new TengwarTransliterator(),
+            Script.DETHEK, new DethekTransliterator()
+    );
+
+    private static final List<String> CASES = List.of(
+            "hello world",
+            "Thorin Oakenshield",
+            "The quick brown fox jumps over the lazy dog",
+            "queen whistle phone check shank",
+            "book keeper\nbaggins",
+            "aeiou",
+            "Xylophone 123 -- ok?",
+            "Café Ünïcödé straße",
+            "\u0130stanbul \u212Aelvin",
+            "   ",
+            " \u00a0",
+            "\t\u3000",
+            ""
+    );
+
+    // Letters weighted towards digraph starts and doubles, plus separators,
+    // punctuation and characters that lowercase outside ASCII
+    private static final String ALPHABET =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ"
+            + "tthhsscckknnggqquuwwpp     \n\n.,!?'-19\t\u00a0\u00e9\u00c9\u00df\u0130\u212A\u3000";
+
+    @Test
+    void everyEngineExportsRules() {
+        ENGINES.forEach((script, engine) ->
+                assertTrue(engine.getRules().isPresent(), script + " has no rules"));
+    }
+
+    @Test
+    void exportedRulesReproduceEveryEngine() {
+        Random random = new Random(32);
+        ENGINES.forEach((script, engine) -> {
+            TransliterationRules rules = engine.getRules().orElseThrow();
+            for (int n = 0; n < 5_000; n++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(24);
+                for (int i = 0; i < length; i++) {
+                    input.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                assertConforms(script, engine, rules, input.toString());
+            }
+            CASES.forEach(input -> assertConforms(script, engine, rules, input));
+        });
+    }
+
+    @Test
+    void committedFixtureMatchesEngines() throws IOException {
+        String expected = fixture();
+        String committed;
+        try (InputStream in = getClass().getResourceAsStream(FIXTURE)) {
+            assertNotNull(in, "Missing core/src/test/resources" + FIXTURE);
+            committed = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (!expected.equals(committed)) {
+            Path regenerated = Path.of("build", "rules-conformance.json");
+            Files.createDirectories(regenerated.getParent());
+            Files.writeString(regenerated, expected);
+            fail("Engine rules changed — copy core/" + regenerated + " over core/src/test/resources" + FIXTURE);
+        }
+    }
+
+    @Test
+    void versionFollowsTheTables() {
+        TransliterationRules tengwar = new TengwarTransliterator().getRules().orElseThrow();
+        TransliterationRules same = new TransliterationRules(tengwar.letters(), tengwar.digraphs(),
+                tengwar.vowels(), tengwar.carrier(), tengwar.doublingMark());
+        TransliterationRules undoubled = new TransliterationRules(tengwar.letters(), tengwar.digraphs(),
+                tengwar.vowels(), tengwar.carrier(), null);
+
+        assertEquals(tengwar.version(), same.version());
+        assertNotEquals(tengwar.version(), undoubled.version());
+    }
+
+    private static void assertConforms(Script script, TransliteratePort engine, TransliterationRules rules, String input) {
+        String expected = engine.transliterate(new TransliterationRequest(input, script)).runeText();
+        assertEquals(expected, interpret(rules, input), () -> script + " diverges on \"" + input + "\"");
+    }
+
+    // Cases in Script order, one line each, so a changed table shows up as a
+    // readable diff of the fixture
+    private static String fixture() {
+        StringBuilder json = new StringBuilder("{\n");
+        Script[] scripts = Script.values();
+        for (int s = 0; s < scripts.length; s++) {
+            TransliteratePort engine = ENGINES.get(scripts[s]);
+            json.append("  \"").append(scripts[s].name()).append("\": {\n")
+                .append("    \"rules\": ").append(engine.getRules().orElseThrow().toJson()).append(",\n")
+                .append("    \"cases\": [\n");
+            for (int c = 0; c < CASES.size(); c++) {
+                String input = CASES.get(c);
+                String output = engine.transliterate(new TransliterationRequest(input, scripts[s])).runeText();
+                json.append("      [\"").append(JsonUtf8.escape(input)).append("\", \"")
+                    .append(JsonUtf8.escape(output)).append("\"]")
+                    .append(c + 1 < CASES.size() ? ",\n" : "\n");
+            }
+            json.append("    ]\n  }").append(s + 1 < scripts.length ? ",\n" : "\n");
+        }
+        return json.append("}\n").toString();
+    }
+
+    // Reference interpreter — the rule order documented on TransliterationRules
+    private static String interpret(TransliterationRules rules, String input) {
+        if (input.isBlank()) {
+            return "";
+        }
+        String lower = input.toLowerCase();
+        StringBuilder out = new StringBuilder();
+        String pending = null;
+        for (int i = 0; i < lower.length(); i++) {
+            char ch = lower.charAt(i);
+            char next = i + 1 < lower.length() ? lower.charAt(i + 1) : 0;
+            String digraph = next == 0 ? null : rules.digraphs().get("" + ch + next);
+            String letter = rules.letters().get(ch);
+            String vowel = rules.vowels().get(ch);
+
+            if (ch == ' ' || ch == '\n') {
+                out.append(pending == null ? "" : pending).append(ch);
+                pending = null;
+            } else if (digraph != null) {
+                out.append(pending == null ? "" : pending);
+                pending = digraph;
+                i++;
+            } else if (rules.doublingMark() != null && ch == next && letter != null) {
+                out.append(pending == null ? "" : pending);
+                pending = letter + rules.doublingMark();
+                i++;
+            } else if (vowel != null) {
+                out.append(pending == null ? rules.carrier() : pending).append(vowel);
+                pending = null;
+            } else if (letter != null) {
+                out.append(pending == null ? "" : pending);
+                pending = letter;
+            }
+        }
+        return out.append(pending == null ? "" : pending).toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.druidic.transliterator.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointIndexTest {
+
+    // Output offsets 0, 10, 10, 25: the second segment wrote nothing
+    private final CheckpointIndex index = new CheckpointIndex.Builder()
+            .add(8, 10).add(12, 10).add(30, 25).build();
+
+    @Test
+    void floorIsTheLastCheckpointAtOrBefore() {
+        assertEquals(0, index.floor(0));
+        assertEquals(0, index.floor(9));
+        assertEquals(2, index.floor(10));
+        assertEquals(2, index.floor(24));
+        assertEquals(3, index.floor(25));
+        assertEquals(3, index.floor(1000));
+    }
+
+    @Test
+    void ceilingIsTheFirstCheckpointAtOrAfter() {
+        assertEquals(0, index.ceiling(0));
+        assertEquals(1, index.ceiling(1));
+        assertEquals(1, index.ceiling(10));
+        assertEquals(3, index.ceiling(11));
+        assertEquals(3, index.ceiling(1000));
+    }
+
+    @Test
+    void lengthsAreTheLastCheckpoint() {
+        assertEquals(4, index.size());
+        assertEquals(30, index.inputLength());
+        assertEquals(25, index.outputLength());
+        assertEquals(0, new CheckpointIndex.Builder().build().outputLength());
+    }
+
+    @Test
+    void checkpointsMustMoveForward() {
+        CheckpointIndex.Builder builder = new CheckpointIndex.Builder().add(5, 5);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(5, 6));
+        assertThrows(IllegalArgumentException.class, () -> builder.add(6, 4));
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        CheckpointIndex.Builder builder = new CheckpointIndex.Builder();
+        for (int i = 1; i <= 100; i++) {
+            builder.add(i * 3, i * 2);
+        }
+        CheckpointIndex large = builder.build();
+        assertEquals(101, large.size());
+        assertEquals(50, large.floor(101));
+        assertEquals(200, large.outputLength());
+    }
+}
@@ -0,0 +1,28 @@
+package com.druidic.transliterator.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonUtf8Test {
+
+    @Test
+    void plainTextIsReturnedUnchanged() {
+        String text = "1#`$ 8z";
+        assertSame(text, JsonUtf8.escape(text));
+    }
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() {
+        assertEquals("a\\\"b\\\\c\\nd\\te\\u0001", JsonUtf8.escape("a\"b\\c\nd\te\u0001"));
+    }
+
+    @Test
+    void encodesRunesAsThreeByteUtf8() {
+        byte[] encoded = JsonUtf8.encode("ᚨ");
+        assertEquals(3, encoded.length);
+        assertArrayEquals("ᚨ".getBytes(StandardCharsets.UTF_8), encoded);
+    }
+}
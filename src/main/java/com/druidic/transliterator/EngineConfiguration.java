@@ -0,0 +1,50 @@
+package com.druidic.transliterator;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.PronunciationDictionary;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Registers the engines from the Spring-free core module as beans. The
+ * decorators (memo, result store, JFR) and {@code ScriptRegistry} pick them
+ * up from here as they did when the engines were components; a new engine
+ * needs one more method.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EngineConfiguration {
+
+    @Bean
+    public TransliteratePort futharkTransliterator() {
+        return new FutharkTransliterator();
+    }
+
+    /**
+     * Spelled letter by letter unless {@code transliterator.tengwar.phonetic}
+     * is set; phonetic mode uses the bundled pronunciations, or maps a
+     * compiled dictionary from {@code transliterator.tengwar.pronunciation-dictionary}.
+     */
+    @Bean
+    public TransliteratePort tengwarTransliterator(
+            @Value("${transliterator.tengwar.phonetic:false}") boolean phonetic,
+            @Value("${transliterator.tengwar.pronunciation-dictionary:}") String dictionary) throws IOException {
+        if (!phonetic) {
+            return new TengwarTransliterator();
+        }
+        return new TengwarTransliterator(dictionary.isBlank()
+                ? PronunciationDictionary.bundled()
+                : PronunciationDictionary.open(Path.of(dictionary)));
+    }
+
+    @Bean
+    public TransliteratePort dethekTransliterator() {
+        return new DethekTransliterator();
+    }
+}
@@ -0,0 +1,65 @@
+package com.druidic.transliterator;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.in.socket.SocketServer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+
+/**
+ * Starts the core module's binary {@link SocketServer} next to the web
+ * server, on the same decorated engines. Enabled with
+ * {@code transliterator.socket.enabled=true}; listens on TCP unless
+ * {@code transliterator.socket.port} is negative, and on a Unix domain
+ * socket when {@code transliterator.socket.unix-path} is set.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "transliterator.socket.enabled", havingValue = "true")
+public class SocketServerConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketServerConfiguration.class);
+
+    @Bean(destroyMethod = "close")
+    public SocketServer socketServer(ScriptRegistry scripts,
+                                     @Value("${transliterator.socket.bind-address:127.0.0.1}") String bindAddress,
+                                     @Value("${transliterator.socket.port:7070}") int port,
+                                     @Value("${transliterator.socket.unix-path:}") String unixPath,
+                                     @Value("${transliterator.socket.threads:2}") int threads,
+                                     @Value("${transliterator.socket.max-frame-bytes:1048576}") int maxFrameBytes,
+                                     @Value("${transliterator.socket.offload-bytes:16384}") int offloadBytes)
+            throws IOException {
+        SocketServer server = new SocketServer(scripts.asMap(),
+                port < 0 ? null : new InetSocketAddress(bindAddress, port),
+                unixPath.isBlank() ? null : Path.of(unixPath),
+                threads, maxFrameBytes, offloadBytes);
+        server.start();
+        log.info("Socket server listening on {}{}", server.port() < 0 ? "" : bindAddress + ":" + server.port() + " ",
+                server.unixSocket() == null ? "" : server.unixSocket());
+        return server;
+    }
+
+    @Bean
+    public MeterBinder socketServerMetrics(@Qualifier("socketServer") SocketServer socketServer) {
+        return registry -> {
+            FunctionCounter.builder("transliterator.socket.requests", socketServer, SocketServer::requests)
+                    .description("Requests read from socket connections")
+                    .register(registry);
+            FunctionCounter.builder("transliterator.socket.errors", socketServer, SocketServer::errors)
+                    .description("Socket requests answered with an error, and connections closed for bad frames")
+                    .register(registry);
+            Gauge.builder("transliterator.socket.connections", socketServer, SocketServer::connections)
+                    .register(registry);
+        };
+    }
+}
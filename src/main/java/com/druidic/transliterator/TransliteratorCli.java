@@ -0,0 +1,103 @@
+package com.druidic.transliterator;
+
+import com.druidic.transliterator.adapter.in.cli.BulkTransliterator;
+import com.druidic.transliterator.adapter.out.cache.WordMemo;
+import com.druidic.transliterator.adapter.out.cache.WordMemoTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.PronunciationDictionary;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line entry point for offline bulk transliteration.
+ * Wires the engines by hand instead of booting Spring, so it starts without
+ * the web context.
+ *
+ * Usage: TransliteratorCli --script TENGWAR --output out/ [--threads N] [--window-mb M]
+ *        [--phonetic | --pronunciations FILE] input...
+ */
+public class TransliteratorCli {
+
+    private static final String USAGE = """
+            Usage: TransliteratorCli --script <%s> --output <dir> [--threads N] [--window-mb M]
+                                     [--phonetic | --pronunciations <compiled dictionary>] <file|dir>...
+            """;
+
+    private static final int WORD_MEMO_CAPACITY = 1 << 18;
+
+    public static void main(String[] args) {
+        Script script = null;
+        Path output = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int windowMegabytes = 4;
+        boolean phonetic = false;
+        Path pronunciations = null;
+        List<Path> inputs = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--script"         -> script = Script.fromName(args[++i]).orElse(null);
+                    case "--output"         -> output = Path.of(args[++i]);
+                    case "--threads"        -> threads = Integer.parseInt(args[++i]);
+                    case "--window-mb"      -> windowMegabytes = Integer.parseInt(args[++i]);
+                    case "--phonetic"       -> phonetic = true;
+                    case "--pronunciations" -> pronunciations = Path.of(args[++i]);
+                    default                 -> inputs.add(Path.of(args[i]));
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            exitWithUsage();
+        }
+        if (script == null || output == null || inputs.isEmpty()) {
+            exitWithUsage();
+        }
+        long windowBytes = windowMegabytes * 1024L * 1024;
+        if (windowBytes < 1 || windowBytes > Integer.MAX_VALUE) {
+            System.err.println("--window-mb must be between 1 and " + Integer.MAX_VALUE / (1024 * 1024));
+            System.exit(2);
+        }
+
+        try {
+            TengwarTransliterator tengwar = pronunciations != null
+                    ? new TengwarTransliterator(PronunciationDictionary.open(pronunciations))
+                    : phonetic ? new TengwarTransliterator(PronunciationDictionary.bundled()) : new TengwarTransliterator();
+
+            // Archives follow Zipf's law — most words repeat, so memoize them
+            WordMemo memo = new WordMemo(WORD_MEMO_CAPACITY);
+            Map<Script, TransliteratePort> transliterators = Map.of(
+                    Script.ELDER_FUTHARK, new WordMemoTransliterator(new FutharkTransliterator(), memo),
+                    Script.TENGWAR, new WordMemoTransliterator(tengwar, memo),
+                    Script.DETHEK, new WordMemoTransliterator(new DethekTransliterator(), memo)
+            );
+
+            BulkTransliterator bulk = new BulkTransliterator(
+                    transliterators.get(script), script, threads, (int) windowBytes);
+            BulkTransliterator.Report report = bulk.transliterate(inputs, output);
+            System.out.printf("%d file(s), %.1f MB in, %.1f MB out, %.2f s, %.1f MB/s%n",
+                    report.files(),
+                    report.bytesRead() / 1_000_000.0,
+                    report.bytesWritten() / 1_000_000.0,
+                    report.nanos() / 1_000_000_000.0,
+                    report.megabytesPerSecond());
+            System.out.printf("word memo hit rate: %.1f%%%n", memo.hitRate(script) * 100);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Transliteration failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void exitWithUsage() {
+        System.err.printf(USAGE, String.join("|", Arrays.stream(Script.values()).map(Enum::name).toList()));
+        System.exit(2);
+    }
+}
@@ -0,0 +1,71 @@
+package com.druidic.transliterator.adapter.in;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Every TransliteratePort bean, keyed by the script it writes. Inbound
+ * adapters look engines up here instead of injecting each one by qualifier,
+ * so a new engine only needs its {@link Script} constant and a component.
+ *
+ * The ports are whatever the context holds after post-processing, so lookups
+ * go through the same decorators (memo, result store, JFR) as before.
+ */
+@Component
+public class ScriptRegistry {
+
+    public static final Script DEFAULT_SCRIPT = Script.ELDER_FUTHARK;
+
+    private final Map<Script, TransliteratePort> transliterators = new EnumMap<>(Script.class);
+
+    public ScriptRegistry(List<TransliteratePort> transliterators) {
+        for (TransliteratePort transliterator : transliterators) {
+            TransliteratePort previous = this.transliterators.putIfAbsent(transliterator.script(), transliterator);
+            if (previous != null) {
+                throw new IllegalStateException("Two engines write " + transliterator.script() + ": "
+                        + previous + " and " + transliterator);
+            }
+        }
+        if (!this.transliterators.containsKey(DEFAULT_SCRIPT)) {
+            throw new IllegalStateException("No engine for the default script " + DEFAULT_SCRIPT);
+        }
+    }
+
+    /**
+     * The engine for {@code script}, or the default script's engine if there is none.
+     */
+    public TransliteratePort get(Script script) {
+        TransliteratePort transliterator = transliterators.get(script);
+        return transliterator != null ? transliterator : transliterators.get(DEFAULT_SCRIPT);
+    }
+
+    /**
+     * A script name from a request, resolved without exceptions; empty when it
+     * is unknown or has no engine. See {@link Script#fromName(String)}.
+     */
+    public Optional<Script> parse(String name) {
+        return Script.fromName(name).filter(transliterators::containsKey);
+    }
+
+    public Script parseOrDefault(String name) {
+        return parse(name).orElse(DEFAULT_SCRIPT);
+    }
+
+    /**
+     * Scripts with an engine, in declaration order.
+     */
+    public List<Script> scripts() {
+        return List.copyOf(transliterators.keySet());
+    }
+
+    public Map<Script, TransliteratePort> asMap() {
+        return Collections.unmodifiableMap(transliterators);
+    }
+}
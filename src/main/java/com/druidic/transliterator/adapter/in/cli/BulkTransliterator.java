@@ -0,0 +1,210 @@
+package com.druidic.transliterator.adapter.in.cli;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Inbound CLI adapter — transliterates whole files offline.
+ * Depends only on TransliteratePort, like the web adapters.
+ *
+ * Each input is memory-mapped and cut into windows that end just after a
+ * space or newline byte. Every engine resets its state there, and neither
+ * byte can occur inside a multi-byte UTF-8 sequence, so windows decode and
+ * transliterate independently. Windows run on a thread pool and are written
+ * back in order; at most two windows per thread are in flight, which bounds
+ * memory regardless of file size. A window grows past its size only to finish
+ * a word, by at most {@link #MAX_WORD_BYTES}; a file with a longer run of
+ * bytes and no space or newline is rejected rather than read whole.
+ */
+public class BulkTransliterator {
+
+    static final int MAX_WORD_BYTES = 1 << 20;
+
+    private final TransliteratePort transliterator;
+    private final Script script;
+    private final int threads;
+    private final int windowBytes;
+
+    public BulkTransliterator(TransliteratePort transliterator, Script script, int threads, int windowBytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        if (windowBytes < 1) {
+            throw new IllegalArgumentException("windowBytes must be at least 1");
+        }
+        this.transliterator = transliterator;
+        this.script = script;
+        this.threads = threads;
+        this.windowBytes = windowBytes;
+    }
+
+    public record Report(int files, long bytesRead, long bytesWritten, long nanos) {
+
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : (bytesRead / 1_000_000.0) / (nanos / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * Transliterates every input file, and every regular file under each input
+     * directory, into {@code outputDir}. Files found under a directory keep
+     * their path relative to it.
+     */
+    public Report transliterate(List<Path> inputs, Path outputDir) throws IOException {
+        long start = System.nanoTime();
+        int files = 0;
+        long bytesRead = 0;
+        long bytesWritten = 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Path input : inputs) {
+                for (Path[] job : expand(input, outputDir)) {
+                    long[] counts = transliterateFile(job[0], job[1], pool);
+                    files++;
+                    bytesRead += counts[0];
+                    bytesWritten += counts[1];
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new Report(files, bytesRead, bytesWritten, System.nanoTime() - start);
+    }
+
+    private List<Path[]> expand(Path input, Path outputDir) throws IOException {
+        List<Path[]> jobs = new ArrayList<>();
+        if (Files.isDirectory(input)) {
+            try (Stream<Path> walk = Files.walk(input)) {
+                for (Path file : walk.filter(Files::isRegularFile).sorted().toList()) {
+                    jobs.add(new Path[] {file, outputDir.resolve(input.relativize(file).toString())});
+                }
+            }
+        } else if (Files.isRegularFile(input)) {
+            jobs.add(new Path[] {input, outputDir.resolve(input.getFileName().toString())});
+        } else {
+            throw new IOException("No such file or directory: " + input);
+        }
+        return jobs;
+    }
+
+    private long[] transliterateFile(Path input, Path output, ExecutorService pool) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        long written = 0;
+        int maxInFlight = threads * 2;
+        Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                MappedByteBuffer window = nextWindow(in, position, size);
+                position += window.limit();
+                inFlight.add(pool.submit(() -> transliterateWindow(window)));
+
+                if (inFlight.size() >= maxInFlight) {
+                    written += write(out, inFlight.poll());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                written += write(out, inFlight.poll());
+            }
+            return new long[] {size, written};
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Maps the next window, trimmed back to just after its last space or newline.
+     * A window with no such byte is grown until one is found or the file ends,
+     * up to {@link #MAX_WORD_BYTES} past the window size.
+     */
+    private MappedByteBuffer nextWindow(FileChannel in, long position, long size) throws IOException {
+        long limit = Math.min((long) windowBytes + MAX_WORD_BYTES, Integer.MAX_VALUE);
+        long length = Math.min(windowBytes, size - position);
+        while (true) {
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return window;
+            }
+            for (int i = (int) length - 1; i >= 0; i--) {
+                byte b = window.get(i);
+                if (b == ' ' || b == '\n') {
+                    window.limit(i + 1);
+                    return window;
+                }
+            }
+            if (length >= limit) {
+                throw new IOException("No space or newline within " + limit + " bytes at offset " + position);
+            }
+            length = Math.min(Math.min(length * 2, limit), size - position);
+        }
+    }
+
+    private byte[] transliterateWindow(ByteBuffer window) throws CharacterCodingException {
+        String text = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(window)
+                .toString();
+
+        // The engines return "" for blank input; inside a file those spaces
+        // and newlines are still word separators, so keep them.
+        String runes = text.isBlank()
+                ? text.replaceAll("[^ \n]", "")
+                : transliterator.transliterate(new TransliterationRequest(text, script)).runeText();
+
+        return runes.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long write(FileChannel out, Future<byte[]> pending) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while transliterating", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Transliteration failed", e.getCause());
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return bytes.length;
+    }
+}
@@ -0,0 +1,10 @@
+package com.druidic.transliterator.adapter.in.jobs;
+
+/**
+ * Scheduling lane of a job. Each lane has its own threads and its own bounded
+ * queue, so a backlog of bulk work never delays interactive jobs.
+ */
+public enum JobLane {
+    INTERACTIVE,
+    BULK
+}
@@ -0,0 +1,500 @@
+package com.druidic.transliterator.adapter.in.jobs;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.core.CheckpointIndex;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs transliteration jobs off the request threads.
+ *
+ * Each {@link JobLane} is a fixed pool with its own bounded queue. Small jobs
+ * go to the interactive lane and everything else to the bulk lane, whose
+ * threads also run at minimum priority — so bulk work can neither hold up
+ * interactive jobs nor compete with the threads serving pages. A full lane
+ * refuses new jobs instead of queueing without bound.
+ *
+ * Long texts are transliterated in chunks cut after a space or newline, when
+ * the engine allows it, so progress is visible and cancellation takes effect
+ * between chunks. Finished jobs are kept for {@code result-ttl}, then forgotten
+ * by a periodic sweep; beyond {@code retained-jobs} jobs or
+ * {@code retained-chars} of inputs and results, the oldest go first. Reading
+ * a page of a seekable job restarts its {@code result-ttl} and makes it the
+ * newest, so an index stays while someone is paging through it.
+ *
+ * A seekable job is cut the same way every {@code checkpoint-chars} and keeps
+ * only where each piece starts in the input and output, as a
+ * {@link CheckpointIndex}; a page of its output is then produced by
+ * transliterating just the pieces under it, so reading page N costs the
+ * same as reading page 1.
+ */
+@Component
+public class JobScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
+
+    static final int CHUNK_CHARS = 64 * 1024;
+
+    public static final int MAX_PAGE_CHARS = 64 * 1024;
+
+    static final int DEFAULT_CHECKPOINT_CHARS = 4096;
+
+    static final int DEFAULT_RETAINED_JOBS = 1000;
+
+    static final long DEFAULT_RETAINED_CHARS = 50_000_000;
+
+    public record Settings(int interactiveThreads, int bulkThreads, int maxQueued,
+                           long smallJobChars, Duration resultTtl, int checkpointChars,
+                           int retainedJobs, long retainedChars) {
+
+        public Settings(int interactiveThreads, int bulkThreads, int maxQueued, long smallJobChars, Duration resultTtl) {
+            this(interactiveThreads, bulkThreads, maxQueued, smallJobChars, resultTtl, DEFAULT_CHECKPOINT_CHARS);
+        }
+
+        public Settings(int interactiveThreads, int bulkThreads, int maxQueued, long smallJobChars, Duration resultTtl,
+                        int checkpointChars) {
+            this(interactiveThreads, bulkThreads, maxQueued, smallJobChars, resultTtl, checkpointChars,
+                    DEFAULT_RETAINED_JOBS, DEFAULT_RETAINED_CHARS);
+        }
+    }
+
+    /**
+     * Part of one text's output: {@code runeText} starts at {@code offset}
+     * of {@code outputLength} characters in all.
+     */
+    public record Page(int offset, int outputLength, String runeText) {}
+
+    private final Map<Script, TransliteratePort> transliterators;
+    private final Settings settings;
+    private final Clock clock;
+    private final Map<JobLane, ThreadPoolExecutor> lanes = new EnumMap<>(JobLane.class);
+    private final Map<String, TransliterationJob> jobs = new ConcurrentHashMap<>();
+    // Finished jobs, oldest first; guards retainedChars too
+    private final LinkedHashMap<String, TransliterationJob> finished = new LinkedHashMap<>();
+    private long retainedChars;
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public JobScheduler(ScriptRegistry scripts,
+                        @Value("${transliterator.jobs.interactive-threads:2}") int interactiveThreads,
+                        @Value("${transliterator.jobs.bulk-threads:1}") int bulkThreads,
+                        @Value("${transliterator.jobs.max-queued:100}") int maxQueued,
+                        @Value("${transliterator.jobs.small-job-chars:10000}") long smallJobChars,
+                        @Value("${transliterator.jobs.result-ttl:15m}") Duration resultTtl,
+                        @Value("${transliterator.jobs.checkpoint-chars:4096}") int checkpointChars,
+                        @Value("${transliterator.jobs.retained-jobs:1000}") int retainedJobs,
+                        @Value("${transliterator.jobs.retained-chars:50000000}") long retainedChars) {
+        this(scripts.asMap(), new Settings(interactiveThreads, bulkThreads, maxQueued, smallJobChars, resultTtl,
+                checkpointChars, retainedJobs, retainedChars), Clock.systemUTC());
+    }
+
+    JobScheduler(Map<Script, TransliteratePort> transliterators, Settings settings, Clock clock) {
+        if (settings.interactiveThreads() < 1 || settings.bulkThreads() < 1) {
+            throw new IllegalArgumentException("Each lane needs at least one thread");
+        }
+        if (settings.maxQueued() < 1) {
+            throw new IllegalArgumentException("max-queued must be at least 1");
+        }
+        if (settings.checkpointChars() < 1) {
+            throw new IllegalArgumentException("checkpoint-chars must be at least 1");
+        }
+        if (settings.retainedJobs() < 1 || settings.retainedChars() < 1) {
+            throw new IllegalArgumentException("retained-jobs and retained-chars must be at least 1");
+        }
+        this.transliterators = Map.copyOf(transliterators);
+        this.settings = settings;
+        this.clock = clock;
+        lanes.put(JobLane.INTERACTIVE, lane(JobLane.INTERACTIVE, settings.interactiveThreads(), Thread.NORM_PRIORITY));
+        lanes.put(JobLane.BULK, lane(JobLane.BULK, settings.bulkThreads(), Thread.MIN_PRIORITY));
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, Math.min(settings.resultTtl().toMillis() / 10, 60_000));
+        sweeper.scheduleWithFixedDelay(this::sweep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The lane a job of this size runs in. Asking for bulk always gets bulk;
+     * only small jobs are interactive.
+     */
+    public JobLane laneFor(long totalChars, JobLane requested) {
+        return requested != JobLane.BULK && totalChars <= settings.smallJobChars() ? JobLane.INTERACTIVE : JobLane.BULK;
+    }
+
+    /**
+     * Queues a job, or returns empty if its lane's queue is full.
+     */
+    public Optional<TransliterationJob> submit(Script script, List<String> texts, JobLane requested) {
+        return submit(script, texts, requested, false);
+    }
+
+    /**
+     * Queues a job that, when {@code seekable}, keeps checkpoint indexes
+     * rather than results; see {@link #page(TransliterationJob, int, int, int)}.
+     */
+    public Optional<TransliterationJob> submit(Script script, List<String> texts, JobLane requested, boolean seekable) {
+        JobLane lane = laneFor(TransliterationJob.totalChars(texts), requested);
+        TransliterationJob job = new TransliterationJob(script, lane, texts, seekable, clock.instant());
+        // Registered first, so a job that finishes at once is retained like any other
+        jobs.put(job.id(), job);
+        try {
+            job.attach(lanes.get(lane).submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    // A job past its result-ttl is gone even if the sweep hasn't reached it yet
+    public Optional<TransliterationJob> find(String id) {
+        TransliterationJob job = jobs.get(id);
+        return job == null || isExpired(job, clock.instant().minus(settings.resultTtl()))
+                ? Optional.empty() : Optional.of(job);
+    }
+
+    /**
+     * Cancels a queued or running job. Returns false for an unknown or already
+     * finished job.
+     */
+    public boolean cancel(String id) {
+        TransliterationJob job = jobs.get(id);
+        if (job == null || !job.cancel(clock.instant())) {
+            return false;
+        }
+        lanes.get(job.lane()).purge();
+        if (job.state().isFinished()) {
+            retain(job);
+        }
+        return true;
+    }
+
+    /**
+     * Drops a job and its results; a job still in progress is cancelled first.
+     */
+    public boolean discard(String id) {
+        TransliterationJob job = jobs.remove(id);
+        if (job == null) {
+            return false;
+        }
+        if (job.cancel(clock.instant())) {
+            lanes.get(job.lane()).purge();
+        }
+        synchronized (finished) {
+            if (finished.remove(id) != null) {
+                retainedChars -= job.retainedChars();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Up to {@code length} characters of text {@code text}'s output from
+     * {@code offset}, once the job has succeeded. Offsets past the end give
+     * an empty page. A seekable job transliterates only the checkpoint
+     * segments covering the range, on the calling thread.
+     */
+    public Optional<Page> page(TransliterationJob job, int text, int offset, int length) {
+        if (job.state() != TransliterationJob.State.SUCCEEDED) {
+            return Optional.empty();
+        }
+        if (!job.isSeekable()) {
+            String result = job.result(text);
+            int from = Math.min(offset, result.length());
+            int to = (int) Math.min((long) from + length, result.length());
+            return Optional.of(new Page(from, result.length(), result.substring(from, to)));
+        }
+
+        touch(job);
+        CheckpointIndex index = job.index(text);
+        int from = Math.min(offset, index.outputLength());
+        int to = (int) Math.min((long) from + length, index.outputLength());
+        if (from == to) {
+            return Optional.of(new Page(from, index.outputLength(), ""));
+        }
+        int first = index.floor(from);
+        int last = index.ceiling(to);
+        String input = job.texts().get(text);
+        TransliteratePort transliterator = transliterators.get(job.script());
+        StringBuilder window = new StringBuilder(index.outputOffset(last) - index.outputOffset(first));
+        for (int checkpoint = first; checkpoint < last; checkpoint++) {
+            window.append(segment(transliterator, job.script(), input,
+                    index.inputOffset(checkpoint), index.inputOffset(checkpoint + 1)));
+        }
+        int base = index.outputOffset(first);
+        return Optional.of(new Page(from, index.outputLength(), window.substring(from - base, to - base)));
+    }
+
+    public int queued(JobLane lane) {
+        return lanes.get(lane).getQueue().size();
+    }
+
+    int retainedJobs() {
+        synchronized (finished) {
+            return finished.size();
+        }
+    }
+
+    boolean isRetained(String id) {
+        synchronized (finished) {
+            return finished.containsKey(id);
+        }
+    }
+
+    long retainedChars() {
+        synchronized (finished) {
+            return retainedChars;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+        lanes.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private void run(TransliterationJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            execute(job);
+        } finally {
+            retain(job);
+        }
+    }
+
+    private void execute(TransliterationJob job) {
+        TransliteratePort transliterator = transliterators.get(job.script());
+        try {
+            List<String> texts = job.texts();
+            for (int i = 0; i < texts.size(); i++) {
+                if (job.isSeekable()) {
+                    CheckpointIndex index = index(transliterator, job, texts.get(i));
+                    if (index == null) {
+                        job.finish(TransliterationJob.State.CANCELLED, null, clock.instant());
+                        return;
+                    }
+                    job.completeIndex(i, index);
+                    continue;
+                }
+                String result = transliterate(transliterator, job, texts.get(i));
+                if (result == null) {
+                    job.finish(TransliterationJob.State.CANCELLED, null, clock.instant());
+                    return;
+                }
+                job.completeText(i, result);
+            }
+            job.finish(TransliterationJob.State.SUCCEEDED, null, clock.instant());
+        } catch (RuntimeException e) {
+            job.finish(TransliterationJob.State.FAILED, e.getMessage(), clock.instant());
+        }
+    }
+
+    // Returns null once the job has been asked to stop
+    private String transliterate(TransliteratePort transliterator, TransliterationJob job, String text) {
+        if (job.isCancelRequested()) {
+            return null;
+        }
+        if (text.length() <= CHUNK_CHARS || !transliterator.isWhitespaceContextFree()) {
+            String result = transliterator.transliterate(new TransliterationRequest(text, job.script())).runeText();
+            job.advance(text.length());
+            return result;
+        }
+        if (text.isBlank()) {
+            job.advance(text.length());
+            return "";
+        }
+
+        StringBuilder out = new StringBuilder(text.length() * 2);
+        int start = 0;
+        while (start < text.length()) {
+            if (job.isCancelRequested()) {
+                return null;
+            }
+            int end = chunkEnd(text, start);
+            out.append(segment(transliterator, job.script(), text, start, end));
+            job.advance(end - start);
+            start = end;
+        }
+        return out.toString();
+    }
+
+    // Transliterates piece by piece like a long text, keeping only the output
+    // offset at the end of each piece. Returns null once the job has been asked to stop.
+    private CheckpointIndex index(TransliteratePort transliterator, TransliterationJob job, String text) {
+        CheckpointIndex.Builder index = new CheckpointIndex.Builder();
+        // A blank text has no output; an engine with state across whitespace
+        // can only be restarted at the beginning
+        if (text.isBlank() || !transliterator.isWhitespaceContextFree()) {
+            if (job.isCancelRequested()) {
+                return null;
+            }
+            int outputLength = text.isBlank() ? 0
+                    : transliterator.transliterate(new TransliterationRequest(text, job.script())).runeText().length();
+            job.advance(text.length());
+            return text.isEmpty() ? index.build() : index.add(text.length(), outputLength).build();
+        }
+
+        int start = 0;
+        int output = 0;
+        while (start < text.length()) {
+            if (job.isCancelRequested()) {
+                return null;
+            }
+            int end = chunkEnd(text, start, settings.checkpointChars());
+            output += segment(transliterator, job.script(), text, start, end).length();
+            index.add(end, output);
+            job.advance(end - start);
+            start = end;
+        }
+        return index.build();
+    }
+
+    // One piece of a longer text, cut just after a space or newline
+    private static String segment(TransliteratePort transliterator, Script script, String text, int start, int end) {
+        String chunk = text.substring(start, end);
+        return chunk.isBlank() ? separators(chunk)
+                : transliterator.transliterate(new TransliterationRequest(chunk, script)).runeText();
+    }
+
+    static int chunkEnd(String text, int start) {
+        return chunkEnd(text, start, CHUNK_CHARS);
+    }
+
+    // Ends just after the last space or newline within chars, or the first
+    // one past it when a single word is longer than that
+    static int chunkEnd(String text, int start, int chars) {
+        int limit = (int) Math.min(text.length(), (long) start + chars);
+        if (limit == text.length()) {
+            return limit;
+        }
+        for (int i = limit - 1; i >= start; i--) {
+            if (isSeparator(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        for (int i = limit; i < text.length(); i++) {
+            if (isSeparator(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return text.length();
+    }
+
+    // A blank chunk inside a longer text keeps its spaces and newlines, as it
+    // would have in the whole text; engines return nothing for blank input
+    private static String separators(String chunk) {
+        StringBuilder kept = new StringBuilder();
+        for (int i = 0; i < chunk.length(); i++) {
+            if (isSeparator(chunk.charAt(i))) {
+                kept.append(chunk.charAt(i));
+            }
+        }
+        return kept.toString();
+    }
+
+    private static boolean isSeparator(char ch) {
+        return ch == ' ' || ch == '\n';
+    }
+
+    // Counts a newly finished job against the caps, evicting the oldest over them
+    private void retain(TransliterationJob job) {
+        synchronized (finished) {
+            if (!jobs.containsKey(job.id()) || finished.putIfAbsent(job.id(), job) != null) {
+                return;
+            }
+            retainedChars += job.retainedChars();
+            Iterator<TransliterationJob> oldest = finished.values().iterator();
+            while (finished.size() > 1
+                    && (finished.size() > settings.retainedJobs() || retainedChars > settings.retainedChars())) {
+                forget(oldest.next(), oldest);
+            }
+        }
+    }
+
+    // Moves a job just read to the newest end, keeping the order the sweep relies on
+    private void touch(TransliterationJob job) {
+        synchronized (finished) {
+            job.read(clock.instant());
+            if (finished.remove(job.id()) != null) {
+                finished.put(job.id(), job);
+            }
+        }
+    }
+
+    private void sweep() {
+        try {
+            expireFinished();
+        } catch (RuntimeException e) {
+            // an exception would cancel the schedule
+            log.warn("Finished-job sweep failed", e);
+        }
+    }
+
+    // Jobs are kept in the order they finished or were last read, so the
+    // sweep stops at the first one still fresh
+    void expireFinished() {
+        Instant cutoff = clock.instant().minus(settings.resultTtl());
+        synchronized (finished) {
+            Iterator<TransliterationJob> oldest = finished.values().iterator();
+            while (oldest.hasNext()) {
+                TransliterationJob job = oldest.next();
+                if (!isExpired(job, cutoff)) {
+                    return;
+                }
+                forget(job, oldest);
+            }
+        }
+    }
+
+    private void forget(TransliterationJob job, Iterator<TransliterationJob> position) {
+        position.remove();
+        retainedChars -= job.retainedChars();
+        jobs.remove(job.id());
+    }
+
+    private static boolean isExpired(TransliterationJob job, Instant cutoff) {
+        return job.state().isFinished() && job.retainedSince() != null && job.retainedSince().isBefore(cutoff);
+    }
+
+    private ThreadPoolExecutor lane(JobLane lane, int threads, int priority) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "job-" + lane.name().toLowerCase() + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.maxQueued()), factory, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
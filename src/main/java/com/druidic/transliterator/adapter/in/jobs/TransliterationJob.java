@@ -0,0 +1,202 @@
+package com.druidic.transliterator.adapter.in.jobs;
+
+import com.druidic.transliterator.core.CheckpointIndex;
+import com.druidic.transliterator.core.Script;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One submitted batch of texts and everything known about its progress.
+ * State moves QUEUED → RUNNING → SUCCEEDED | FAILED | CANCELLED; a queued job
+ * may also be cancelled directly.
+ *
+ * A seekable job keeps a {@link CheckpointIndex} per text instead of its
+ * output, and is read a page at a time through
+ * {@link JobScheduler#page(TransliterationJob, int, int, int)}.
+ */
+public class TransliterationJob {
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    public record Snapshot(String id, State state, JobLane lane, Script script, boolean seekable, int texts,
+                           long processedChars, long totalChars, double progress,
+                           Instant submittedAt, Instant finishedAt, String error) {}
+
+    private final String id = UUID.randomUUID().toString();
+    private final Script script;
+    private final JobLane lane;
+    private final List<String> texts;
+    private final long totalChars;
+    private final Instant submittedAt;
+    private final boolean seekable;
+    private final String[] results;
+    private final CheckpointIndex[] indexes;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+    private final AtomicLong processedChars = new AtomicLong();
+    private volatile boolean cancelRequested;
+    private volatile Instant finishedAt;
+    private volatile Instant lastRead;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    TransliterationJob(Script script, JobLane lane, List<String> texts, boolean seekable, Instant submittedAt) {
+        this.script = script;
+        this.lane = lane;
+        this.texts = List.copyOf(texts);
+        this.totalChars = totalChars(texts);
+        this.submittedAt = submittedAt;
+        this.seekable = seekable;
+        this.results = seekable ? null : new String[texts.size()];
+        this.indexes = seekable ? new CheckpointIndex[texts.size()] : null;
+    }
+
+    static long totalChars(List<String> texts) {
+        return texts.stream().mapToLong(String::length).sum();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public boolean isSeekable() {
+        return seekable;
+    }
+
+    public int textCount() {
+        return texts.size();
+    }
+
+    /**
+     * Results in submission order, once the job has succeeded; never for a
+     * seekable job, which keeps none.
+     */
+    public Optional<List<String>> results() {
+        return state.get() == State.SUCCEEDED && !seekable ? Optional.of(Arrays.asList(results.clone())) : Optional.empty();
+    }
+
+    public Snapshot snapshot() {
+        long processed = processedChars.get();
+        double progress = totalChars == 0 ? (state.get() == State.SUCCEEDED ? 1 : 0) : (double) processed / totalChars;
+        return new Snapshot(id, state.get(), lane, script, seekable, texts.size(), processed, totalChars,
+                progress, submittedAt, finishedAt, error);
+    }
+
+    Script script() {
+        return script;
+    }
+
+    JobLane lane() {
+        return lane;
+    }
+
+    List<String> texts() {
+        return texts;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    // What result-ttl counts from: the last page read, if any, else the finish
+    Instant retainedSince() {
+        Instant read = lastRead;
+        return read != null ? read : finishedAt;
+    }
+
+    void read(Instant at) {
+        lastRead = at;
+    }
+
+    // Inputs plus kept results, or for a seekable job its indexes at two
+    // ints (four chars' worth) per checkpoint; fixed once the job has finished
+    long retainedChars() {
+        long chars = totalChars;
+        if (seekable) {
+            for (CheckpointIndex index : indexes) {
+                chars += index == null ? 0 : 4L * index.size();
+            }
+            return chars;
+        }
+        for (String result : results) {
+            chars += result == null ? 0 : result.length();
+        }
+        return chars;
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    boolean start() {
+        return state.compareAndSet(State.QUEUED, State.RUNNING);
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void completeText(int index, String result) {
+        results[index] = result;
+    }
+
+    void completeIndex(int index, CheckpointIndex checkpoints) {
+        indexes[index] = checkpoints;
+    }
+
+    // Only read once the job has succeeded
+    String result(int index) {
+        return results[index];
+    }
+
+    CheckpointIndex index(int index) {
+        return indexes[index];
+    }
+
+    void advance(long chars) {
+        processedChars.addAndGet(chars);
+    }
+
+    void finish(State outcome, String error, Instant at) {
+        this.error = error;
+        this.finishedAt = at;
+        state.set(outcome);
+    }
+
+    /**
+     * A queued job is cancelled at once and leaves its queue; a running job
+     * stops at its next chunk boundary. Returns false if the job already finished.
+     */
+    boolean cancel(Instant at) {
+        if (state.compareAndSet(State.QUEUED, State.CANCELLED)) {
+            finishedAt = at;
+            Future<?> queued = future;
+            if (queued != null) {
+                queued.cancel(false);
+            }
+            return true;
+        }
+        if (state.get() == State.RUNNING) {
+            cancelRequested = true;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,175 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.out.cache.HeavyHitters;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the heaviest inputs hot in whatever result cache sits in front of the
+ * engines, by transliterating them through the same ports the controllers use.
+ *
+ * At boot it restores the top-N saved at the last shutdown and warms them,
+ * before {@link WarmUpRunner} runs, so readiness waits for both. Every
+ * {@code refresh-interval} it halves the counts, so stale phrases fade, and
+ * re-warms the current top-N. With no snapshot file configured, nothing
+ * survives a restart, but the periodic refresh still runs.
+ */
+@Component
+public class HeavyHitterWarmer implements ApplicationRunner, Ordered, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HeavyHitterWarmer.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x48485331; // "HHS1"
+
+    private final Map<Script, TransliteratePort> transliterators;
+    private final HeavyHitters heavyHitters;
+    private final int prewarmCount;
+    private final Duration refreshInterval;
+    private final Path snapshotFile;
+    private ScheduledExecutorService refresher;
+
+    public HeavyHitterWarmer(ScriptRegistry scripts,
+                             HeavyHitters heavyHitters,
+                             @Value("${transliterator.heavy-hitters.prewarm-count:100}") int prewarmCount,
+                             @Value("${transliterator.heavy-hitters.refresh-interval:5m}") Duration refreshInterval,
+                             @Value("${transliterator.heavy-hitters.snapshot-file:}") String snapshotFile) {
+        this.transliterators = scripts.asMap();
+        this.heavyHitters = heavyHitters;
+        this.prewarmCount = prewarmCount;
+        this.refreshInterval = refreshInterval;
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (snapshotFile != null && Files.isRegularFile(snapshotFile)) {
+            try {
+                List<HeavyHitters.Entry> restored = read(snapshotFile);
+                restored.forEach(entry -> heavyHitters.add(entry.script(), entry.text(), entry.estimate()));
+                log.info("Restored {} heavy hitters from {}, pre-warmed {}", restored.size(), snapshotFile, prewarm());
+            } catch (IOException e) {
+                log.warn("Could not restore heavy hitters from {}: {}", snapshotFile, e.getMessage());
+            }
+        }
+
+        if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "heavy-hitter-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = refreshInterval.toMillis();
+            refresher.scheduleAtFixedRate(this::refresh, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Ahead of WarmUpRunner, so restored entries are warm before readiness
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Transliterates the current top-N once each; returns how many were warmed.
+     */
+    public int prewarm() {
+        List<HeavyHitters.Entry> top = heavyHitters.top(prewarmCount);
+        for (HeavyHitters.Entry entry : top) {
+            transliterators.get(entry.script()).transliterate(new TransliterationRequest(entry.text(), entry.script()));
+        }
+        return top.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        if (snapshotFile != null) {
+            try {
+                write(snapshotFile, heavyHitters.top(heavyHitters.capacity()));
+            } catch (IOException e) {
+                log.warn("Could not save heavy hitters to {}: {}", snapshotFile, e.getMessage());
+            }
+        }
+    }
+
+    private void refresh() {
+        try {
+            heavyHitters.age();
+            prewarm();
+        } catch (RuntimeException e) {
+            // an exception would cancel the schedule
+            log.warn("Heavy-hitter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    static void write(Path file, List<HeavyHitters.Entry> entries) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path partial = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(entries.size());
+            for (HeavyHitters.Entry entry : entries) {
+                out.writeUTF(entry.script().name());
+                out.writeLong(entry.estimate());
+                out.writeUTF(entry.text());
+            }
+        }
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Entries for scripts this build no longer has are skipped
+    static List<HeavyHitters.Entry> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("not a heavy-hitter snapshot");
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("corrupt heavy-hitter snapshot");
+            }
+            List<HeavyHitters.Entry> entries = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                String script = in.readUTF();
+                long estimate = in.readLong();
+                String text = in.readUTF();
+                for (Script known : Script.values()) {
+                    if (known.name().equals(script)) {
+                        entries.add(new HeavyHitters.Entry(known, text, estimate));
+                    }
+                }
+            }
+            return entries;
+        }
+    }
+}
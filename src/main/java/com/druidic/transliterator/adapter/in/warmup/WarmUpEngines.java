@@ -0,0 +1,41 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The engines as they were created, before the memo, result store or any
+ * other decorator wraps them. {@link WarmUpRunner} drives these directly:
+ * through the caches its synthetic texts would fill them with junk, and after
+ * a warm restart every call would be a hit that never reaches an engine.
+ */
+@Component
+public class WarmUpEngines implements BeanPostProcessor {
+
+    private final Map<Script, TransliteratePort> engines = Collections.synchronizedMap(new EnumMap<>(Script.class));
+
+    // Runs before every decorator's postProcessAfterInitialization
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof TransliteratePort engine) {
+            register(engine);
+        }
+        return bean;
+    }
+
+    public void register(TransliteratePort engine) {
+        engines.put(engine.script(), engine);
+    }
+
+    public Map<Script, TransliteratePort> engines() {
+        synchronized (engines) {
+            return new EnumMap<>(engines);
+        }
+    }
+}
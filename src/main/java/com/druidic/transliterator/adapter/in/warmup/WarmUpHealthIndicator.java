@@ -0,0 +1,31 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Readiness contributor — OUT_OF_SERVICE until the boot warm-up has finished,
+ * so the load balancer only routes traffic to an instance with compiled hot paths.
+ * Included in the readiness group as {@code warmUp}.
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private volatile Health health = Health.outOfService().withDetail("phase", "pending").build();
+
+    void running(String phase) {
+        health = Health.outOfService().withDetail("phase", phase).build();
+    }
+
+    void finished(Map<String, Object> details) {
+        health = Health.up().withDetails(details).build();
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+}
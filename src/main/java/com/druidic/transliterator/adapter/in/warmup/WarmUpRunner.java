@@ -0,0 +1,178 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Runs a synthetic workload at boot so the first real requests hit compiled code.
+ *
+ * Phase one calls every engine directly, undecorated (see {@link WarmUpEngines});
+ * phase two sends real HTTP requests to the local server, covering the JSON API, Jackson (legend) and the Thymeleaf
+ * index template. Runs synchronously as an ApplicationRunner, so Spring keeps
+ * the instance's readiness at REFUSING_TRAFFIC until it is done; the
+ * {@link WarmUpHealthIndicator} reports progress. The HTTP phase is skipped
+ * when no server is listening (e.g. under MockMvc); its requests carry
+ * {@link #HEADER} so they stay out of the traffic statistics.
+ */
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    public static final String HEADER = "X-Warm-Up";
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private final WarmUpEngines engines;
+    private final WarmUpHealthIndicator indicator;
+    private final Environment environment;
+    private final boolean enabled;
+    private final int engineIterations;
+    private final int httpIterations;
+    private final Duration maxDuration;
+
+    public WarmUpRunner(WarmUpEngines engines,
+                        WarmUpHealthIndicator indicator,
+                        Environment environment,
+                        @Value("${transliterator.warmup.enabled:true}") boolean enabled,
+                        @Value("${transliterator.warmup.engine-iterations:20000}") int engineIterations,
+                        @Value("${transliterator.warmup.http-iterations:300}") int httpIterations,
+                        @Value("${transliterator.warmup.max-duration:30s}") Duration maxDuration) {
+        this.engines = engines;
+        this.indicator = indicator;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.engineIterations = engineIterations;
+        this.httpIterations = httpIterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        if (!enabled) {
+            details.put("skipped", "disabled");
+            indicator.finished(details);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        Random random = new Random(42);
+        // Read now: every engine bean exists once the context has started
+        Map<Script, TransliteratePort> transliterators = engines.engines();
+
+        indicator.running("engines");
+        int engineCalls = warmEngines(transliterators, random, deadline);
+        details.put("engineCalls", engineCalls);
+
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port != null && port > 0) {
+            indicator.running("http");
+            details.put("httpRequests", warmHttp(port, transliterators.keySet(), random, deadline));
+        } else {
+            details.put("httpRequests", "skipped: no local server");
+        }
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        details.put("durationMs", elapsedMillis);
+        details.put("deadlineReached", System.nanoTime() > deadline);
+        log.info("Warm-up finished in {} ms: {}", elapsedMillis, details);
+        indicator.finished(details);
+    }
+
+    private int warmEngines(Map<Script, TransliteratePort> transliterators, Random random, long deadline) {
+        int calls = 0;
+        for (int i = 0; i < engineIterations && System.nanoTime() < deadline; i++) {
+            String text = syntheticText(random, 1 + random.nextInt(40));
+            for (Map.Entry<Script, TransliteratePort> engine : transliterators.entrySet()) {
+                TransliterationRequest request = new TransliterationRequest(text, engine.getKey());
+                engine.getValue().transliterate(request);
+                try {
+                    engine.getValue().writeJsonUtf8(request, OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                calls += 2;
+            }
+        }
+        return calls;
+    }
+
+    private int warmHttp(int port, Collection<Script> scripts, Random random, long deadline) {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        String base = "http://localhost:" + port;
+
+        List<Script> order = List.copyOf(scripts);
+        int requests = 0;
+        for (int i = 0; i < httpIterations && System.nanoTime() < deadline; i++) {
+            Script script = order.get(i % order.size());
+            String text = URLEncoder.encode(syntheticText(random, 1 + random.nextInt(20)), StandardCharsets.UTF_8);
+            for (String path : new String[] {
+                    "/api/transliterate?text=" + text + "&script=" + script.name(),
+                    "/api/legend?script=" + script.name(),
+                    "/?text=" + text + "&script=" + script.name()}) {
+                try {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                            .timeout(Duration.ofSeconds(5))
+                            .header(HEADER, "true")
+                            .GET()
+                            .build();
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    requests++;
+                } catch (IOException e) {
+                    log.warn("Warm-up request to {} failed, skipping HTTP warm-up: {}", path, e.getMessage());
+                    return requests;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return requests;
+                }
+            }
+        }
+        return requests;
+    }
+
+    // Random lower- and upper-case words with the odd punctuation mark and
+    // newline, so every branch of every engine gets exercised.
+    static String syntheticText(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                text.append(random.nextInt(8) == 0 ? '\n' : ' ');
+            }
+            int length = 1 + random.nextInt(9);
+            for (int c = 0; c < length; c++) {
+                char letter = (char) ('a' + random.nextInt(26));
+                text.append(random.nextInt(5) == 0 ? Character.toUpperCase(letter) : letter);
+            }
+            if (random.nextInt(6) == 0) {
+                text.append(",.!?'".charAt(random.nextInt(5)));
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the admin endpoints with a shared token sent in the {@code X-Admin-Token}
+ * header. With no {@code transliterator.admin.token} configured, every admin
+ * request is refused.
+ */
+@Component
+public class AdminAccess {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminAccess(@Value("${transliterator.admin.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean isAllowed(String presented) {
+        if (token.length == 0 || presented == null) {
+            return false;
+        }
+        // Constant-time comparison so the token can't be guessed byte by byte
+        return MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.core.AllocatedBytes;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the bytes each request allocates on its servlet thread — binding,
+ * controller, engine and rendering — as {@code transliterator.request.allocated},
+ * tagged with the handler's URI pattern and the {@code script} parameter.
+ * Work handed to other threads, such as jobs, is not counted.
+ */
+@Component
+@ConditionalOnProperty(name = "transliterator.allocation.enabled", havingValue = "true")
+public class AllocationFilter extends OncePerRequestFilter {
+
+    private final ScriptRegistry scripts;
+    private final MeterRegistry registry;
+
+    public AllocationFilter(ScriptRegistry scripts, MeterRegistry registry) {
+        this.scripts = scripts;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long before = AllocatedBytes.currentThread();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = AllocatedBytes.currentThread() - before;
+            if (AllocatedBytes.supported() && !request.isAsyncStarted()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("transliterator.request.allocated")
+                        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .tag("script", scripts.parse(request.getParameter("script")).map(Enum::name).orElse("none"))
+                        .baseUnit("bytes")
+                        .description("Bytes allocated on the request thread")
+                        .register(registry)
+                        .record(allocated);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.out.font.FontSubsets;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Web fonts cut down to the glyphs a page can show.
+ *
+ * {@code /fonts/subset/TENGWAR.woff} redirects to the subset for every glyph
+ * the Tengwar engine can emit (plus its legend and background glyphs);
+ * with {@code ?text=} it redirects to the subset for that output string
+ * instead. The target URL carries the glyph-set hash, so it is served as
+ * immutable.
+ */
+@RestController
+@RequestMapping("/fonts/subset")
+public class FontSubsetController {
+
+    private static final int MAX_TEXT_LENGTH = 2000;
+
+    private static final MediaType WOFF = MediaType.parseMediaType("font/woff");
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    // Hashes only change when a font or an engine table does, i.e. on deploy
+    private static final CacheControl REDIRECT = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final FontSubsets subsets;
+    private final ScriptRegistry scripts;
+    private final Map<Script, String> scriptGlyphs = new EnumMap<>(Script.class);
+
+    public FontSubsetController(FontSubsets subsets, ScriptRegistry scripts) {
+        this.subsets = subsets;
+        this.scripts = scripts;
+        scripts.asMap().forEach((script, transliterator) -> {
+            if (subsets.supports(script)) {
+                scriptGlyphs.put(script, emittableGlyphs(script, transliterator));
+            }
+        });
+    }
+
+    @GetMapping("/{script}.woff")
+    public ResponseEntity<Void> latest(@PathVariable String script,
+                                       @RequestParam(required = false) String text) {
+        Optional<Script> selected = scripts.parse(script).filter(scriptGlyphs::containsKey);
+        if (selected.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (text != null && text.length() > MAX_TEXT_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        FontSubsets.Subset subset = subsets.subset(selected.get(),
+                text == null ? scriptGlyphs.get(selected.get()) : text).orElseThrow();
+        String location = "/fonts/subset/" + subset.script().name() + "/" + subset.hash() + ".woff";
+        if (text != null) {
+            location += "?g=" + URLEncoder.encode(subset.glyphs(), StandardCharsets.UTF_8);
+        }
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(location))
+                .cacheControl(REDIRECT)
+                .build();
+    }
+
+    /**
+     * A subset by hash. {@code g} lists the glyphs, so the subset can be
+     * rebuilt after a restart; without it the script-wide set is meant.
+     * A hash that does not match the glyphs (a stale link) is not found.
+     */
+    @GetMapping("/{script}/{hash}.woff")
+    public ResponseEntity<byte[]> subset(@PathVariable String script,
+                                         @PathVariable String hash,
+                                         @RequestParam(name = "g", required = false) String glyphs) {
+        Optional<Script> selected = scripts.parse(script).filter(scriptGlyphs::containsKey);
+        if (selected.isEmpty() || (glyphs != null && glyphs.length() > MAX_TEXT_LENGTH)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // Checked before building, so stale or made-up links cost a hash, not a subset
+        String text = glyphs == null ? scriptGlyphs.get(selected.get()) : glyphs;
+        if (!subsets.hash(selected.get(), text).orElseThrow().equals(hash)) {
+            return ResponseEntity.notFound().build();
+        }
+        FontSubsets.Subset subset = subsets.subset(selected.get(), text).orElseThrow();
+        return ResponseEntity.ok()
+                .contentType(WOFF)
+                .cacheControl(IMMUTABLE)
+                .body(subset.woff());
+    }
+
+    // Everything the engine's tables can output, and what the page draws in the font
+    private static String emittableGlyphs(Script script, TransliteratePort transliterator) {
+        StringBuilder glyphs = new StringBuilder(" ");
+        transliterator.getRules().ifPresent(r -> {
+            r.letters().values().forEach(glyphs::append);
+            r.digraphs().values().forEach(glyphs::append);
+            r.vowels().values().forEach(glyphs::append);
+            if (r.carrier() != null) {
+                glyphs.append(r.carrier());
+            }
+            if (r.doublingMark() != null) {
+                glyphs.append(r.doublingMark());
+            }
+        });
+        transliterator.getLegend().stream().map(LegendEntry::glyph).forEach(glyphs::append);
+        Arrays.stream(script.getBackgroundGlyphArray()).forEach(glyphs::append);
+        return glyphs.toString();
+    }
+}
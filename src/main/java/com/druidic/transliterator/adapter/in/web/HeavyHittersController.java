@@ -0,0 +1,61 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.warmup.HeavyHitterWarmer;
+import com.druidic.transliterator.adapter.out.cache.HeavyHitters;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Admin view of the inputs that dominate traffic.
+ * Every call needs the admin token; see {@link AdminAccess}.
+ */
+@RestController
+@RequestMapping("/admin/heavy-hitters")
+public class HeavyHittersController {
+
+    private final HeavyHitters heavyHitters;
+    private final HeavyHitterWarmer warmer;
+    private final AdminAccess adminAccess;
+
+    public HeavyHittersController(HeavyHitters heavyHitters, HeavyHitterWarmer warmer, AdminAccess adminAccess) {
+        this.heavyHitters = heavyHitters;
+        this.warmer = warmer;
+        this.adminAccess = adminAccess;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> top(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be at least 1"));
+        }
+        return ResponseEntity.ok(Map.of(
+                "total", heavyHitters.total(),
+                "capacity", heavyHitters.capacity(),
+                "entries", heavyHitters.top(limit)
+        ));
+    }
+
+    @PostMapping("/prewarm")
+    public ResponseEntity<Map<String, Object>> prewarm(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token) {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(Map.of("prewarmed", warmer.prewarm()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.out.jfr.JfrRecordingService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Admin endpoints for profiling a live instance with Java Flight Recorder.
+ * Every call needs the admin token; see {@link AdminAccess}.
+ */
+@RestController
+@RequestMapping("/admin/jfr")
+public class JfrRecordingController {
+
+    private final JfrRecordingService recordings;
+    private final AdminAccess adminAccess;
+
+    public JfrRecordingController(JfrRecordingService recordings, AdminAccess adminAccess) {
+        this.recordings = recordings;
+        this.adminAccess = adminAccess;
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token,
+            @RequestParam(defaultValue = "default") String configuration,
+            @RequestParam(defaultValue = "600") long maxAgeSeconds,
+            @RequestParam(required = false) Long engineThresholdMillis) throws IOException {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!configuration.equals("default") && !configuration.equals("profile")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "configuration must be default or profile"));
+        }
+        if (maxAgeSeconds < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "maxAgeSeconds must be at least 1"));
+        }
+        if (engineThresholdMillis != null && engineThresholdMillis < 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", "engineThresholdMillis must not be negative"));
+        }
+
+        boolean started;
+        try {
+            started = recordings.start(configuration, Duration.ofSeconds(maxAgeSeconds),
+                    engineThresholdMillis == null ? null : Duration.ofMillis(engineThresholdMillis));
+        } catch (ParseException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
+        }
+        if (!started) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "a recording is already running"));
+        }
+        return ResponseEntity.ok(Map.of("status", "started"));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token) {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!recordings.stop()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "no recording is running"));
+        }
+        return ResponseEntity.ok(Map.of("status", "stopped"));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token) {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(recordings.status()
+                .<Map<String, Object>>map(status -> Map.of(
+                        "state", status.state(),
+                        "configuration", status.configuration(),
+                        "maxAgeSeconds", status.maxAge().toSeconds(),
+                        "sizeBytes", status.sizeBytes()))
+                .orElse(Map.of("state", "NONE")));
+    }
+
+    @GetMapping("/dump")
+    public void dump(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token,
+            HttpServletResponse response) throws IOException {
+
+        if (!adminAccess.isAllowed(token)) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        Optional<Path> dump = recordings.dump();
+        if (dump.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        Path file = dump.get();
+        try {
+            response.setContentType("application/octet-stream");
+            response.setHeader("Content-Disposition", "attachment; filename=\"fantasy-transliterator.jfr\"");
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.in.jobs.JobLane;
+import com.druidic.transliterator.adapter.in.jobs.JobScheduler;
+import com.druidic.transliterator.adapter.in.jobs.TransliterationJob;
+import com.druidic.transliterator.core.Script;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Asynchronous API for work too large for {@code /api/transliterate}.
+ * Jobs run on {@link JobScheduler}'s own threads, never on request threads.
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    /**
+     * {@code seekable} jobs keep a checkpoint index per text instead of the
+     * output, and are read a page at a time from {@code /texts/{index}}.
+     */
+    public record JobSubmission(String script, List<String> texts, String priority, Boolean seekable) {}
+
+    private final JobScheduler scheduler;
+    private final ScriptRegistry scripts;
+    private final long maxChars;
+
+    public JobController(JobScheduler scheduler,
+                         ScriptRegistry scripts,
+                         @Value("${transliterator.jobs.max-chars:5000000}") long maxChars) {
+        this.scheduler = scheduler;
+        this.scripts = scripts;
+        this.maxChars = maxChars;
+    }
+
+    @PostMapping
+    public ResponseEntity<Object> submit(@RequestBody JobSubmission submission) {
+        if (submission.texts() == null || submission.texts().isEmpty() || submission.texts().contains(null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "texts must be a non-empty list of strings"));
+        }
+        Optional<Script> script = submission.script() == null
+                ? Optional.of(ScriptRegistry.DEFAULT_SCRIPT)
+                : scripts.parse(submission.script());
+        if (script.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "unknown script: " + submission.script()));
+        }
+        Optional<JobLane> lane = parse(JobLane.class, submission.priority() == null ? "INTERACTIVE" : submission.priority());
+        if (lane.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "priority must be interactive or bulk"));
+        }
+        long chars = submission.texts().stream().mapToLong(String::length).sum();
+        if (chars > maxChars) {
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE)
+                    .body(Map.of("error", "jobs are limited to " + maxChars + " characters"));
+        }
+
+        Optional<TransliterationJob> job = scheduler.submit(script.get(), submission.texts(), lane.get(),
+                Boolean.TRUE.equals(submission.seekable()));
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", "5")
+                    .body(Map.of("error", "the " + scheduler.laneFor(chars, lane.get()).name().toLowerCase()
+                            + " queue is full"));
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.get().id()))
+                .body(job.get().snapshot());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TransliterationJob.Snapshot> status(@PathVariable String id) {
+        return scheduler.find(id)
+                .map(job -> ResponseEntity.ok(job.snapshot()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/results")
+    public ResponseEntity<Object> results(@PathVariable String id) {
+        Optional<TransliterationJob> job = scheduler.find(id);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.get().isSeekable()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "seekable jobs keep no full results; read /api/jobs/" + id + "/texts/{index}"));
+        }
+        Optional<List<String>> results = job.get().results();
+        if (results.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "job is " + job.get().state().name().toLowerCase()));
+        }
+        return ResponseEntity.ok(Map.of("id", id, "results", results.get()));
+    }
+
+    /**
+     * One page of one text's output: up to {@code length} characters from
+     * {@code offset}. Any job can be read this way; a seekable one answers in
+     * the same time for every page, however long the text.
+     *
+     * A seekable job and its index live in memory only. They are kept for
+     * {@code transliterator.jobs.result-ttl} after the last page read (or
+     * after finishing, if none was read), and are lost on restart.
+     */
+    @GetMapping("/{id}/texts/{index}")
+    public ResponseEntity<Object> page(@PathVariable String id,
+                                       @PathVariable int index,
+                                       @RequestParam(defaultValue = "0") int offset,
+                                       @RequestParam(defaultValue = "4096") int length) {
+        Optional<TransliterationJob> job = scheduler.find(id);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (index < 0 || index >= job.get().textCount()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (offset < 0 || length < 0 || length > JobScheduler.MAX_PAGE_CHARS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "offset must be at least 0 and length from 0 to " + JobScheduler.MAX_PAGE_CHARS));
+        }
+        Optional<JobScheduler.Page> page = scheduler.page(job.get(), index, offset, length);
+        if (page.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "job is " + job.get().state().name().toLowerCase()));
+        }
+        return ResponseEntity.ok(Map.of(
+                "id", id,
+                "text", index,
+                "offset", page.get().offset(),
+                "outputLength", page.get().outputLength(),
+                "runeText", page.get().runeText()
+        ));
+    }
+
+    /**
+     * Cancels the job if it is still queued or running; its status stays
+     * available until it expires.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Object> cancel(@PathVariable String id) {
+        Optional<TransliterationJob> job = scheduler.find(id);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!scheduler.cancel(id)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "job is already " + job.get().state().name().toLowerCase()));
+        }
+        return ResponseEntity.ok(job.get().snapshot());
+    }
+
+    /**
+     * Forgets the job and its results, cancelling it first if needed.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> discard(@PathVariable String id) {
+        return scheduler.discard(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    private static <E extends Enum<E>> Optional<E> parse(Class<E> type, String raw) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(raw)) {
+                return Optional.of(constant);
+            }
+        }
+        return Optional.empty();
+    }
+}
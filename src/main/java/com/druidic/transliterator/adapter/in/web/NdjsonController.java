@@ -0,0 +1,126 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streaming bulk endpoint: newline-delimited {@code {"id","text","script"}}
+ * records in, one result line per record out, in input order.
+ *
+ * Each stream is worked through one record at a time on its request thread,
+ * so a stream holds one line (at most max-line-bytes) and one result in
+ * memory, and the body is only read as fast as results are written — a
+ * client that stops reading stalls its own uploads through TCP flow control.
+ * Results are flushed whenever the next record has not arrived yet, so a
+ * client can keep sending while it reads. Concurrent streams are capped.
+ */
+@RestController
+@RequestMapping("/api")
+public class NdjsonController {
+
+    private static final byte[] ID_PREFIX = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RUNE_TEXT_PREFIX = "\"runeText\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RUNE_TEXT_SUFFIX = "\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ScriptRegistry scripts;
+    private final int maxLineBytes;
+    private final Semaphore streams;
+
+    public NdjsonController(ScriptRegistry scripts,
+                            @Value("${transliterator.ndjson.max-line-bytes:65536}") int maxLineBytes,
+                            @Value("${transliterator.ndjson.max-streams:16}") int maxStreams) {
+        if (maxLineBytes < 1 || maxStreams < 1) {
+            throw new IllegalArgumentException("ndjson max-line-bytes and max-streams must be at least 1");
+        }
+        this.scripts = scripts;
+        this.maxLineBytes = maxLineBytes;
+        this.streams = new Semaphore(maxStreams);
+    }
+
+    @PostMapping("/transliterate/ndjson")
+    public void transliterate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!streams.tryAcquire()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", "5");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(
+                    "{\"error\":\"too many concurrent streams\"}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        try {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream out = response.getOutputStream();
+            NdjsonLineReader lines = new NdjsonLineReader(request.getInputStream(), maxLineBytes);
+            long lineNumber = 0;
+            while (true) {
+                if (!lines.hasBuffered()) {
+                    // About to wait on the client: let it have what is done
+                    out.flush();
+                }
+                String line = lines.readLine();
+                if (line == null) {
+                    break;
+                }
+                lineNumber++;
+                if (lines.lastLineTooLong()) {
+                    writeError(out, null, lineNumber, "line exceeds " + maxLineBytes + " bytes");
+                } else if (!line.isBlank()) {
+                    write(out, NdjsonRecord.parse(line), lineNumber);
+                }
+            }
+            out.flush();
+        } finally {
+            streams.release();
+        }
+    }
+
+    private void write(OutputStream out, NdjsonRecord record, long lineNumber) throws IOException {
+        if (record.failed()) {
+            writeError(out, record.id(), lineNumber, record.error());
+            return;
+        }
+        Optional<Script> script = record.script() == null
+                ? Optional.of(ScriptRegistry.DEFAULT_SCRIPT)
+                : scripts.parse(record.script());
+        if (script.isEmpty()) {
+            writeError(out, record.id(), lineNumber, "unknown script: " + record.script());
+            return;
+        }
+
+        if (record.id() == null) {
+            out.write('{');
+        } else {
+            out.write(ID_PREFIX);
+            out.write(record.id().getBytes(StandardCharsets.UTF_8));
+            out.write(',');
+        }
+        out.write(RUNE_TEXT_PREFIX);
+        if (!record.text().isBlank()) {
+            scripts.get(script.get()).writeJsonUtf8(new TransliterationRequest(record.text(), script.get()), out);
+        }
+        out.write(RUNE_TEXT_SUFFIX);
+    }
+
+    private static void writeError(OutputStream out, String id, long lineNumber, String error) throws IOException {
+        String json = (id == null ? "{" : "{\"id\":" + id + ",")
+                + "\"line\":" + lineNumber
+                + ",\"error\":\"" + JsonUtf8.escape(error) + "\"}\n";
+        out.write(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines from a request body without ever holding more than one
+ * line of at most {@code maxLineBytes}. An overlong line is consumed up to its
+ * newline and reported through {@link #lastLineTooLong()} instead of being
+ * buffered, so one bad record cannot grow the heap or end the stream.
+ */
+final class NdjsonLineReader {
+
+    private static final int BUFFER_BYTES = 8192;
+
+    private final InputStream in;
+    private final int maxLineBytes;
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private boolean tooLong;
+
+    NdjsonLineReader(InputStream in, int maxLineBytes) {
+        this.in = in;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * True when the next line can be started without blocking on the client.
+     */
+    boolean hasBuffered() throws IOException {
+        return position < limit || (!eof && in.available() > 0);
+    }
+
+    /**
+     * The next line without its terminator ({@code \n} or {@code \r\n}), or
+     * null at the end of the body. Empty when the line was too long.
+     */
+    String readLine() throws IOException {
+        lineLength = 0;
+        tooLong = false;
+        boolean started = false;
+        while (true) {
+            if (position == limit) {
+                int read = eof ? -1 : in.read(buffer);
+                if (read < 0) {
+                    eof = true;
+                    return started ? finish() : null;
+                }
+                position = 0;
+                limit = read;
+            }
+            started = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                position++;
+                return finish();
+            }
+        }
+    }
+
+    boolean lastLineTooLong() {
+        return tooLong;
+    }
+
+    private void append(int start, int length) {
+        if (tooLong) {
+            return;
+        }
+        if (lineLength + length > maxLineBytes) {
+            tooLong = true;
+            lineLength = 0;
+            return;
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.min(maxLineBytes, Math.max(line.length * 2, lineLength + length)));
+        }
+        System.arraycopy(buffer, start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private String finish() {
+        int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,276 @@
+package com.druidic.transliterator.adapter.in.web;
+
+/**
+ * One {@code {"id":…,"text":…,"script":…}} line of an NDJSON stream.
+ *
+ * Parsing never throws: a line that is not a flat JSON object with a string
+ * {@code text} comes back with {@link #error()} set, and with whatever id was
+ * read before the problem, so the stream can answer it and carry on.
+ * {@code id} is kept as its raw JSON token (a string, number or null) and is
+ * echoed back unchanged; unknown keys are skipped.
+ */
+record NdjsonRecord(String id, String text, String script, String error) {
+
+    boolean failed() {
+        return error != null;
+    }
+
+    static NdjsonRecord parse(String line) {
+        Parser parser = new Parser(line);
+        try {
+            parser.object();
+            if (parser.text == null) {
+                return new NdjsonRecord(parser.id, null, null, "text is required");
+            }
+            return new NdjsonRecord(parser.id, parser.text, parser.script, null);
+        } catch (MalformedLine e) {
+            return new NdjsonRecord(parser.id, null, null, e.getMessage());
+        }
+    }
+
+    private static final class MalformedLine extends RuntimeException {
+        MalformedLine(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private static final class Parser {
+
+        // Unknown members are skipped recursively; a line is at most
+        // max-line-bytes, but that is still deep enough to overflow the stack
+        private static final int MAX_DEPTH = 64;
+
+        private final String line;
+        private int at;
+        private String id;
+        private String text;
+        private String script;
+
+        Parser(String line) {
+            this.line = line;
+        }
+
+        void object() {
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                at++;
+            } else {
+                do {
+                    skipWhitespace();
+                    String key = string();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    member(key);
+                    skipWhitespace();
+                } while (consume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (at < line.length()) {
+                throw malformed("unexpected content after the object");
+            }
+        }
+
+        private void member(String key) {
+            switch (key) {
+                case "id" -> {
+                    int start = at;
+                    char next = peek();
+                    if (next == '"') {
+                        string();
+                    } else if (next == '-' || (next >= '0' && next <= '9')) {
+                        number();
+                    } else if (!literal("null")) {
+                        throw malformed("id must be a string or a number");
+                    }
+                    id = line.substring(start, at);
+                }
+                case "text" -> {
+                    if (peek() != '"') {
+                        throw malformed("text must be a string");
+                    }
+                    text = string();
+                }
+                case "script" -> {
+                    if (peek() == '"') {
+                        script = string();
+                    } else if (!literal("null")) {
+                        throw malformed("script must be a string");
+                    }
+                }
+                default -> value(0);
+            }
+        }
+
+        // Any JSON value, read and discarded
+        private void value(int depth) {
+            char next = peek();
+            switch (next) {
+                case '"' -> string();
+                case '{', '[' -> {
+                    if (depth == MAX_DEPTH) {
+                        throw malformed("nested too deeply");
+                    }
+                    char close = next == '{' ? '}' : ']';
+                    at++;
+                    skipWhitespace();
+                    if (consume(close)) {
+                        return;
+                    }
+                    do {
+                        skipWhitespace();
+                        if (close == '}') {
+                            string();
+                            skipWhitespace();
+                            expect(':');
+                            skipWhitespace();
+                        }
+                        value(depth + 1);
+                        skipWhitespace();
+                    } while (consume(','));
+                    expect(close);
+                }
+                default -> {
+                    if (next == '-' || (next >= '0' && next <= '9')) {
+                        number();
+                    } else if (!literal("true") && !literal("false") && !literal("null")) {
+                        throw malformed("malformed JSON at column " + (at + 1));
+                    }
+                }
+            }
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder value = null;
+            int start = at;
+            while (true) {
+                if (at >= line.length()) {
+                    throw malformed("unterminated string");
+                }
+                char ch = line.charAt(at);
+                if (ch == '"') {
+                    String result = value == null ? line.substring(start, at) : value.append(line, start, at).toString();
+                    at++;
+                    return result;
+                }
+                if (ch < 0x20) {
+                    throw malformed("control character in string at column " + (at + 1));
+                }
+                if (ch != '\\') {
+                    at++;
+                    continue;
+                }
+                if (value == null) {
+                    value = new StringBuilder();
+                }
+                value.append(line, start, at);
+                at++;
+                value.append(escape());
+                start = at;
+            }
+        }
+
+        private char escape() {
+            if (at >= line.length()) {
+                throw malformed("unterminated string");
+            }
+            char ch = line.charAt(at++);
+            return switch (ch) {
+                case '"', '\\', '/' -> ch;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    if (at + 4 > line.length()) {
+                        throw malformed("truncated \\u escape");
+                    }
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(line.charAt(at++), 16);
+                        if (digit < 0) {
+                            throw malformed("malformed \\u escape at column " + at);
+                        }
+                        code = code * 16 + digit;
+                    }
+                    yield (char) code;
+                }
+                default -> throw malformed("invalid escape \\" + ch);
+            };
+        }
+
+        private void number() {
+            int start = at;
+            consume('-');
+            if (!digits()) {
+                throw malformed("malformed number at column " + (start + 1));
+            }
+            if (consume('.') && !digits()) {
+                throw malformed("malformed number at column " + (start + 1));
+            }
+            if (consume('e') || consume('E')) {
+                if (!consume('+')) {
+                    consume('-');
+                }
+                if (!digits()) {
+                    throw malformed("malformed number at column " + (start + 1));
+                }
+            }
+        }
+
+        private boolean digits() {
+            int start = at;
+            while (at < line.length() && line.charAt(at) >= '0' && line.charAt(at) <= '9') {
+                at++;
+            }
+            return at > start;
+        }
+
+        private boolean literal(String word) {
+            if (line.startsWith(word, at)) {
+                at += word.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (at < line.length()) {
+                char ch = line.charAt(at);
+                if (ch != ' ' && ch != '\t' && ch != '\r' && ch != '\n') {
+                    return;
+                }
+                at++;
+            }
+        }
+
+        private char peek() {
+            return at < line.length() ? line.charAt(at) : '\0';
+        }
+
+        private boolean consume(char expected) {
+            if (peek() == expected && at < line.length()) {
+                at++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw malformed(at < line.length()
+                        ? "expected '" + expected + "' at column " + (at + 1)
+                        : "expected '" + expected + "' at end of line");
+            }
+        }
+
+        private static MalformedLine malformed(String message) {
+            return new MalformedLine(message);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import java.util.Arrays;
+
+/**
+ * Per-request stage clock behind the {@code Server-Timing} header. Stages
+ * run back to back: {@link #begin(Stage)} closes the current one on the
+ * monotonic clock and opens the next, so a request costs one nanoTime read
+ * per stage and one long[]. {@link ServerTimingFilter} creates it as a
+ * request attribute when the header is enabled; controllers otherwise get
+ * {@link #NONE}, which records nothing.
+ */
+final class ServerTiming {
+
+    static final String ATTRIBUTE = "com.druidic.transliterator.serverTiming";
+
+    static final String HEADER = "Server-Timing";
+
+    enum Stage {
+        // Dispatch and request parameter binding, up to the controller
+        BIND("bind"),
+        // Script lookup, truncation and model setup
+        NORMALIZE("normalize"),
+        ENGINE("engine"),
+        // Jackson serialization of a returned body
+        JSON("json"),
+        // Thymeleaf view rendering
+        RENDER("render");
+
+        private final String metric;
+
+        Stage(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    static final ServerTiming NONE = new ServerTiming(false);
+
+    private final boolean enabled;
+    private final long start;
+    // Nanoseconds per stage; -1 for stages the request never entered
+    private final long[] nanos = new long[STAGES.length];
+    private Stage current;
+    private long currentStart;
+    private long total = -1;
+
+    private ServerTiming(boolean enabled) {
+        this.enabled = enabled;
+        this.start = enabled ? System.nanoTime() : 0;
+        Arrays.fill(nanos, -1);
+        this.current = Stage.BIND;
+        this.currentStart = start;
+    }
+
+    /**
+     * A clock started now, in the {@link Stage#BIND} stage.
+     */
+    static ServerTiming start() {
+        return new ServerTiming(true);
+    }
+
+    static ServerTiming orNone(ServerTiming timing) {
+        return timing != null ? timing : NONE;
+    }
+
+    void begin(Stage stage) {
+        if (enabled) {
+            long now = System.nanoTime();
+            close(now);
+            current = stage;
+            currentStart = now;
+        }
+    }
+
+    /**
+     * Closes the current stage and the total; later calls change nothing.
+     */
+    void finish() {
+        if (enabled && total < 0) {
+            long now = System.nanoTime();
+            close(now);
+            current = null;
+            total = now - start;
+        }
+    }
+
+    /**
+     * The header value, for example
+     * {@code bind;dur=0.081, normalize;dur=0.012, engine;dur=0.104, render;dur=1.930, total;dur=2.127},
+     * in milliseconds.
+     */
+    String header() {
+        StringBuilder header = new StringBuilder(128);
+        for (Stage stage : STAGES) {
+            if (nanos[stage.ordinal()] >= 0) {
+                append(header, stage.metric, nanos[stage.ordinal()]);
+            }
+        }
+        append(header, "total", Math.max(total, 0));
+        return header.toString();
+    }
+
+    private void close(long now) {
+        if (current != null) {
+            int index = current.ordinal();
+            nanos[index] = Math.max(nanos[index], 0) + now - currentStart;
+        }
+    }
+
+    // Milliseconds to the microsecond, without going through a double
+    private static void append(StringBuilder header, String metric, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        long micros = nanos / 1_000;
+        header.append(metric).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
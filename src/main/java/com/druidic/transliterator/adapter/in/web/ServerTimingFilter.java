@@ -0,0 +1,49 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Adds a {@code Server-Timing} header to the transliteration page and API
+ * responses, splitting each into the stages of {@link ServerTiming} so they
+ * show in browser devtools. Rendering finishes after the controller returns,
+ * so the body is held until the header is set; that buffering is the cost of
+ * enabling it with {@code transliterator.server-timing.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "transliterator.server-timing.enabled", havingValue = "true")
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Set<String> PATHS = Set.of("/", "/api/transliterate", "/api/legend");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start();
+        request.setAttribute(ServerTiming.ATTRIBUTE, timing);
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            timing.finish();
+            if (!response.isCommitted()) {
+                response.setHeader(ServerTiming.HEADER, timing.header());
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.out.shadow.ShadowRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin view of shadow mode: per-script comparison counts and latency ratio,
+ * and the latest mismatches with their inputs. 404 unless shadow mode is
+ * enabled. Every call needs the admin token; see {@link AdminAccess}.
+ */
+@RestController
+@RequestMapping("/admin/shadow")
+public class ShadowController {
+
+    private final ObjectProvider<ShadowRunner> shadowRunner;
+    private final AdminAccess adminAccess;
+
+    public ShadowController(ObjectProvider<ShadowRunner> shadowRunner, AdminAccess adminAccess) {
+        this.shadowRunner = shadowRunner;
+        this.adminAccess = adminAccess;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> status(
+            @RequestHeader(name = AdminAccess.HEADER, required = false) String token) {
+
+        if (!adminAccess.isAllowed(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        ShadowRunner runner = shadowRunner.getIfAvailable();
+        if (runner == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> scripts = new LinkedHashMap<>();
+        runner.candidates().forEach((script, candidate) -> scripts.put(script.name(), Map.of(
+                "candidate", candidate.getClass().getName(),
+                "samples", runner.samples(script),
+                "mismatches", runner.mismatches(script),
+                "dropped", runner.dropped(script),
+                "latencyRatio", runner.latencyRatio(script)
+        )));
+        return ResponseEntity.ok(Map.of(
+                "scripts", scripts,
+                "recentMismatches", runner.recentMismatches()
+        ));
+    }
+}
@@ -1,17 +1,35 @@
 package com.druidic.transliterator.adapter.in.web;
 
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.in.warmup.WarmUpRunner;
+import com.druidic.transliterator.adapter.out.cache.HeavyHitters;
+import com.druidic.transliterator.adapter.out.jfr.CountingOutputStream;
+import com.druidic.transliterator.adapter.out.jfr.JfrSampler;
+import com.druidic.transliterator.adapter.out.jfr.TransliterationRequestEvent;
+import com.druidic.transliterator.core.JsonUtf8;
 import com.druidic.transliterator.core.Script;
 import com.druidic.transliterator.core.TransliterationRequest;
 import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
 import com.druidic.transliterator.port.in.TransliteratePort;
-import org.springframework.beans.factory.annotation.Qualifier;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.druidic.transliterator.core.LegendEntry;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,53 +39,106 @@ public class TransliterationApiController {
 
     private static final int MAX_INPUT_LENGTH = 500;
 
-    private final Map<Script, TransliteratePort> transliterators;
-
-    public TransliterationApiController(@Qualifier("elderFuthark") TransliteratePort elderFutharkTransliterator,
-                                        @Qualifier("tengwar") TransliteratePort tengwarTransliterator,
-                                        @Qualifier("dethek") TransliteratePort dethekTransliterator) {
-        this.transliterators = Map.of(
-                Script.ELDER_FUTHARK, elderFutharkTransliterator,
-                Script.TENGWAR, tengwarTransliterator,
-                Script.DETHEK, dethekTransliterator
-        );
+    private static final byte[] RUNE_TEXT_PREFIX = "{\"runeText\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RUNE_TEXT_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALIGNMENT_PREFIX = "\",\"alignment\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALIGNMENT_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    // Bump when the meaning of the exported tables changes, so cached copies
+    // held by clients stop matching
+    private static final int RULES_FORMAT = 1;
+    private static final CacheControl RULES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final ScriptRegistry scripts;
+    private final Map<Script, ExportedRules> rules = new EnumMap<>(Script.class);
+    private final JfrSampler jfrSampler;
+    private final HeavyHitters heavyHitters;
+
+    public TransliterationApiController(ScriptRegistry scripts,
+                                        JfrSampler jfrSampler,
+                                        HeavyHitters heavyHitters) {
+        this.scripts = scripts;
+        this.jfrSampler = jfrSampler;
+        this.heavyHitters = heavyHitters;
+        scripts.asMap().forEach((script, transliterator) ->
+                transliterator.getRules().ifPresent(engineRules ->
+                        rules.put(script, export(script, engineRules, transliterator.variant()))));
     }
 
+    /**
+     * Hot endpoint — writes {"runeText":"…"} straight to the response stream.
+     * Engines emit pre-encoded, JSON-escaped UTF-8 glyphs, so no intermediate
+     * String is built and Jackson is bypassed. For the same reason its
+     * Server-Timing "engine" stage includes writing the JSON.
+     *
+     * With {@code alignment=true} the response also carries
+     * {"alignment":[in,out,in,out,…]}, the flat segment lengths described on
+     * {@link TransliterationResult#alignment()}; that path builds the result
+     * String, and the caches, which hold no alignments, are skipped.
+     */
     @GetMapping("/transliterate")
-    public Map<String, String> transliterate(
+    public void transliterate(
             @RequestParam String text,
-            @RequestParam(defaultValue = "ELDER_FUTHARK") String script) {
+            @RequestParam(defaultValue = "ELDER_FUTHARK") String script,
+            @RequestParam(defaultValue = "false") boolean alignment,
+            @RequestHeader(name = WarmUpRunner.HEADER, defaultValue = "false") boolean warmUp,
+            @RequestAttribute(name = ServerTiming.ATTRIBUTE, required = false) ServerTiming timing,
+            HttpServletResponse response) throws IOException {
+
+        timing = ServerTiming.orNone(timing);
+        timing.begin(ServerTiming.Stage.NORMALIZE);
+
+        TransliterationRequestEvent event = new TransliterationRequestEvent();
+        boolean recording = jfrSampler.begin(event);
 
-        Script selectedScript = parseScript(script);
+        Script selectedScript = scripts.parseOrDefault(script);
         String trimmed = text.length() > MAX_INPUT_LENGTH ? text.substring(0, MAX_INPUT_LENGTH) : text;
+        TransliteratePort transliterator = scripts.get(selectedScript);
 
-        if (trimmed.isBlank()) {
-            return Map.of("runeText", "");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        OutputStream out = recording ? new CountingOutputStream(response.getOutputStream()) : response.getOutputStream();
+        out.write(RUNE_TEXT_PREFIX);
+        if (!warmUp) {
+            heavyHitters.record(selectedScript, trimmed);
         }
-
-        TransliteratePort transliterator = transliterators.get(selectedScript);
-        if (transliterator == null) {
-            transliterator = transliterators.get(Script.ELDER_FUTHARK);
+        timing.begin(ServerTiming.Stage.ENGINE);
+        if (alignment) {
+            TransliterationResult result = transliterator.transliterate(new TransliterationRequest(trimmed, selectedScript, true));
+            timing.begin(ServerTiming.Stage.JSON);
+            out.write(JsonUtf8.encode(result.runeText()));
+            out.write(ALIGNMENT_PREFIX);
+            writeInts(result.alignment(), out);
+            out.write(ALIGNMENT_SUFFIX);
+        } else {
+            if (!trimmed.isBlank()) {
+                transliterator.writeJsonUtf8(new TransliterationRequest(trimmed, selectedScript), out);
+            }
+            out.write(RUNE_TEXT_SUFFIX);
         }
 
-        TransliterationResult result = transliterator
-                .transliterate(new TransliterationRequest(trimmed, selectedScript));
-
-        return Map.of("runeText", result.runeText());
+        if (recording) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = "api";
+                event.script = selectedScript.name();
+                event.inputLength = text.length();
+                event.outputLength = ((CountingOutputStream) out).count() - RUNE_TEXT_PREFIX.length - RUNE_TEXT_SUFFIX.length;
+                event.truncated = trimmed.length() < text.length();
+                event.commit();
+            }
+        }
     }
 
     @GetMapping("/legend")
     public Map<String, Object> legend(
-            @RequestParam(defaultValue = "ELDER_FUTHARK") String script) {
-
-        Script selectedScript = parseScript(script);
-        TransliteratePort transliterator = transliterators.get(selectedScript);
-        if (transliterator == null) {
-            transliterator = transliterators.get(Script.ELDER_FUTHARK);
-            selectedScript = Script.ELDER_FUTHARK;
-        }
-
-        List<LegendEntry> legend = transliterator.getLegend();
+            @RequestParam(defaultValue = "ELDER_FUTHARK") String script,
+            @RequestAttribute(name = ServerTiming.ATTRIBUTE, required = false) ServerTiming timing) {
+
+        timing = ServerTiming.orNone(timing);
+        timing.begin(ServerTiming.Stage.NORMALIZE);
+        Script selectedScript = scripts.parseOrDefault(script);
+        List<LegendEntry> legend = scripts.get(selectedScript).getLegend();
+        timing.begin(ServerTiming.Stage.JSON);
         return Map.of(
                 "entries", legend,
                 "fontClass", selectedScript.getFontClass(),
@@ -75,11 +146,49 @@ public class TransliterationApiController {
         );
     }
 
-    private Script parseScript(String raw) {
-        try {
-            return Script.valueOf(raw);
-        } catch (IllegalArgumentException e) {
-            return Script.ELDER_FUTHARK;
+    /**
+     * Compiled mapping tables for client-side transliteration, serialized once
+     * at startup. The ETag carries the rules version, so clients revalidate a
+     * cached copy with a 304 until the engine's tables change.
+     */
+    @GetMapping("/rules")
+    public ResponseEntity<byte[]> rules(
+            @RequestParam(defaultValue = "ELDER_FUTHARK") String script) {
+
+        ExportedRules exported = rules.get(scripts.parseOrDefault(script));
+        if (exported == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(exported.eTag())
+                .cacheControl(RULES_CACHE_CONTROL)
+                .body(exported.json());
+    }
+
+    private static void writeInts(int[] values, OutputStream out) throws IOException {
+        StringBuilder json = new StringBuilder(values.length * 3);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(values[i]);
         }
+        out.write(json.toString().getBytes(StandardCharsets.US_ASCII));
     }
+
+    // "exact" tells clients whether the tables reproduce the engine; when they
+    // don't (phonetic Tengwar) they are only good for offline use
+    private static ExportedRules export(Script script, TransliterationRules engineRules, String variant) {
+        String version = engineRules.version();
+        String json = "{\"script\":\"" + script.name() + "\""
+                + ",\"format\":" + RULES_FORMAT
+                + ",\"version\":\"" + version + "\""
+                + ",\"exact\":" + variant.isEmpty()
+                + ",\"rules\":" + engineRules.toJson() + "}";
+        String eTag = RULES_FORMAT + "-" + version + (variant.isEmpty() ? "" : "-" + variant);
+        return new ExportedRules("\"" + eTag + "\"", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record ExportedRules(String eTag, byte[] json) {}
 }
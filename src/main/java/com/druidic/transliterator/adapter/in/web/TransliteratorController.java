@@ -1,18 +1,21 @@
 package com.druidic.transliterator.adapter.in.web;
 
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.in.warmup.WarmUpRunner;
+import com.druidic.transliterator.adapter.out.cache.HeavyHitters;
+import com.druidic.transliterator.adapter.out.jfr.JfrSampler;
+import com.druidic.transliterator.adapter.out.jfr.TransliterationRequestEvent;
 import com.druidic.transliterator.core.Script;
 import com.druidic.transliterator.core.TransliterationRequest;
 import com.druidic.transliterator.core.TransliterationResult;
-import com.druidic.transliterator.port.in.TransliteratePort;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.Map;
-
 /**
  * Inbound web adapter — drives the application via HTTP form submissions.
  * Depends only on TransliteratePort; knows nothing about FutharkTransliterator.
@@ -22,64 +25,85 @@ public class TransliteratorController {
 
     private static final int MAX_INPUT_LENGTH = 500;
 
-    private final Map<Script, TransliteratePort> transliterators;
+    private final ScriptRegistry scripts;
+    private final JfrSampler jfrSampler;
+    private final HeavyHitters heavyHitters;
 
-    public TransliteratorController(@Qualifier("elderFuthark") TransliteratePort elderFutharkTransliterator,
-                                    @Qualifier("tengwar") TransliteratePort tengwarTransliterator,
-                                    @Qualifier("dethek") TransliteratePort dethekTransliterator) {
-        this.transliterators = Map.of(
-                Script.ELDER_FUTHARK, elderFutharkTransliterator,
-                Script.TENGWAR, tengwarTransliterator,
-                Script.DETHEK, dethekTransliterator
-        );
+    public TransliteratorController(ScriptRegistry scripts,
+                                    JfrSampler jfrSampler,
+                                    HeavyHitters heavyHitters) {
+        this.scripts = scripts;
+        this.jfrSampler = jfrSampler;
+        this.heavyHitters = heavyHitters;
     }
 
     @GetMapping("/")
     public String index(
             @RequestParam(defaultValue = "")              String text,
             @RequestParam(defaultValue = "ELDER_FUTHARK") String script,
+            @RequestHeader(name = WarmUpRunner.HEADER, defaultValue = "false") boolean warmUp,
+            @RequestAttribute(name = ServerTiming.ATTRIBUTE, required = false) ServerTiming timing,
             Model model) {
 
-        return handleTransliteration(text, script, model);
+        return handleTransliteration(text, script, !warmUp, ServerTiming.orNone(timing), model);
     }
 
     @PostMapping("/")
     public String transliterate(
             @RequestParam(defaultValue = "") String inputText,
             @RequestParam(defaultValue = "ELDER_FUTHARK") String script,
+            @RequestAttribute(name = ServerTiming.ATTRIBUTE, required = false) ServerTiming timing,
             Model model) {
 
-        return handleTransliteration(inputText, script, model);
+        return handleTransliteration(inputText, script, true, ServerTiming.orNone(timing), model);
     }
 
-    private String handleTransliteration(String inputText, String scriptParam, Model model) {
-        Script selectedScript = parseScript(scriptParam);
+    // counted is false for warm-up requests, which stay out of the heavy hitters
+    private String handleTransliteration(String inputText, String scriptParam, boolean counted,
+                                         ServerTiming timing, Model model) {
+        timing.begin(ServerTiming.Stage.NORMALIZE);
+        TransliterationRequestEvent event = new TransliterationRequestEvent();
+        boolean recording = jfrSampler.begin(event);
+
+        Script selectedScript = scripts.parseOrDefault(scriptParam);
         String trimmedInput = truncate(inputText);
 
-        model.addAttribute("scripts", Script.values());
+        model.addAttribute("scripts", scripts.scripts());
         model.addAttribute("selectedScript", selectedScript);
         model.addAttribute("themeClass", selectedScript.getThemeClass());
-        model.addAttribute("legend", transliterators.get(selectedScript).getLegend());
+        model.addAttribute("legend", scripts.get(selectedScript).getLegend());
 
+        if (counted) {
+            heavyHitters.record(selectedScript, trimmedInput);
+        }
+
+        int outputLength = 0;
         if (!trimmedInput.isBlank()) {
-            TransliterationResult result = transliterators.get(selectedScript)
+            timing.begin(ServerTiming.Stage.ENGINE);
+            TransliterationResult result = scripts.get(selectedScript)
                     .transliterate(new TransliterationRequest(trimmedInput, selectedScript));
             model.addAttribute("inputText", trimmedInput);
             model.addAttribute("result", result);
+            outputLength = result.runeText().length();
         } else {
             model.addAttribute("inputText", "");
             model.addAttribute("result", null);
         }
 
-        return "index";
-    }
-
-    private Script parseScript(String raw) {
-        try {
-            return Script.valueOf(raw);
-        } catch (IllegalArgumentException e) {
-            return Script.ELDER_FUTHARK;
+        if (recording) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = "page";
+                event.script = selectedScript.name();
+                event.inputLength = inputText.length();
+                event.outputLength = outputLength;
+                event.truncated = trimmedInput.length() < inputText.length();
+                event.commit();
+            }
         }
+
+        timing.begin(ServerTiming.Stage.RENDER);
+        return "index";
     }
 
     private String truncate(String input) {
@@ -0,0 +1,79 @@
+package com.druidic.transliterator.adapter.out.alloc;
+
+import com.druidic.transliterator.core.AllocatedBytes;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wraps every TransliteratePort bean in an {@link AllocationTransliterator}
+ * and publishes the totals per script. Enabled with
+ * {@code transliterator.allocation.enabled=true}; does nothing on a JVM
+ * without per-thread allocation counters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transliterator.allocation.enabled", havingValue = "true")
+public class AllocationConfiguration {
+
+    @Bean
+    public AllocationStats allocationStats() {
+        return new AllocationStats();
+    }
+
+    // Static so the post-processor is registered without initializing this
+    // configuration early; the stats are resolved lazily on first wrap.
+    @Bean
+    public static BeanPostProcessor allocationPostProcessor(ObjectProvider<AllocationStats> allocationStats) {
+        return new AllocationPostProcessor(allocationStats);
+    }
+
+    @Bean
+    public MeterBinder allocationMetrics(AllocationStats allocationStats) {
+        return registry -> {
+            for (Script script : Script.values()) {
+                String tag = script.name();
+                FunctionCounter.builder("transliterator.engine.allocated", allocationStats, stats -> stats.bytes(script))
+                        .tag("script", tag)
+                        .baseUnit("bytes")
+                        .description("Bytes allocated by transliterate calls, on the calling thread")
+                        .register(registry);
+                FunctionCounter.builder("transliterator.engine.input", allocationStats, stats -> stats.chars(script))
+                        .tag("script", tag)
+                        .baseUnit("chars")
+                        .description("Characters handed to transliterate calls")
+                        .register(registry);
+                Gauge.builder("transliterator.engine.allocated.per.char", allocationStats, stats -> stats.bytesPerChar(script))
+                        .tag("script", tag)
+                        .baseUnit("bytes")
+                        .register(registry);
+            }
+        };
+    }
+
+    // Just inside JFR, so it counts everything below: caches, sharding, engine
+    private record AllocationPostProcessor(ObjectProvider<AllocationStats> allocationStats)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort port && !(bean instanceof AllocationTransliterator)
+                    && AllocatedBytes.supported()) {
+                return new AllocationTransliterator(port, allocationStats.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.druidic.transliterator.adapter.out.alloc;
+
+import com.druidic.transliterator.core.Script;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals, per script, of engine calls, the characters handed to
+ * them and the bytes they allocated on the calling thread.
+ */
+public class AllocationStats {
+
+    private final Map<Script, LongAdder> calls = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> chars = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> bytes = new EnumMap<>(Script.class);
+
+    public AllocationStats() {
+        for (Script script : Script.values()) {
+            calls.put(script, new LongAdder());
+            chars.put(script, new LongAdder());
+            bytes.put(script, new LongAdder());
+        }
+    }
+
+    public void record(Script script, int inputChars, long allocatedBytes) {
+        calls.get(script).increment();
+        chars.get(script).add(inputChars);
+        bytes.get(script).add(allocatedBytes);
+    }
+
+    public long calls(Script script) {
+        return calls.get(script).sum();
+    }
+
+    public long chars(Script script) {
+        return chars.get(script).sum();
+    }
+
+    public long bytes(Script script) {
+        return bytes.get(script).sum();
+    }
+
+    public double bytesPerChar(Script script) {
+        long inputChars = chars(script);
+        return inputChars == 0 ? 0 : (double) bytes(script) / inputChars;
+    }
+}
@@ -0,0 +1,69 @@
+package com.druidic.transliterator.adapter.out.alloc;
+
+import com.druidic.transliterator.core.AllocatedBytes;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator that adds the bytes each call allocates on its thread to
+ * {@link AllocationStats}, caches and all.
+ */
+public class AllocationTransliterator implements TransliteratePort {
+
+    private final TransliteratePort delegate;
+    private final AllocationStats stats;
+
+    public AllocationTransliterator(TransliteratePort delegate, AllocationStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        long before = AllocatedBytes.currentThread();
+        TransliterationResult result = delegate.transliterate(request);
+        stats.record(request.script(), request.rawText().length(), AllocatedBytes.currentThread() - before);
+        return result;
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        long before = AllocatedBytes.currentThread();
+        delegate.writeJsonUtf8(request, out);
+        stats.record(request.script(), request.rawText().length(), AllocatedBytes.currentThread() - before);
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return delegate.isWhitespaceContextFree();
+    }
+}
@@ -0,0 +1,197 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.Script;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Streaming estimate of the most frequent (script, text) inputs, in fixed memory.
+ *
+ * A Count-Min sketch — {@code depth} rows of {@code width} counters, each row
+ * indexed by a different hash — over-estimates a key's count by at most the
+ * collisions it shares in its least-collided row. Keys whose estimate beats the
+ * smallest one held are kept in a table of {@code capacity} slots, replaced by
+ * compare-and-set. Nothing locks: a lost race costs one update of an estimate,
+ * which the next request for that key corrects.
+ *
+ * Texts longer than {@code maxTextLength} are not tracked; they are not phrases.
+ */
+@Component
+public class HeavyHitters {
+
+    public record Entry(Script script, String text, long estimate) {}
+
+    // Slot contents are immutable; the hash is kept to skip most equals() calls
+    private record Slot(Script script, String text, int hash, long estimate) {}
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int width;
+    private final int depth;
+    private final int maxTextLength;
+    private final AtomicLongArray counters;
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong total = new AtomicLong();
+
+    // Smallest estimate held, or 0 while a slot is free — most requests stop here
+    private volatile long floor;
+
+    public HeavyHitters(@Value("${transliterator.heavy-hitters.width:16384}") int width,
+                        @Value("${transliterator.heavy-hitters.depth:4}") int depth,
+                        @Value("${transliterator.heavy-hitters.capacity:100}") int capacity,
+                        @Value("${transliterator.heavy-hitters.max-text-length:200}") int maxTextLength) {
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.maxTextLength = maxTextLength;
+        this.counters = new AtomicLongArray(width * depth);
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void record(Script script, String text) {
+        add(script, text, 1);
+    }
+
+    /**
+     * Counts {@code count} occurrences at once — used to restore a snapshot.
+     */
+    public void add(Script script, String text, long count) {
+        if (count < 1 || text.length() > maxTextLength || text.isBlank()) {
+            return;
+        }
+        total.addAndGet(count);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(index(script, text, row), count));
+        }
+        offer(script, text, text.hashCode(), estimate);
+    }
+
+    public long estimate(Script script, String text) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(script, text, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * The {@code limit} heaviest inputs, heaviest first.
+     */
+    public List<Entry> top(int limit) {
+        Map<String, Slot> distinct = new HashMap<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null) {
+                // a race can briefly leave one key in two slots; keep the larger
+                distinct.merge(slot.script() + "\u0000" + slot.text(), slot,
+                        (a, b) -> a.estimate() >= b.estimate() ? a : b);
+            }
+        }
+        List<Entry> entries = new ArrayList<>(distinct.size());
+        for (Slot slot : distinct.values()) {
+            entries.add(new Entry(slot.script(), slot.text(), slot.estimate()));
+        }
+        entries.sort(Comparator.comparingLong(Entry::estimate).reversed()
+                .thenComparing(Entry::script).thenComparing(Entry::text));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : List.copyOf(entries);
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Halves every count, so inputs that stop arriving fade out of the top-K.
+     */
+    public void age() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >> 1);
+        }
+        for (int i = 0; i < slots.length(); i++) {
+            slots.getAndUpdate(i, slot -> slot == null ? null
+                    : new Slot(slot.script(), slot.text(), slot.hash(), slot.estimate() >> 1));
+        }
+        total.getAndUpdate(count -> count >> 1);
+        refreshFloor();
+    }
+
+    private void offer(Script script, String text, int hash, long estimate) {
+        if (estimate <= floor) {
+            return;
+        }
+
+        int minIndex = -1;
+        Slot min = null;
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && slot.hash() == hash && slot.script() == script && slot.text().equals(text)) {
+                if (estimate > slot.estimate()) {
+                    slots.compareAndSet(i, slot, new Slot(script, text, hash, estimate));
+                }
+                return;
+            }
+            if (minIndex < 0 || min != null && (slot == null || slot.estimate() < min.estimate())) {
+                minIndex = i;
+                min = slot;
+            }
+        }
+
+        if ((min == null || estimate > min.estimate())
+                && slots.compareAndSet(minIndex, min, new Slot(script, text, hash, estimate))) {
+            refreshFloor();
+        }
+    }
+
+    private void refreshFloor() {
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot == null) {
+                floor = 0;
+                return;
+            }
+            smallest = Math.min(smallest, slot.estimate());
+        }
+        floor = smallest;
+    }
+
+    // FNV-1a over the script and the chars from a per-row seed, finished with
+    // SplitMix64. Each row hashes the text on its own, so texts that collide
+    // in String.hashCode() don't share a counter in every row.
+    private int index(Script script, String text, int row) {
+        long h = (0xcbf29ce484222325L ^ SEEDS[row]) * 0x100000001b3L;
+        h = (h ^ script.ordinal()) * 0x100000001b3L;
+        for (int i = 0; i < text.length(); i++) {
+            h = (h ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return row * width + (int) (h & (width - 1));
+    }
+}
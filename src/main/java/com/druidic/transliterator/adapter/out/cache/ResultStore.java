@@ -0,0 +1,439 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Whole-text result cache, {@code (Script, text) -> output}, kept in a
+ * memory-mapped file rather than on the heap.
+ *
+ * The file is the cache: a header, an open-addressed slot table (linear
+ * probing, 16 bytes a slot) and an append-only region of records. Nothing is
+ * ever deserialized — lookups probe the mapping directly and compare the key
+ * in place. On {@link #close()} the mapping is flushed and the header marked
+ * clean; a file that was closed cleanly, with the same size, is reused at the
+ * next start once every slot is checked to point at a whole record. Anything
+ * else (a crash, a resize, a damaged file) starts empty.
+ *
+ * The header also keeps a fingerprint of the engine that wrote each script's
+ * results; {@link #bind} clears the store when an engine comes back with a
+ * different one, so a change of tables or mode never serves stale output.
+ *
+ * When the slot table passes 3/4 full or the record region runs out, the
+ * store is cleared and fills again; heavy hitters are re-warmed into it
+ * within one refresh interval.
+ */
+public class ResultStore implements Closeable {
+
+    private static final int MAGIC = 0x52535431; // "RST1"
+    private static final int FORMAT = 2;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int OFF_MAGIC = 0;
+    private static final int OFF_FORMAT = 4;
+    private static final int OFF_SLOTS = 8;
+    private static final int OFF_DATA_CAPACITY = 12;
+    private static final int OFF_DATA_END = 16;
+    private static final int OFF_ENTRIES = 20;
+    private static final int OFF_CLEAN = 24;
+    // One long per script, 0 while no engine is bound
+    private static final int OFF_FINGERPRINTS = 32;
+
+    // Slot: long hash (0 = empty), int record offset, int key length
+    private static final int SLOT_BYTES = 16;
+    // Record: byte script, byte flags, int key chars, int value bytes, key as UTF-16, value as UTF-8
+    private static final int RECORD_HEADER_BYTES = 10;
+    private static final int FLAG_JSON_SAFE = 1;
+
+    private static final Script[] SCRIPTS = Script.values();
+
+    static {
+        if (OFF_FINGERPRINTS + SCRIPTS.length * 8 > HEADER_BYTES) {
+            throw new IllegalStateException("Result store header has no room for " + SCRIPTS.length + " scripts");
+        }
+    }
+
+    private static final long MIN_BYTES = 64 * 1024;
+    private static final long MAX_BYTES = Integer.MAX_VALUE;
+
+    private final Path file;
+    private final boolean temporary;
+    private final int maxTextLength;
+    private final MappedByteBuffer map;
+    private final int slotCount;
+    private final int slotBase;
+    private final int dataBase;
+    private final int dataCapacity;
+    private final int maxEntries;
+    private final boolean restored;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private boolean closed;
+
+    /**
+     * Maps {@code file}, creating it if needed; with a null file a temporary
+     * one is used and deleted on close.
+     */
+    public ResultStore(Path file, long sizeBytes, int maxTextLength) throws IOException {
+        if (sizeBytes < MIN_BYTES || sizeBytes > MAX_BYTES) {
+            throw new IllegalArgumentException("Result store size must be between 64KB and 2GB: " + sizeBytes);
+        }
+        if (maxTextLength < 1) {
+            throw new IllegalArgumentException("maxTextLength must be positive: " + maxTextLength);
+        }
+        this.temporary = file == null;
+        this.file = temporary ? Files.createTempFile("result-store", ".bin") : file;
+        this.maxTextLength = maxTextLength;
+
+        // An eighth of the space for slots; at ~100 bytes a record that keeps
+        // the table and the record region filling at about the same rate
+        this.slotCount = Integer.highestOneBit((int) (sizeBytes / 8 / SLOT_BYTES));
+        this.slotBase = HEADER_BYTES;
+        this.dataBase = slotBase + slotCount * SLOT_BYTES;
+        this.dataCapacity = (int) sizeBytes - dataBase;
+        this.maxEntries = slotCount / 4 * 3;
+
+        Path parent = this.file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(this.file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean fresh = channel.size() != sizeBytes;
+            if (fresh) {
+                channel.truncate(0);
+            }
+            // The mapping outlives the channel
+            this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+            this.restored = !fresh && isCleanMatchingHeader() && hasValidSlots();
+            if (!restored) {
+                initialize(!fresh);
+            }
+        }
+        // Dirty until closed cleanly, so a crash mid-write is never reused
+        map.putInt(OFF_CLEAN, 0);
+        map.force(0, HEADER_BYTES);
+    }
+
+    /**
+     * Records which engine configuration answers for {@code script}. When the
+     * stored results came from a different one, the store is cleared and
+     * this returns true.
+     */
+    public boolean bind(Script script, long fingerprint) {
+        if (fingerprint == 0) {
+            throw new IllegalArgumentException("Fingerprint 0 means unbound");
+        }
+        int address = OFF_FINGERPRINTS + script.ordinal() * 8;
+        lock.writeLock().lock();
+        try {
+            long stored = map.getLong(address);
+            if (stored == fingerprint) {
+                return false;
+            }
+            boolean stale = stored != 0 && map.getInt(OFF_ENTRIES) > 0;
+            if (stale) {
+                clearSlots();
+                map.putInt(OFF_DATA_END, 0);
+                map.putInt(OFF_ENTRIES, 0);
+            }
+            map.putLong(address, fingerprint);
+            return stale;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean accepts(String text) {
+        return !text.isBlank() && text.length() <= maxTextLength;
+    }
+
+    /**
+     * Returns the stored output, or null.
+     */
+    public String get(Script script, String text) {
+        lock.readLock().lock();
+        try {
+            int record = find(script, text);
+            if (record < 0) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return new String(value(record), StandardCharsets.UTF_8);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stored output as the UTF-8 body of a JSON string, or null.
+     * Outputs with nothing to escape are copied straight out of the mapping.
+     */
+    public byte[] getJsonUtf8(Script script, String text) {
+        byte[] value;
+        boolean jsonSafe;
+        lock.readLock().lock();
+        try {
+            int record = find(script, text);
+            if (record < 0) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            value = value(record);
+            jsonSafe = (map.get(record + 1) & FLAG_JSON_SAFE) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+        return jsonSafe ? value : JsonUtf8.encode(new String(value, StandardCharsets.UTF_8));
+    }
+
+    public void put(Script script, String text, String output) {
+        if (!accepts(text)) {
+            return;
+        }
+        byte[] value = output.getBytes(StandardCharsets.UTF_8);
+        long recordBytes = RECORD_HEADER_BYTES + text.length() * 2L + value.length;
+        if (recordBytes > dataCapacity) {
+            return;
+        }
+        long hash = hash(script, text);
+
+        lock.writeLock().lock();
+        try {
+            if (closed || find(script, text) >= 0) {
+                return;
+            }
+            int dataEnd = map.getInt(OFF_DATA_END);
+            int entries = map.getInt(OFF_ENTRIES);
+            if (entries >= maxEntries || dataEnd + recordBytes > dataCapacity) {
+                clear();
+                dataEnd = 0;
+                entries = 0;
+            }
+
+            int record = dataBase + dataEnd;
+            map.put(record, (byte) script.ordinal());
+            // escape hands back the same instance when there is nothing to escape
+            map.put(record + 1, (byte) (JsonUtf8.escape(output) == output ? FLAG_JSON_SAFE : 0));
+            map.putInt(record + 2, text.length());
+            map.putInt(record + 6, value.length);
+            int at = record + RECORD_HEADER_BYTES;
+            for (int i = 0; i < text.length(); i++, at += 2) {
+                map.putChar(at, text.charAt(i));
+            }
+            map.put(at, value);
+
+            // Under 3/4 load there is always an empty slot
+            int slot = (int) hash & (slotCount - 1);
+            while (map.getLong(slotAddress(slot)) != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            int address = slotAddress(slot);
+            map.putInt(address + 8, record);
+            map.putInt(address + 12, text.length());
+            map.putLong(address, hash);
+
+            map.putInt(OFF_DATA_END, (int) (dataEnd + recordBytes));
+            map.putInt(OFF_ENTRIES, entries + 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int entries() {
+        return map.getInt(OFF_ENTRIES);
+    }
+
+    /**
+     * Bytes of the mapping actually written: header, slot table and records.
+     */
+    public long usedBytes() {
+        return dataBase + (long) map.getInt(OFF_DATA_END);
+    }
+
+    public long mappedBytes() {
+        return map.capacity();
+    }
+
+    public boolean restored() {
+        return restored;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long resets() {
+        return resets.sum();
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Flushes the mapping and marks the file clean for the next start.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (temporary) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            map.force();
+            map.putInt(OFF_CLEAN, 1);
+            map.force(0, HEADER_BYTES);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isCleanMatchingHeader() {
+        return map.getInt(OFF_MAGIC) == MAGIC
+                && map.getInt(OFF_FORMAT) == FORMAT
+                && map.getInt(OFF_SLOTS) == slotCount
+                && map.getInt(OFF_DATA_CAPACITY) == dataCapacity
+                && map.getInt(OFF_CLEAN) == 1
+                && map.getInt(OFF_DATA_END) >= 0 && map.getInt(OFF_DATA_END) <= dataCapacity
+                && map.getInt(OFF_ENTRIES) >= 0 && map.getInt(OFF_ENTRIES) <= maxEntries;
+    }
+
+    // A clean flag doesn't prove the contents: every used slot must point at a
+    // whole record inside the written region, and the count must match, which
+    // leaves the empty slot every probe needs to stop
+    private boolean hasValidSlots() {
+        long dataEnd = dataBase + (long) map.getInt(OFF_DATA_END);
+        int used = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int address = slotAddress(slot);
+            if (map.getLong(address) == 0) {
+                continue;
+            }
+            int record = map.getInt(address + 8);
+            int keyLength = map.getInt(address + 12);
+            if (record < dataBase || record + (long) RECORD_HEADER_BYTES > dataEnd
+                    || keyLength < 1 || map.getInt(record + 2) != keyLength
+                    || (map.get(record) & 0xFF) >= SCRIPTS.length || map.getInt(record + 6) < 0
+                    || record + (long) RECORD_HEADER_BYTES + keyLength * 2L + map.getInt(record + 6) > dataEnd) {
+                return false;
+            }
+            used++;
+        }
+        return used == map.getInt(OFF_ENTRIES);
+    }
+
+    // A freshly extended file is already zero; a reused one needs its slots
+    // and fingerprints wiped
+    private void initialize(boolean wipe) {
+        if (wipe) {
+            clearSlots();
+            for (int i = 0; i < SCRIPTS.length; i++) {
+                map.putLong(OFF_FINGERPRINTS + i * 8, 0);
+            }
+        }
+        map.putInt(OFF_MAGIC, MAGIC);
+        map.putInt(OFF_FORMAT, FORMAT);
+        map.putInt(OFF_SLOTS, slotCount);
+        map.putInt(OFF_DATA_CAPACITY, dataCapacity);
+        map.putInt(OFF_DATA_END, 0);
+        map.putInt(OFF_ENTRIES, 0);
+    }
+
+    private void clear() {
+        clearSlots();
+        map.putInt(OFF_DATA_END, 0);
+        map.putInt(OFF_ENTRIES, 0);
+        resets.increment();
+    }
+
+    private void clearSlots() {
+        ByteBuffer zeros = ByteBuffer.allocate(64 * 1024);
+        int end = dataBase;
+        for (int at = slotBase; at < end; at += zeros.capacity()) {
+            map.put(at, zeros, 0, Math.min(zeros.capacity(), end - at));
+        }
+    }
+
+    // Offset of the matching record, or -1
+    private int find(Script script, String text) {
+        long hash = hash(script, text);
+        int slot = (int) hash & (slotCount - 1);
+        while (true) {
+            int address = slotAddress(slot);
+            long stored = map.getLong(address);
+            if (stored == 0) {
+                return -1;
+            }
+            if (stored == hash && map.getInt(address + 12) == text.length()) {
+                int record = map.getInt(address + 8);
+                if (keyMatches(record, script, text)) {
+                    return record;
+                }
+            }
+            slot = (slot + 1) & (slotCount - 1);
+        }
+    }
+
+    private boolean keyMatches(int record, Script script, String text) {
+        if (map.get(record) != script.ordinal() || map.getInt(record + 2) != text.length()) {
+            return false;
+        }
+        int at = record + RECORD_HEADER_BYTES;
+        for (int i = 0; i < text.length(); i++, at += 2) {
+            if (map.getChar(at) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] value(int record) {
+        byte[] value = new byte[map.getInt(record + 6)];
+        map.get(record + RECORD_HEADER_BYTES + map.getInt(record + 2) * 2, value);
+        return value;
+    }
+
+    private int slotAddress(int slot) {
+        return slotBase + slot * SLOT_BYTES;
+    }
+
+    // FNV-1a over the chars, finished with the SplitMix64 mixer; never 0
+    private static long hash(Script script, String text) {
+        long h = 0xcbf29ce484222325L ^ script.ordinal();
+        for (int i = 0; i < text.length(); i++) {
+            h = (h ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,102 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.port.in.TransliteratePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Wraps every TransliteratePort bean in a {@link ResultStoreTransliterator}
+ * sharing one off-heap {@link ResultStore}.
+ * Enabled with {@code transliterator.result-store.enabled=true}; set
+ * {@code transliterator.result-store.file} to keep results across restarts.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transliterator.result-store.enabled", havingValue = "true")
+public class ResultStoreConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStoreConfiguration.class);
+
+    // Closed on shutdown, which flushes the mapping and marks the file clean
+    @Bean(destroyMethod = "close")
+    public ResultStore resultStore(@Value("${transliterator.result-store.file:}") String file,
+                                   @Value("${transliterator.result-store.size-mb:64}") int sizeMb,
+                                   @Value("${transliterator.result-store.max-text-length:500}") int maxTextLength)
+            throws IOException {
+        ResultStore store = new ResultStore(file.isBlank() ? null : Path.of(file), sizeMb * 1024L * 1024L, maxTextLength);
+        if (store.restored()) {
+            log.info("Mapped result store {} with {} entries ({} of {} bytes in use)",
+                    store.file(), store.entries(), store.usedBytes(), store.mappedBytes());
+        } else {
+            log.info("Mapped empty result store {} ({} bytes)", store.file(), store.mappedBytes());
+        }
+        return store;
+    }
+
+    // Static so the post-processor is registered without initializing this
+    // configuration early; the store itself is resolved lazily on first wrap.
+    @Bean
+    public static BeanPostProcessor resultStorePostProcessor(ObjectProvider<ResultStore> resultStore) {
+        return new ResultStorePostProcessor(resultStore);
+    }
+
+    @Bean
+    public MeterBinder resultStoreMetrics(ResultStore resultStore) {
+        return registry -> {
+            FunctionCounter.builder("transliterator.result.store.hits", resultStore, ResultStore::hits)
+                    .description("Texts answered from the result store")
+                    .register(registry);
+            FunctionCounter.builder("transliterator.result.store.misses", resultStore, ResultStore::misses)
+                    .description("Texts that fell through to the engine")
+                    .register(registry);
+            FunctionCounter.builder("transliterator.result.store.resets", resultStore, ResultStore::resets)
+                    .description("Times the store filled up and was cleared")
+                    .register(registry);
+            Gauge.builder("transliterator.result.store.entries", resultStore, ResultStore::entries)
+                    .register(registry);
+            Gauge.builder("transliterator.result.store.used", resultStore, ResultStore::usedBytes)
+                    .baseUnit("bytes")
+                    .description("Off-heap bytes written: header, slot table and records")
+                    .register(registry);
+            Gauge.builder("transliterator.result.store.mapped", resultStore, ResultStore::mappedBytes)
+                    .baseUnit("bytes")
+                    .description("Size of the memory-mapped store file")
+                    .register(registry);
+        };
+    }
+
+    // Just outside the word memo, so a whole-text hit skips the word split
+    private record ResultStorePostProcessor(ObjectProvider<ResultStore> resultStore)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort port && !(bean instanceof ResultStoreTransliterator)) {
+                ResultStore store = resultStore.getObject();
+                if (store.bind(port.script(), ResultStoreTransliterator.fingerprint(port))) {
+                    log.info("Cleared result store {}: {} results came from other tables or another mode",
+                            store.file(), port.script());
+                }
+                return new ResultStoreTransliterator(port, store);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
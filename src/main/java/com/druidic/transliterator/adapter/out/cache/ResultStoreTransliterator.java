@@ -0,0 +1,105 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator that answers whole texts from a shared {@link ResultStore} and
+ * stores what the delegate produces on a miss. Texts the store does not
+ * accept (blank or too long) go straight to the delegate.
+ */
+public class ResultStoreTransliterator implements TransliteratePort {
+
+    private final TransliteratePort delegate;
+    private final ResultStore store;
+
+    public ResultStoreTransliterator(TransliteratePort delegate, ResultStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    /**
+     * Identifies the output the port produces — its script, rules version and
+     * variant — for {@link ResultStore#bind}. Never 0.
+     */
+    static long fingerprint(TransliteratePort port) {
+        String id = port.script().name()
+                + '\u0000' + port.getRules().map(TransliterationRules::version).orElse("")
+                + '\u0000' + port.variant();
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h = (h ^ id.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h == 0 ? 1 : h;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        String input = request.rawText();
+        // Stored results carry no alignment
+        if (!store.accepts(input) || request.alignment()) {
+            return delegate.transliterate(request);
+        }
+        String stored = store.get(request.script(), input);
+        if (stored != null) {
+            return new TransliterationResult(input, stored);
+        }
+        TransliterationResult result = delegate.transliterate(request);
+        store.put(request.script(), input, result.runeText());
+        return result;
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        String input = request.rawText();
+        if (!store.accepts(input)) {
+            delegate.writeJsonUtf8(request, out);
+            return;
+        }
+        byte[] stored = store.getJsonUtf8(request.script(), input);
+        if (stored == null) {
+            String output = delegate.transliterate(request).runeText();
+            store.put(request.script(), input, output);
+            stored = JsonUtf8.encode(output);
+        }
+        out.write(stored);
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return delegate.isWhitespaceContextFree();
+    }
+}
@@ -0,0 +1,138 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free memo of per-word transliterations, shared by every request.
+ *
+ * Open-addressed over a fixed power-of-two table: a lookup hashes the word's
+ * characters in place and compares them with regionMatches, so a hit allocates
+ * nothing. Each key probes a short run of slots; when the run is full the home
+ * slot is overwritten, which keeps memory fixed without any eviction
+ * bookkeeping. Entries are immutable, so readers never lock.
+ */
+public class WordMemo {
+
+    // Longer tokens are rare under Zipf's law and not worth a slot
+    static final int MAX_WORD_LENGTH = 32;
+
+    private static final int PROBES = 4;
+
+    public static final class Entry {
+        private final int hash;
+        private final Script script;
+        private final String word;
+        private final String output;
+        private final byte[] json;
+
+        Entry(int hash, Script script, String word, String output) {
+            this.hash = hash;
+            this.script = script;
+            this.word = word;
+            this.output = output;
+            this.json = JsonUtf8.encode(output);
+        }
+
+        public String output() {
+            return output;
+        }
+
+        /** The output pre-encoded as JSON-escaped UTF-8. */
+        public byte[] json() {
+            return json;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final Map<Script, LongAdder> hits = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> misses = new EnumMap<>(Script.class);
+
+    public WordMemo(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        for (Script script : Script.values()) {
+            hits.put(script, new LongAdder());
+            misses.put(script, new LongAdder());
+        }
+    }
+
+    /**
+     * Looks up {@code text[start, end)} without copying it. Returns null on a miss.
+     */
+    public Entry get(Script script, String text, int start, int end) {
+        int length = end - start;
+        if (length > MAX_WORD_LENGTH) {
+            return null;
+        }
+
+        int hash = hash(script, text, start, end);
+        for (int probe = 0; probe < PROBES; probe++) {
+            Entry entry = table.get((hash + probe) & mask);
+            if (entry == null) {
+                break;
+            }
+            if (entry.hash == hash && entry.script == script && entry.word.length() == length
+                    && text.regionMatches(start, entry.word, 0, length)) {
+                hits.get(script).increment();
+                return entry;
+            }
+        }
+        misses.get(script).increment();
+        return null;
+    }
+
+    /**
+     * Stores a word's output and returns the entry. Words too long to memoize
+     * still get an entry so callers can use it, but it is not stored.
+     */
+    public Entry put(Script script, String word, String output) {
+        int hash = hash(script, word, 0, word.length());
+        Entry entry = new Entry(hash, script, word, output);
+        if (word.length() > MAX_WORD_LENGTH) {
+            return entry;
+        }
+
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = (hash + probe) & mask;
+            if (table.get(slot) == null && table.compareAndSet(slot, null, entry)) {
+                return entry;
+            }
+        }
+        table.set(hash & mask, entry);
+        return entry;
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    public long hits(Script script) {
+        return hits.get(script).sum();
+    }
+
+    public long misses(Script script) {
+        return misses.get(script).sum();
+    }
+
+    public double hitRate(Script script) {
+        long hitCount = hits(script);
+        long total = hitCount + misses(script);
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static int hash(Script script, String text, int start, int end) {
+        int hash = script.ordinal();
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
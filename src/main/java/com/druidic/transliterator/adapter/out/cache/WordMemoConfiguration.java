@@ -0,0 +1,75 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wraps every whitespace-context-free TransliteratePort bean in a
+ * {@link WordMemoTransliterator} sharing one {@link WordMemo}.
+ * Controllers keep injecting TransliteratePort by qualifier and never see the memo.
+ * Enabled with {@code transliterator.word-memo.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transliterator.word-memo.enabled", havingValue = "true")
+public class WordMemoConfiguration {
+
+    @Bean
+    public WordMemo wordMemo(@Value("${transliterator.word-memo.capacity:65536}") int capacity) {
+        return new WordMemo(capacity);
+    }
+
+    // Static so the post-processor is registered without initializing this
+    // configuration early; the memo itself is resolved lazily on first wrap.
+    @Bean
+    public static BeanPostProcessor wordMemoPostProcessor(ObjectProvider<WordMemo> wordMemo) {
+        return new WordMemoPostProcessor(wordMemo);
+    }
+
+    @Bean
+    public MeterBinder wordMemoMetrics(WordMemo wordMemo) {
+        return registry -> {
+            for (Script script : Script.values()) {
+                String tag = script.name();
+                FunctionCounter.builder("transliterator.word.memo.hits", wordMemo, memo -> memo.hits(script))
+                        .tag("script", tag)
+                        .description("Word lookups served from the memo")
+                        .register(registry);
+                FunctionCounter.builder("transliterator.word.memo.misses", wordMemo, memo -> memo.misses(script))
+                        .tag("script", tag)
+                        .description("Word lookups that fell through to the engine")
+                        .register(registry);
+                Gauge.builder("transliterator.word.memo.hit.ratio", wordMemo, memo -> memo.hitRate(script))
+                        .tag("script", tag)
+                        .register(registry);
+            }
+        };
+    }
+
+    // Runs ahead of the other decorators so the memo sits directly on the engine
+    private record WordMemoPostProcessor(ObjectProvider<WordMemo> wordMemo) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort port && port.isWhitespaceContextFree()
+                    && !(bean instanceof WordMemoTransliterator)) {
+                return new WordMemoTransliterator(port, wordMemo.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
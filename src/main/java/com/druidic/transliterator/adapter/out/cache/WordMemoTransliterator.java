@@ -0,0 +1,125 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator that transliterates word by word through a shared {@link WordMemo}.
+ * Only valid for engines that are whitespace-context-free: with no state
+ * carried across a space or newline, a word's output depends on the word
+ * alone and the whole result is the concatenation of its words.
+ */
+public class WordMemoTransliterator implements TransliteratePort {
+
+    private static final byte[] NEWLINE_JSON = JsonUtf8.encode("\n");
+
+    private final TransliteratePort delegate;
+    private final WordMemo memo;
+
+    public WordMemoTransliterator(TransliteratePort delegate, WordMemo memo) {
+        if (!delegate.isWhitespaceContextFree()) {
+            throw new IllegalArgumentException("Engine carries state across whitespace: " + delegate);
+        }
+        this.delegate = delegate;
+        this.memo = memo;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        String input = request.rawText();
+        // Memoised words carry no alignment; the engine records it in one pass
+        if (input.isBlank() || request.alignment()) {
+            return delegate.transliterate(request);
+        }
+
+        StringBuilder out = new StringBuilder(input.length() * 2);
+        int start = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            if (i == input.length() || isSeparator(input.charAt(i))) {
+                if (i > start) {
+                    out.append(word(request, start, i).output());
+                }
+                if (i < input.length()) {
+                    out.append(input.charAt(i));
+                }
+                start = i + 1;
+            }
+        }
+        return new TransliterationResult(input, out.toString());
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        String input = request.rawText();
+        if (input.isBlank()) {
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            if (i == input.length() || isSeparator(input.charAt(i))) {
+                if (i > start) {
+                    out.write(word(request, start, i).json());
+                }
+                if (i < input.length()) {
+                    if (input.charAt(i) == '\n') {
+                        out.write(NEWLINE_JSON);
+                    } else {
+                        out.write(' ');
+                    }
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return true;
+    }
+
+    private WordMemo.Entry word(TransliterationRequest request, int start, int end) {
+        String input = request.rawText();
+        WordMemo.Entry entry = memo.get(request.script(), input, start, end);
+        if (entry != null) {
+            return entry;
+        }
+        String word = input.substring(start, end);
+        String output = delegate.transliterate(new TransliterationRequest(word, request.script())).runeText();
+        return memo.put(request.script(), word, output);
+    }
+
+    private static boolean isSeparator(char ch) {
+        return ch == ' ' || ch == '\n';
+    }
+}
@@ -0,0 +1,79 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.core.Script;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring over the cluster's peers. Each peer sits at
+ * {@value #POINTS_PER_PEER} points so keys spread evenly, and adding or
+ * removing a peer only moves the keys on its own arcs. Every replica builds
+ * the same ring from the same peer list, so they agree on owners without
+ * talking to each other.
+ */
+final class HashRing {
+
+    static final int POINTS_PER_PEER = 160;
+
+    private final List<String> peers;
+    private final long[] points;
+    private final String[] owners;
+
+    HashRing(Collection<String> peers) {
+        this.peers = peers.stream().distinct().sorted().toList();
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String peer : this.peers) {
+            for (int i = 0; i < POINTS_PER_PEER; i++) {
+                // On the rare collision the smaller name wins, on every replica alike
+                ring.putIfAbsent(hash(i, peer), peer);
+            }
+        }
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> point : ring.entrySet()) {
+            points[i] = point.getKey();
+            owners[i++] = point.getValue();
+        }
+    }
+
+    List<String> peers() {
+        return peers;
+    }
+
+    boolean contains(String peer) {
+        return peers.contains(peer);
+    }
+
+    /**
+     * The peer owning a key: the first point at or after its hash. Null when
+     * the ring is empty.
+     */
+    String owner(Script script, String text) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, hash(script.ordinal(), text));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // FNV-1a over the seed and the chars, finished with the SplitMix64 mixer.
+    // The seed gets its own round: folded into the first char, seed 1 with
+    // "a…" would collide with seed 2 with "b…"
+    static long hash(int seed, String text) {
+        long h = (0xcbf29ce484222325L ^ seed) * 0x100000001b3L;
+        for (int i = 0; i < text.length(); i++) {
+            h = (h ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,377 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.adapter.in.socket.SocketClient;
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cluster-wide result cache: every replica routes each (script, text) key to
+ * one owner on a {@link HashRing} of peers, and asks the owner over the
+ * binary socket protocol, so the owner's own caches answer for the whole
+ * cluster. Remote answers are kept in a small direct-mapped near-cache.
+ *
+ * Peers are {@code host:port} addresses of each replica's peer listener,
+ * listed statically or in a file that is re-read when it changes. A request
+ * the owner doesn't answer within the timeout is computed locally, and only
+ * that request; the pipelined connection stays up for the others. A peer
+ * that can't be connected to, closes its connection or times out
+ * {@value #TIMEOUTS_BEFORE_DOWN} times in a row is skipped for
+ * {@code retryAfter}, and its keys are computed locally meanwhile; nothing
+ * ever waits longer than one timeout.
+ */
+public class ShardedCache implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedCache.class);
+
+    static final int TIMEOUTS_BEFORE_DOWN = 3;
+
+    /**
+     * @param self           this replica's address as it appears in the peer list
+     * @param peers          static peer list; ignored when {@code peersFile} is set
+     * @param peersFile      file with one peer per line ({@code #} comments), or null
+     * @param peersFileCheck how often the file's modified time is checked
+     * @param maxTextLength  longer texts are computed locally; shipping them costs more than the engine
+     */
+    public record Settings(String self, List<String> peers, Path peersFile, Duration peersFileCheck,
+                           int nearCacheSize, int maxTextLength, Duration timeout, Duration retryAfter) {}
+
+    public static final class Entry {
+        private final long hash;
+        private final Script script;
+        private final String text;
+        private final String output;
+        private final byte[] json;
+
+        Entry(long hash, Script script, String text, String output) {
+            this.hash = hash;
+            this.script = script;
+            this.text = text;
+            this.output = output;
+            this.json = JsonUtf8.encode(output);
+        }
+
+        public String output() {
+            return output;
+        }
+
+        /** The output pre-encoded as JSON-escaped UTF-8. */
+        public byte[] json() {
+            return json;
+        }
+    }
+
+    private final Settings settings;
+    private final long timeoutNanos;
+    private final AtomicReferenceArray<Entry> near;
+    private final int mask;
+    private final Map<String, Peer> clients = new ConcurrentHashMap<>();
+    private final Map<Script, TransliteratePort> localEngines = Collections.synchronizedMap(new EnumMap<>(Script.class));
+
+    private volatile HashRing ring;
+    private volatile FileTime peersFileModified;
+    private volatile long nextPeersFileCheck;
+    private final AtomicBoolean checkingPeersFile = new AtomicBoolean();
+
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ShardedCache(Settings settings) throws IOException {
+        if (settings.self() == null || settings.self().isBlank()) {
+            throw new IllegalArgumentException("transliterator.cluster.self must name this replica's peer address");
+        }
+        this.settings = settings;
+        this.timeoutNanos = settings.timeout().toNanos();
+        int size = Integer.highestOneBit(Math.max(settings.nearCacheSize(), 2) - 1) << 1;
+        this.near = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        if (settings.peersFile() != null) {
+            peersFileModified = Files.getLastModifiedTime(settings.peersFile());
+            ring = new HashRing(readPeers(settings.peersFile()));
+            nextPeersFileCheck = System.nanoTime() + settings.peersFileCheck().toNanos();
+        } else {
+            ring = new HashRing(settings.peers());
+        }
+        warnIfNotMember(ring);
+    }
+
+    /**
+     * The peer that owns a key when it is not this replica, or null when the
+     * key should be computed here: owned locally, blank, or too long to ship.
+     */
+    public String remoteOwner(Script script, String text) {
+        if (text.length() > settings.maxTextLength() || text.isBlank()) {
+            return null;
+        }
+        String owner = ring().owner(script, text);
+        return owner == null || owner.equals(settings.self()) ? null : owner;
+    }
+
+    /**
+     * A remote answer kept from earlier, or null.
+     */
+    public Entry near(Script script, String text) {
+        long hash = HashRing.hash(script.ordinal(), text);
+        Entry entry = near.get((int) hash & mask);
+        if (entry != null && entry.hash == hash && entry.script == script && entry.text.equals(text)) {
+            nearHits.increment();
+            return entry;
+        }
+        return null;
+    }
+
+    public Entry remember(Script script, String text, String output) {
+        long hash = HashRing.hash(script.ordinal(), text);
+        Entry entry = new Entry(hash, script, text, output);
+        near.set((int) hash & mask, entry);
+        return entry;
+    }
+
+    /**
+     * Asks the owner for a key's output. Returns null when the owner is down,
+     * slow or failed, and the caller should compute it locally.
+     */
+    public String fetch(String owner, Script script, String text) {
+        Peer peer = clients.computeIfAbsent(owner, Peer::new);
+        SocketClient client = peer.client();
+        if (client == null) {
+            fallbacks.increment();
+            return null;
+        }
+        CompletableFuture<String> response = client.submit(script, text);
+        try {
+            String output = response.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            peer.answered();
+            remoteHits.increment();
+            return output;
+        } catch (TimeoutException e) {
+            // Fails this request alone; the late answer is dropped on arrival
+            response.cancel(false);
+            peer.timedOut();
+        } catch (ExecutionException e) {
+            if (!client.isOpen()) {
+                peer.markDown(e.getCause().getMessage());
+            } else {
+                log.debug("Peer {} could not answer for {}: {}", owner, script, e.getCause().getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fallbacks.increment();
+        return null;
+    }
+
+    /**
+     * Records the undecorated chain below this cache for one script; the
+     * peer listener serves owners' requests from these so they are never
+     * forwarded again.
+     */
+    public void registerLocal(TransliteratePort port) {
+        localEngines.put(port.script(), port);
+    }
+
+    public Map<Script, TransliteratePort> localEngines() {
+        synchronized (localEngines) {
+            return new EnumMap<>(localEngines);
+        }
+    }
+
+    public String self() {
+        return settings.self();
+    }
+
+    public List<String> peers() {
+        return ring().peers();
+    }
+
+    public long nearHits() {
+        return nearHits.sum();
+    }
+
+    public long remoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void close() {
+        for (Peer peer : clients.values()) {
+            peer.close();
+        }
+        clients.clear();
+    }
+
+    private HashRing ring() {
+        if (settings.peersFile() != null && System.nanoTime() - nextPeersFileCheck >= 0
+                && checkingPeersFile.compareAndSet(false, true)) {
+            try {
+                nextPeersFileCheck = System.nanoTime() + settings.peersFileCheck().toNanos();
+                reloadPeers();
+            } finally {
+                checkingPeersFile.set(false);
+            }
+        }
+        return ring;
+    }
+
+    private void reloadPeers() {
+        Path file = settings.peersFile();
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            if (modified.equals(peersFileModified)) {
+                return;
+            }
+            HashRing reloaded = new HashRing(readPeers(file));
+            peersFileModified = modified;
+            if (reloaded.peers().equals(ring.peers())) {
+                return;
+            }
+            ring = reloaded;
+            log.info("Cluster peers changed to {}", reloaded.peers());
+            warnIfNotMember(reloaded);
+            clients.keySet().removeIf(address -> {
+                if (reloaded.contains(address)) {
+                    return false;
+                }
+                clients.get(address).close();
+                return true;
+            });
+        } catch (IOException e) {
+            // Keep routing with the last good list
+            log.warn("Could not read cluster peers file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static List<String> readPeers(Path file) throws IOException {
+        return Files.readAllLines(file).stream()
+                .map(line -> {
+                    int comment = line.indexOf('#');
+                    return (comment >= 0 ? line.substring(0, comment) : line).strip();
+                })
+                .filter(line -> !line.isEmpty())
+                .toList();
+    }
+
+    private void warnIfNotMember(HashRing ring) {
+        if (!ring.contains(settings.self())) {
+            log.warn("{} is not in the cluster peer list {}; it will forward every key", settings.self(), ring.peers());
+        }
+    }
+
+    static String host(String peer) {
+        int colon = peer.lastIndexOf(':');
+        String host = colon < 0 ? peer : peer.substring(0, colon);
+        return host.startsWith("[") && host.endsWith("]") ? host.substring(1, host.length() - 1) : host;
+    }
+
+    static int port(String peer) {
+        int colon = peer.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Peer address '" + peer + "' has no port");
+        }
+        return Integer.parseInt(peer.substring(colon + 1));
+    }
+
+    // One connection per peer, opened on first use; requests from every
+    // thread are pipelined over it
+    private final class Peer {
+
+        private final String address;
+        private final ReentrantLock connecting = new ReentrantLock();
+        private volatile SocketClient client;
+        private volatile long downUntil = System.nanoTime();
+        private final AtomicInteger timeouts = new AtomicInteger();
+
+        Peer(String address) {
+            this.address = address;
+        }
+
+        // Null while the peer is marked down or another thread is connecting
+        SocketClient client() {
+            SocketClient current = client;
+            if (current != null && current.isOpen()) {
+                return current;
+            }
+            if (System.nanoTime() - downUntil < 0 || !connecting.tryLock()) {
+                return null;
+            }
+            try {
+                current = client;
+                if (current == null || !current.isOpen()) {
+                    current = SocketClient.connect(new InetSocketAddress(host(address), port(address)), settings.timeout());
+                    client = current;
+                }
+                return current;
+            } catch (IOException | RuntimeException e) {
+                markDown(e.getMessage());
+                return null;
+            } finally {
+                connecting.unlock();
+            }
+        }
+
+        void answered() {
+            if (timeouts.get() != 0) {
+                timeouts.set(0);
+            }
+        }
+
+        void timedOut() {
+            int inARow = timeouts.incrementAndGet();
+            if (inARow >= TIMEOUTS_BEFORE_DOWN) {
+                markDown(inARow + " requests in a row without an answer within " + settings.timeout());
+            }
+        }
+
+        void markDown(String reason) {
+            timeouts.set(0);
+            boolean wasUp = System.nanoTime() - downUntil >= 0;
+            downUntil = System.nanoTime() + settings.retryAfter().toNanos();
+            close();
+            if (wasUp) {
+                log.warn("Cluster peer {} unavailable ({}); computing its keys locally for {}",
+                        address, reason, settings.retryAfter());
+            }
+        }
+
+        void close() {
+            SocketClient current = client;
+            client = null;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    log.debug("Closing connection to {}", address, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.in.socket.SocketServer;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Shards results across replicas: wraps every TransliteratePort bean in a
+ * {@link ShardedTransliterator} and listens for peers' requests on the port
+ * of {@code transliterator.cluster.self}. Enabled with
+ * {@code transliterator.cluster.enabled=true}; peers come from
+ * {@code transliterator.cluster.peers} or {@code transliterator.cluster.peers-file}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transliterator.cluster.enabled", havingValue = "true")
+public class ShardedCacheConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedCacheConfiguration.class);
+
+    @Bean(destroyMethod = "close")
+    public ShardedCache shardedCache(@Value("${transliterator.cluster.self:}") String self,
+                                     @Value("${transliterator.cluster.peers:}") String peers,
+                                     @Value("${transliterator.cluster.peers-file:}") String peersFile,
+                                     @Value("${transliterator.cluster.peers-file-check:1s}") Duration peersFileCheck,
+                                     @Value("${transliterator.cluster.near-cache-size:4096}") int nearCacheSize,
+                                     @Value("${transliterator.cluster.max-text-length:500}") int maxTextLength,
+                                     @Value("${transliterator.cluster.timeout:100ms}") Duration timeout,
+                                     @Value("${transliterator.cluster.retry-after:5s}") Duration retryAfter)
+            throws IOException {
+        ShardedCache cache = new ShardedCache(new ShardedCache.Settings(self,
+                Arrays.stream(peers.split(",")).map(String::strip).filter(peer -> !peer.isEmpty()).toList(),
+                peersFile.isBlank() ? null : Path.of(peersFile), peersFileCheck,
+                nearCacheSize, maxTextLength, timeout, retryAfter));
+        log.info("Sharding results as {} across {}", cache.self(), cache.peers());
+        return cache;
+    }
+
+    // Serves the engines below the sharding decorator, so a peer's request is
+    // answered here and never forwarded again. Taking the registry makes sure
+    // every engine has been wrapped, and so registered, first. The listener
+    // has no authentication, so it binds to loopback unless told otherwise.
+    @Bean(destroyMethod = "close")
+    public SocketServer clusterPeerServer(ShardedCache shardedCache, ScriptRegistry scripts,
+                                          @Value("${transliterator.cluster.bind-address:127.0.0.1}") String bindAddress,
+                                          @Value("${transliterator.cluster.threads:2}") int threads,
+                                          @Value("${transliterator.cluster.max-text-length:500}") int maxTextLength)
+            throws IOException {
+        // Peers only send keys up to max-text-length chars, at most 3 UTF-8 bytes each
+        SocketServer server = new SocketServer(shardedCache.localEngines(),
+                new InetSocketAddress(bindAddress, ShardedCache.port(shardedCache.self())), null,
+                threads, 5 + 3 * maxTextLength, Integer.MAX_VALUE);
+        server.start();
+        return server;
+    }
+
+    // Static so the post-processor is registered without initializing this
+    // configuration early; the cache itself is resolved lazily on first wrap.
+    @Bean
+    public static BeanPostProcessor shardedCachePostProcessor(ObjectProvider<ShardedCache> shardedCache) {
+        return new ShardedCachePostProcessor(shardedCache);
+    }
+
+    @Bean
+    public MeterBinder shardedCacheMetrics(ShardedCache shardedCache) {
+        return registry -> {
+            FunctionCounter.builder("transliterator.cluster.near.hits", shardedCache, ShardedCache::nearHits)
+                    .description("Remote-owned texts answered from the near-cache")
+                    .register(registry);
+            FunctionCounter.builder("transliterator.cluster.remote.hits", shardedCache, ShardedCache::remoteHits)
+                    .description("Texts answered by their owning replica")
+                    .register(registry);
+            FunctionCounter.builder("transliterator.cluster.fallbacks", shardedCache, ShardedCache::fallbacks)
+                    .description("Remote-owned texts computed locally because the owner was unavailable")
+                    .register(registry);
+            Gauge.builder("transliterator.cluster.peers", shardedCache, cache -> cache.peers().size())
+                    .register(registry);
+        };
+    }
+
+    // Outside the word memo and result store, so only the owner computes and
+    // stores a key; inside JFR, which times the remote call too
+    private record ShardedCachePostProcessor(ObjectProvider<ShardedCache> shardedCache)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort port && !(bean instanceof ShardedTransliterator)) {
+                ShardedCache cache = shardedCache.getObject();
+                cache.registerLocal(port);
+                return new ShardedTransliterator(port, cache);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 2;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator that sends each text to the replica owning it in the
+ * {@link ShardedCache}, so a hot text is computed and cached once per
+ * cluster rather than once per replica. Texts this replica owns, and any
+ * whose owner cannot be reached, go to the delegate.
+ */
+public class ShardedTransliterator implements TransliteratePort {
+
+    private final TransliteratePort delegate;
+    private final ShardedCache cache;
+
+    public ShardedTransliterator(TransliteratePort delegate, ShardedCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        // The wire protocol carries no alignment
+        if (request.alignment()) {
+            return delegate.transliterate(request);
+        }
+        ShardedCache.Entry entry = remote(request);
+        return entry != null
+                ? new TransliterationResult(request.rawText(), entry.output())
+                : delegate.transliterate(request);
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        ShardedCache.Entry entry = remote(request);
+        if (entry != null) {
+            out.write(entry.json());
+        } else {
+            delegate.writeJsonUtf8(request, out);
+        }
+    }
+
+    // The owner's answer, from the near-cache or the owner itself; null to compute here
+    private ShardedCache.Entry remote(TransliterationRequest request) {
+        Script script = request.script();
+        String input = request.rawText();
+        String owner = cache.remoteOwner(script, input);
+        if (owner == null) {
+            return null;
+        }
+        ShardedCache.Entry entry = cache.near(script, input);
+        if (entry == null) {
+            String output = cache.fetch(owner, script, input);
+            if (output != null) {
+                entry = cache.remember(script, input, output);
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return delegate.isWhitespaceContextFree();
+    }
+}
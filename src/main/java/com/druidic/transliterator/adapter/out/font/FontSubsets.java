@@ -0,0 +1,141 @@
+package com.druidic.transliterator.adapter.out.font;
+
+import com.druidic.transliterator.core.Script;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Subsets of the scripts' web fonts, cached by glyph-set hash.
+ *
+ * The hash covers the script, the source font and the sorted, distinct code
+ * points, so equal glyph sets share one entry whatever text they came from,
+ * and a URL carrying the hash always names the same bytes. Scripts drawn with
+ * system fonts (Elder Futhark) have no source font and no subsets.
+ */
+@Component
+public class FontSubsets {
+
+    // WOFF 1.0 sources; the WOFF2 files served to browsers are Brotli-packed
+    private static final Map<Script, String> SOURCE_FONTS = new EnumMap<>(Map.of(
+            Script.TENGWAR, "/static/fonts/tngan-webfont.woff",
+            Script.DETHEK, "/static/fonts/dethek_stone.woff"));
+
+    public record Subset(Script script, String hash, String glyphs, byte[] woff) {}
+
+    private record SourceFont(WoffFont font, byte[] digest) {}
+
+    private final Map<Script, SourceFont> sources = new EnumMap<>(Script.class);
+    private final Map<String, Subset> cache;
+
+    public FontSubsets(@Value("${transliterator.fonts.subset-cache-size:256}") int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("subset-cache-size must be at least 1");
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Subset> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public boolean supports(Script script) {
+        return SOURCE_FONTS.containsKey(script);
+    }
+
+    /**
+     * The subset of the script's font covering every character of
+     * {@code text}; empty if the script has no web font.
+     */
+    public Optional<Subset> subset(Script script, String text) {
+        if (!supports(script)) {
+            return Optional.empty();
+        }
+        SourceFont source = source(script);
+        int[] codePoints = codePoints(text);
+        String glyphs = new String(codePoints, 0, codePoints.length);
+        String hash = hash(script, source, glyphs);
+
+        synchronized (cache) {
+            Subset cached = cache.get(hash);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        // Built outside the lock; two threads racing on one set build it twice
+        Subset subset = new Subset(script, hash, glyphs, FontSubsetter.subset(source.font(), codePoints).toWoff());
+        synchronized (cache) {
+            cache.putIfAbsent(hash, subset);
+        }
+        return Optional.of(subset);
+    }
+
+    /**
+     * The hash {@link #subset} would give {@code text}, without building
+     * anything; empty if the script has no web font.
+     */
+    public Optional<String> hash(Script script, String text) {
+        if (!supports(script)) {
+            return Optional.empty();
+        }
+        int[] codePoints = codePoints(text);
+        return Optional.of(hash(script, source(script), new String(codePoints, 0, codePoints.length)));
+    }
+
+    public int cached() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private SourceFont source(Script script) {
+        synchronized (sources) {
+            return sources.computeIfAbsent(script, FontSubsets::load);
+        }
+    }
+
+    private static SourceFont load(Script script) {
+        String resource = SOURCE_FONTS.get(script);
+        try (InputStream in = FontSubsets.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing font resource " + resource);
+            }
+            byte[] woff = in.readAllBytes();
+            return new SourceFont(WoffFont.read(woff), sha256().digest(woff));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + resource, e);
+        }
+    }
+
+    private static int[] codePoints(String text) {
+        return text.codePoints().filter(cp -> cp != '\n').sorted().distinct().toArray();
+    }
+
+    private static String hash(Script script, SourceFont source, String glyphs) {
+        MessageDigest digest = sha256();
+        digest.update(script.name().getBytes(StandardCharsets.UTF_8));
+        digest.update(source.digest());
+        digest.update(glyphs.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.druidic.transliterator.adapter.out.font;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cuts a TrueType font down to the glyphs for a set of code points.
+ *
+ * Glyph ids are kept, so cmap, hmtx and the layout tables stay valid
+ * untouched; glyphs outside the set (and outside any composite that uses
+ * them) are emptied, which is where nearly all of a font's bytes are. Glyph
+ * names are dropped from post, and tables a subset invalidates or does not
+ * need are left out.
+ */
+public final class FontSubsetter {
+
+    private static final Set<String> DROPPED_TABLES = Set.of("DSIG", "FFTM");
+
+    // Composite glyph component flags
+    private static final int ARG_1_AND_2_ARE_WORDS = 0x0001;
+    private static final int WE_HAVE_A_SCALE = 0x0008;
+    private static final int MORE_COMPONENTS = 0x0020;
+    private static final int WE_HAVE_AN_X_AND_Y_SCALE = 0x0040;
+    private static final int WE_HAVE_A_TWO_BY_TWO = 0x0080;
+
+    private FontSubsetter() {
+    }
+
+    /**
+     * The subset of {@code font} that can draw {@code codePoints}; .notdef is always kept.
+     */
+    public static WoffFont subset(WoffFont font, int[] codePoints) {
+        byte[] glyf = required(font, "glyf");
+        boolean longLoca = ByteBuffer.wrap(required(font, "head")).getShort(50) != 0;
+        int numGlyphs = ByteBuffer.wrap(required(font, "maxp")).getShort(4) & 0xFFFF;
+        int[] offsets = loca(required(font, "loca"), numGlyphs, longLoca);
+
+        BitSet keep = new BitSet(numGlyphs);
+        keep.set(0);
+        ByteBuffer cmap = ByteBuffer.wrap(required(font, "cmap"));
+        int subtable = bestSubtable(cmap);
+        for (int codePoint : codePoints) {
+            int glyph = glyphFor(cmap, subtable, codePoint);
+            if (glyph > 0 && glyph < numGlyphs) {
+                keep.set(glyph);
+            }
+        }
+        addComponents(keep, glyf, offsets);
+
+        ByteArrayOutputStream subsetGlyf = new ByteArrayOutputStream();
+        ByteBuffer subsetLoca = ByteBuffer.allocate((numGlyphs + 1) * (longLoca ? 4 : 2));
+        for (int glyph = 0; glyph < numGlyphs; glyph++) {
+            putOffset(subsetLoca, subsetGlyf.size(), longLoca);
+            if (keep.get(glyph)) {
+                int length = offsets[glyph + 1] - offsets[glyph];
+                subsetGlyf.write(glyf, offsets[glyph], length);
+                subsetGlyf.writeBytes(new byte[(4 - length % 4) % 4]);
+            }
+        }
+        putOffset(subsetLoca, subsetGlyf.size(), longLoca);
+
+        Map<String, byte[]> tables = new HashMap<>(font.tables());
+        tables.keySet().removeAll(DROPPED_TABLES);
+        tables.put("glyf", subsetGlyf.toByteArray());
+        tables.put("loca", subsetLoca.array());
+        byte[] post = tables.get("post");
+        if (post != null && post.length >= 32) {
+            // Version 3: the same metrics header without glyph names
+            byte[] header = new byte[32];
+            System.arraycopy(post, 0, header, 0, 32);
+            ByteBuffer.wrap(header).putInt(0, 0x00030000);
+            tables.put("post", header);
+        }
+        return font.withTables(tables);
+    }
+
+    private static byte[] required(WoffFont font, String tag) {
+        byte[] table = font.table(tag);
+        if (table == null) {
+            throw new IllegalArgumentException("Not a TrueType-outline font: no " + tag + " table");
+        }
+        return table;
+    }
+
+    private static int[] loca(byte[] loca, int numGlyphs, boolean longLoca) {
+        ByteBuffer in = ByteBuffer.wrap(loca);
+        int[] offsets = new int[numGlyphs + 1];
+        for (int i = 0; i <= numGlyphs; i++) {
+            offsets[i] = longLoca ? in.getInt(i * 4) : (in.getShort(i * 2) & 0xFFFF) * 2;
+        }
+        return offsets;
+    }
+
+    private static void putOffset(ByteBuffer loca, int offset, boolean longLoca) {
+        if (longLoca) {
+            loca.putInt(offset);
+        } else {
+            loca.putShort((short) (offset / 2));
+        }
+    }
+
+    // Composite glyphs draw other glyphs, which have to come along
+    private static void addComponents(BitSet keep, byte[] glyf, int[] offsets) {
+        ByteBuffer in = ByteBuffer.wrap(glyf);
+        Deque<Integer> pending = new ArrayDeque<>();
+        keep.stream().forEach(pending::add);
+        while (!pending.isEmpty()) {
+            int glyph = pending.pop();
+            int start = offsets[glyph];
+            if (offsets[glyph + 1] - start < 10 || in.getShort(start) >= 0) {
+                continue;
+            }
+            int at = start + 10;
+            int flags;
+            do {
+                flags = in.getShort(at) & 0xFFFF;
+                int component = in.getShort(at + 2) & 0xFFFF;
+                at += 4 + ((flags & ARG_1_AND_2_ARE_WORDS) != 0 ? 4 : 2);
+                if ((flags & WE_HAVE_A_SCALE) != 0) {
+                    at += 2;
+                } else if ((flags & WE_HAVE_AN_X_AND_Y_SCALE) != 0) {
+                    at += 4;
+                } else if ((flags & WE_HAVE_A_TWO_BY_TWO) != 0) {
+                    at += 8;
+                }
+                if (component < offsets.length - 1 && !keep.get(component)) {
+                    keep.set(component);
+                    pending.add(component);
+                }
+            } while ((flags & MORE_COMPONENTS) != 0);
+        }
+    }
+
+    // Offset of the Unicode subtable to use: format 12 if there is one, else format 4
+    private static int bestSubtable(ByteBuffer cmap) {
+        int count = cmap.getShort(2) & 0xFFFF;
+        int format4 = -1;
+        for (int i = 0; i < count; i++) {
+            int platform = cmap.getShort(4 + i * 8) & 0xFFFF;
+            int encoding = cmap.getShort(6 + i * 8) & 0xFFFF;
+            int offset = cmap.getInt(8 + i * 8);
+            boolean unicode = platform == 0 || (platform == 3 && (encoding == 1 || encoding == 10));
+            if (!unicode) {
+                continue;
+            }
+            int format = cmap.getShort(offset) & 0xFFFF;
+            if (format == 12) {
+                return offset;
+            }
+            if (format == 4 && format4 < 0) {
+                format4 = offset;
+            }
+        }
+        if (format4 < 0) {
+            throw new IllegalArgumentException("Font has no Unicode cmap");
+        }
+        return format4;
+    }
+
+    private static int glyphFor(ByteBuffer cmap, int subtable, int codePoint) {
+        if ((cmap.getShort(subtable) & 0xFFFF) == 12) {
+            int groups = cmap.getInt(subtable + 12);
+            for (int i = 0; i < groups; i++) {
+                int group = subtable + 16 + i * 12;
+                if (codePoint >= cmap.getInt(group) && codePoint <= cmap.getInt(group + 4)) {
+                    return cmap.getInt(group + 8) + codePoint - cmap.getInt(group);
+                }
+            }
+            return 0;
+        }
+
+        if (codePoint > 0xFFFF) {
+            return 0;
+        }
+        int segments = (cmap.getShort(subtable + 6) & 0xFFFF) / 2;
+        int endCodes = subtable + 14;
+        int startCodes = endCodes + segments * 2 + 2;
+        int deltas = startCodes + segments * 2;
+        int rangeOffsets = deltas + segments * 2;
+        for (int i = 0; i < segments; i++) {
+            if (codePoint > (cmap.getShort(endCodes + i * 2) & 0xFFFF)) {
+                continue;
+            }
+            int start = cmap.getShort(startCodes + i * 2) & 0xFFFF;
+            if (codePoint < start) {
+                return 0;
+            }
+            int delta = cmap.getShort(deltas + i * 2);
+            int rangeOffset = cmap.getShort(rangeOffsets + i * 2) & 0xFFFF;
+            if (rangeOffset == 0) {
+                return (codePoint + delta) & 0xFFFF;
+            }
+            int glyph = cmap.getShort(rangeOffsets + i * 2 + rangeOffset + (codePoint - start) * 2) & 0xFFFF;
+            return glyph == 0 ? 0 : (glyph + delta) & 0xFFFF;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,229 @@
+package com.druidic.transliterator.adapter.out.font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A TrueType font as its decompressed tables, read from and written to
+ * WOFF 1.0 (zlib-compressed tables). WOFF2 would need a Brotli codec, which
+ * the JDK does not have.
+ */
+public final class WoffFont {
+
+    private static final int SIGNATURE = 0x774F4646; // "wOFF"
+    private static final int HEADER_BYTES = 44;
+    private static final int DIRECTORY_ENTRY_BYTES = 20;
+    private static final int SFNT_HEADER_BYTES = 12;
+    private static final int SFNT_ENTRY_BYTES = 16;
+    // head.checkSumAdjustment
+    private static final int CHECKSUM_ADJUSTMENT_OFFSET = 8;
+
+    private final int flavor;
+    private final Map<String, byte[]> tables;
+
+    public WoffFont(int flavor, Map<String, byte[]> tables) {
+        if (!tables.containsKey("head")) {
+            throw new IllegalArgumentException("A font needs a head table");
+        }
+        this.flavor = flavor;
+        this.tables = Collections.unmodifiableMap(new TreeMap<>(tables));
+    }
+
+    public static WoffFont read(byte[] woff) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(woff);
+        if (woff.length < HEADER_BYTES || in.getInt(0) != SIGNATURE) {
+            throw new IOException("Not a WOFF 1.0 font");
+        }
+        int flavor = in.getInt(4);
+        int numTables = in.getShort(12) & 0xFFFF;
+
+        Map<String, byte[]> tables = new TreeMap<>();
+        for (int i = 0; i < numTables; i++) {
+            int entry = HEADER_BYTES + i * DIRECTORY_ENTRY_BYTES;
+            if (entry + DIRECTORY_ENTRY_BYTES > woff.length) {
+                throw new IOException("Truncated WOFF table directory");
+            }
+            String tag = tag(in.getInt(entry));
+            int offset = in.getInt(entry + 4);
+            int compressedLength = in.getInt(entry + 8);
+            int length = in.getInt(entry + 12);
+            if (offset < 0 || compressedLength < 0 || length < compressedLength
+                    || (long) offset + compressedLength > woff.length) {
+                throw new IOException("Corrupt WOFF table entry: " + tag);
+            }
+            tables.put(tag, compressedLength == length
+                    ? Arrays.copyOfRange(woff, offset, offset + length)
+                    : inflate(woff, offset, compressedLength, length, tag));
+        }
+        return new WoffFont(flavor, tables);
+    }
+
+    public byte[] table(String tag) {
+        return tables.get(tag);
+    }
+
+    public Map<String, byte[]> tables() {
+        return tables;
+    }
+
+    public WoffFont withTables(Map<String, byte[]> replacement) {
+        return new WoffFont(flavor, replacement);
+    }
+
+    /**
+     * Serializes as WOFF 1.0, recomputing the head checksum adjustment.
+     * Tables that do not shrink under zlib are stored as-is.
+     */
+    public byte[] toWoff() {
+        int numTables = tables.size();
+        byte[] head = tables.get("head").clone();
+        ByteBuffer.wrap(head).putInt(CHECKSUM_ADJUSTMENT_OFFSET, 0);
+        Map<String, byte[]> sfntTables = new TreeMap<>(tables);
+        sfntTables.put("head", head);
+
+        int sfntSize = SFNT_HEADER_BYTES + SFNT_ENTRY_BYTES * numTables;
+        for (byte[] table : sfntTables.values()) {
+            sfntSize += padded(table.length);
+        }
+        ByteBuffer.wrap(head).putInt(CHECKSUM_ADJUSTMENT_OFFSET, (int) (0xB1B0AFBAL - sfntChecksum(sfntTables)));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ByteBuffer directory = ByteBuffer.allocate(DIRECTORY_ENTRY_BYTES * numTables);
+        int dataStart = HEADER_BYTES + DIRECTORY_ENTRY_BYTES * numTables;
+        for (Map.Entry<String, byte[]> entry : sfntTables.entrySet()) {
+            byte[] table = entry.getValue();
+            byte[] stored = deflate(table);
+            if (stored.length >= table.length) {
+                stored = table;
+            }
+            // The directory checksum of head is taken with the adjustment zeroed
+            int checksum = entry.getKey().equals("head") ? headChecksum(head) : checksum(table);
+            directory.putInt(tagValue(entry.getKey()))
+                    .putInt(dataStart + body.size())
+                    .putInt(stored.length)
+                    .putInt(table.length)
+                    .putInt(checksum);
+            body.writeBytes(stored);
+            body.writeBytes(new byte[padded(stored.length) - stored.length]);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(SIGNATURE)
+                .putInt(flavor)
+                .putInt(dataStart + body.size())
+                .putShort((short) numTables)
+                .putShort((short) 0)
+                .putInt(sfntSize)
+                .putShort((short) 1)
+                .putShort((short) 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(dataStart + body.size());
+        out.writeBytes(header.array());
+        out.writeBytes(directory.array());
+        out.writeBytes(body.toByteArray());
+        return out.toByteArray();
+    }
+
+    private int sfntChecksum(Map<String, byte[]> sfntTables) {
+        int numTables = sfntTables.size();
+        int entrySelector = 31 - Integer.numberOfLeadingZeros(numTables);
+        int searchRange = (1 << entrySelector) * SFNT_ENTRY_BYTES;
+        ByteBuffer directory = ByteBuffer.allocate(SFNT_HEADER_BYTES + SFNT_ENTRY_BYTES * numTables)
+                .putInt(flavor)
+                .putShort((short) numTables)
+                .putShort((short) searchRange)
+                .putShort((short) entrySelector)
+                .putShort((short) (numTables * SFNT_ENTRY_BYTES - searchRange));
+        int offset = directory.capacity();
+        int sum = 0;
+        for (Map.Entry<String, byte[]> entry : sfntTables.entrySet()) {
+            int checksum = checksum(entry.getValue());
+            directory.putInt(tagValue(entry.getKey())).putInt(checksum).putInt(offset).putInt(entry.getValue().length);
+            offset += padded(entry.getValue().length);
+            sum += checksum;
+        }
+        return sum + checksum(directory.array());
+    }
+
+    private static int headChecksum(byte[] head) {
+        byte[] zeroed = head.clone();
+        ByteBuffer.wrap(zeroed).putInt(CHECKSUM_ADJUSTMENT_OFFSET, 0);
+        return checksum(zeroed);
+    }
+
+    // Sum of big-endian 32-bit words, the last one zero-padded
+    static int checksum(byte[] table) {
+        int sum = 0;
+        int i = 0;
+        for (; i + 4 <= table.length; i += 4) {
+            sum += ((table[i] & 0xFF) << 24) | ((table[i + 1] & 0xFF) << 16)
+                    | ((table[i + 2] & 0xFF) << 8) | (table[i + 3] & 0xFF);
+        }
+        int last = 0;
+        for (int shift = 24; i < table.length; i++, shift -= 8) {
+            last |= (table[i] & 0xFF) << shift;
+        }
+        return sum + last;
+    }
+
+    private static int padded(int length) {
+        return (length + 3) & ~3;
+    }
+
+    private static byte[] inflate(byte[] woff, int offset, int compressedLength, int length, String tag)
+            throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(woff, offset, compressedLength);
+            byte[] table = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(table, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IOException("WOFF table " + tag + " inflated to " + read + " bytes, expected " + length);
+            }
+            return table;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt WOFF table " + tag, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] table) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(table);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(table.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String tag(int value) {
+        return new String(new char[] {
+                (char) (value >>> 24), (char) ((value >>> 16) & 0xFF), (char) ((value >>> 8) & 0xFF), (char) (value & 0xFF)});
+    }
+
+    private static int tagValue(String tag) {
+        return (tag.charAt(0) << 24) | (tag.charAt(1) << 16) | (tag.charAt(2) << 8) | tag.charAt(3);
+    }
+}
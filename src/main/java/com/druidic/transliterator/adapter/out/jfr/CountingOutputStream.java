@@ -0,0 +1,33 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Pass-through stream that counts bytes, used only while an event is being recorded.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+    private int count;
+
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+
+    public int count() {
+        return count;
+    }
+}
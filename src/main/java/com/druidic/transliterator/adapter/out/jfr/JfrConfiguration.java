@@ -0,0 +1,38 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wraps every TransliteratePort bean in a {@link JfrTransliterator}.
+ * Ordered last so it is the outermost decorator and times the whole call,
+ * memo lookups included.
+ */
+@Configuration
+public class JfrConfiguration {
+
+    @Bean
+    public static BeanPostProcessor jfrPostProcessor(ObjectProvider<JfrSampler> sampler) {
+        return new JfrPostProcessor(sampler);
+    }
+
+    private record JfrPostProcessor(ObjectProvider<JfrSampler> sampler) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort port && !(bean instanceof JfrTransliterator)) {
+                return new JfrTransliterator(port, sampler.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Starts, stops and dumps a single on-demand JFR recording on the live JVM.
+ * The recording keeps a bounded window of data on disk, so it can be left
+ * running and dumped when a latency spike is noticed.
+ */
+@Component
+public class JfrRecordingService {
+
+    public record Status(String state, String configuration, Duration maxAge, long sizeBytes) {}
+
+    private Recording recording;
+    private String configurationName;
+
+    /**
+     * Starts a new recording using a built-in JFR configuration ("default" or
+     * "profile"). Returns false if one is already running.
+     */
+    public synchronized boolean start(String configurationName, Duration maxAge, Duration engineThreshold)
+            throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return false;
+        }
+        if (recording != null) {
+            recording.close();
+        }
+
+        Recording started = new Recording(Configuration.getConfiguration(configurationName));
+        started.setName("fantasy-transliterator");
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.enable(TransliterationRequestEvent.class);
+        if (engineThreshold != null) {
+            started.enable(TransliterationEvent.class).withThreshold(engineThreshold);
+        } else {
+            started.enable(TransliterationEvent.class);
+        }
+        started.start();
+        recording = started;
+        this.configurationName = configurationName;
+        return true;
+    }
+
+    /**
+     * Stops the running recording; its data stays available to dump until the next start.
+     */
+    public synchronized boolean stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return false;
+        }
+        recording.stop();
+        return true;
+    }
+
+    /**
+     * Writes the recording's data so far to a temporary .jfr file, which the caller deletes.
+     */
+    public synchronized Optional<Path> dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            return Optional.empty();
+        }
+        Path file = Files.createTempFile("fantasy-transliterator-", ".jfr");
+        recording.dump(file);
+        return Optional.of(file);
+    }
+
+    public synchronized Optional<Status> status() {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Status(recording.getState().name(), configurationName,
+                recording.getMaxAge(), recording.getSize()));
+    }
+}
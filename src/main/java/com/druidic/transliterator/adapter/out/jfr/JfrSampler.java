@@ -0,0 +1,37 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import jdk.jfr.Event;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a transliteration event is recorded at all.
+ * With no recording running, Event.isEnabled() is false and the check costs
+ * next to nothing. While recording, only one call in {@code sample-every}
+ * is timed, on top of each event's JFR threshold.
+ */
+@Component
+public class JfrSampler {
+
+    private final int sampleEvery;
+
+    public JfrSampler(@Value("${transliterator.jfr.sample-every:1}") int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    /**
+     * Begins timing the event if it should be recorded; returns whether it was begun.
+     */
+    public boolean begin(Event event) {
+        if (!event.isEnabled()) {
+            return false;
+        }
+        if (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0) {
+            return false;
+        }
+        event.begin();
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator that emits a {@link TransliterationEvent} around each engine call.
+ */
+public class JfrTransliterator implements TransliteratePort {
+
+    private final TransliteratePort delegate;
+    private final JfrSampler sampler;
+
+    public JfrTransliterator(TransliteratePort delegate, JfrSampler sampler) {
+        this.delegate = delegate;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        TransliterationEvent event = new TransliterationEvent();
+        if (!sampler.begin(event)) {
+            return delegate.transliterate(request);
+        }
+
+        TransliterationResult result = delegate.transliterate(request);
+        event.end();
+        if (event.shouldCommit()) {
+            event.script = request.script().name();
+            event.inputLength = request.rawText().length();
+            event.outputLength = result.runeText().length();
+            event.commit();
+        }
+        return result;
+    }
+
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        TransliterationEvent event = new TransliterationEvent();
+        if (!sampler.begin(event)) {
+            delegate.writeJsonUtf8(request, out);
+            return;
+        }
+
+        CountingOutputStream counting = new CountingOutputStream(out);
+        delegate.writeJsonUtf8(request, counting);
+        event.end();
+        if (event.shouldCommit()) {
+            event.script = request.script().name();
+            event.inputLength = request.rawText().length();
+            event.outputLength = counting.count();
+            event.utf8Output = true;
+            event.commit();
+        }
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return delegate.isWhitespaceContextFree();
+    }
+}
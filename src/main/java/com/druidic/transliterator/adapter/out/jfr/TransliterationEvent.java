@@ -0,0 +1,37 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a single TransliteratePort call.
+ * Only calls slower than the threshold are committed, and no stack trace is
+ * captured, so the event stays cheap even while a recording runs.
+ */
+@Name("com.druidic.transliterator.Transliteration")
+@Label("Transliteration")
+@Description("One call into a transliteration engine")
+@Category({"Fantasy Transliterator"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class TransliterationEvent extends jdk.jfr.Event {
+
+    @Label("Script")
+    String script;
+
+    @Label("Input Length")
+    @Description("Characters of input handed to the engine")
+    int inputLength;
+
+    @Label("Output Length")
+    @Description("Characters produced, or bytes for direct UTF-8 output")
+    int outputLength;
+
+    @Label("UTF-8 Output")
+    @Description("True when outputLength counts JSON UTF-8 bytes rather than characters")
+    boolean utf8Output;
+}
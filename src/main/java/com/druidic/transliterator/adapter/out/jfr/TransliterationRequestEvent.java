@@ -0,0 +1,37 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one controller request — page render or API call.
+ * Carries the truncation flag, which only the controllers know about.
+ */
+@Name("com.druidic.transliterator.TransliterationRequest")
+@Label("Transliteration Request")
+@Description("One transliteration request handled by a web controller")
+@Category({"Fantasy Transliterator"})
+@Threshold("5 ms")
+@StackTrace(false)
+public class TransliterationRequestEvent extends jdk.jfr.Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Script")
+    public String script;
+
+    @Label("Input Length")
+    @Description("Characters submitted, before truncation")
+    public int inputLength;
+
+    @Label("Output Length")
+    public int outputLength;
+
+    @Label("Truncated")
+    public boolean truncated;
+}
@@ -0,0 +1,137 @@
+package com.druidic.transliterator.adapter.out.shadow;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shadow mode: tries candidate engines on a sample of live traffic before
+ * they replace the primaries. Each class in
+ * {@code transliterator.shadow.candidates} is created with its no-argument
+ * constructor and shadows the engine for the script it reports. Enabled with
+ * {@code transliterator.shadow.enabled=true}; mismatches are logged and kept
+ * for {@code /admin/shadow}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transliterator.shadow.enabled", havingValue = "true")
+public class ShadowConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowConfiguration.class);
+
+    @Bean(destroyMethod = "close")
+    public ShadowRunner shadowRunner(@Value("${transliterator.shadow.candidates:}") String[] candidateClasses,
+                                     @Value("${transliterator.shadow.sample-every:100}") int sampleEvery,
+                                     @Value("${transliterator.shadow.max-text-length:10000}") int maxTextLength,
+                                     @Value("${transliterator.shadow.threads:1}") int threads,
+                                     @Value("${transliterator.shadow.max-queued:256}") int maxQueued,
+                                     @Value("${transliterator.shadow.mismatches-kept:100}") int mismatchesKept) {
+        Map<Script, TransliteratePort> candidates = new EnumMap<>(Script.class);
+        for (String className : candidateClasses) {
+            if (className.isBlank()) {
+                continue;
+            }
+            TransliteratePort candidate = instantiate(className.strip());
+            TransliteratePort previous = candidates.putIfAbsent(candidate.script(), candidate);
+            if (previous != null) {
+                throw new IllegalStateException("Two shadow candidates write " + candidate.script() + ": "
+                        + previous.getClass().getName() + " and " + className.strip());
+            }
+        }
+        if (candidates.isEmpty()) {
+            log.warn("Shadow mode is enabled but transliterator.shadow.candidates names no engine");
+        }
+        candidates.forEach((script, candidate) -> log.info("Shadowing {} with {}, one request in {}",
+                script, candidate.getClass().getName(), Math.max(1, sampleEvery)));
+        return new ShadowRunner(candidates, sampleEvery, maxTextLength, threads, maxQueued, mismatchesKept);
+    }
+
+    // Static so the post-processor is registered without initializing this
+    // configuration early; the runner itself is resolved lazily on first wrap.
+    @Bean
+    public static BeanPostProcessor shadowPostProcessor(ObjectProvider<ShadowRunner> shadowRunner) {
+        return new ShadowPostProcessor(shadowRunner, new ConcurrentHashMap<>());
+    }
+
+    @Bean
+    public MeterBinder shadowMetrics(ShadowRunner shadowRunner) {
+        return registry -> {
+            for (Script script : shadowRunner.candidates().keySet()) {
+                String tag = script.name();
+                FunctionCounter.builder("transliterator.shadow.samples", shadowRunner, runner -> runner.samples(script))
+                        .tag("script", tag)
+                        .description("Requests also run on the candidate engine")
+                        .register(registry);
+                FunctionCounter.builder("transliterator.shadow.mismatches", shadowRunner, runner -> runner.mismatches(script))
+                        .tag("script", tag)
+                        .description("Sampled requests the candidate answered differently")
+                        .register(registry);
+                FunctionCounter.builder("transliterator.shadow.dropped", shadowRunner, runner -> runner.dropped(script))
+                        .tag("script", tag)
+                        .description("Samples dropped because the shadow queue was full")
+                        .register(registry);
+                Gauge.builder("transliterator.shadow.latency.ratio", shadowRunner, runner -> runner.latencyRatio(script))
+                        .tag("script", tag)
+                        .description("Candidate engine time over primary engine time on the same inputs")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static TransliteratePort instantiate(String className) {
+        try {
+            return Class.forName(className).asSubclass(TransliteratePort.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Cannot create shadow candidate " + className
+                    + "; it must be a TransliteratePort with a public no-argument constructor", e);
+        }
+    }
+
+    // Just outside the cluster cache, so a sample is a whole request as a
+    // client sent it. The undecorated engine is noted before any wrapping,
+    // for the runner to time against the candidate.
+    private record ShadowPostProcessor(ObjectProvider<ShadowRunner> shadowRunner,
+                                       Map<String, TransliteratePort> engines)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof TransliteratePort engine) {
+                engines.put(beanName, engine);
+            }
+            return bean;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            TransliteratePort engine = engines.remove(beanName);
+            if (bean instanceof TransliteratePort port && engine != null && !(bean instanceof ShadowTransliterator)) {
+                ShadowRunner runner = shadowRunner.getObject();
+                TransliteratePort candidate = runner.candidate(port.script());
+                if (candidate != null) {
+                    return new ShadowTransliterator(port, engine, candidate, runner);
+                }
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 3;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.druidic.transliterator.adapter.out.shadow;
+
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs candidate engines against a sample of live requests on threads of its
+ * own and compares them with what the primary answered. Only the comparison
+ * happens here; the caller has already returned the primary's result.
+ *
+ * The primary engine is run again next to the candidate, back to back on the
+ * same thread, so the latency ratio compares the two engines rather than a
+ * cache hit on the request thread with a cold candidate. When the queue is
+ * full a sample is dropped, never waited for.
+ */
+public class ShadowRunner implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowRunner.class);
+
+    // Progress is logged once per this many samples of a script
+    private static final int LOG_EVERY = 1000;
+
+    // Longest input or output kept in a mismatch's log line
+    private static final int LOGGED_CHARS = 200;
+
+    public record Mismatch(Instant at, Script script, String input, String expected, String actual) {}
+
+    // Runs one engine the way the request was answered, as text or as JSON
+    @FunctionalInterface
+    private interface Output {
+        String of(TransliteratePort engine) throws IOException;
+    }
+
+    private final Map<Script, TransliteratePort> candidates;
+    private final int sampleEvery;
+    private final int maxTextLength;
+    private final int mismatchesKept;
+    private final ThreadPoolExecutor executor;
+
+    // AtomicLong rather than LongAdder: the worker checks each new count for LOG_EVERY
+    private final Map<Script, AtomicLong> samples = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> mismatches = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> dropped = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> primaryNanos = new EnumMap<>(Script.class);
+    private final Map<Script, LongAdder> candidateNanos = new EnumMap<>(Script.class);
+    private final ArrayDeque<Mismatch> recent = new ArrayDeque<>();
+
+    /**
+     * @param candidates     the engine to try for each script that has one
+     * @param sampleEvery    one request in this many is compared
+     * @param maxTextLength  longer inputs are never sampled
+     * @param mismatchesKept how many of the latest mismatches {@link #recentMismatches()} holds
+     */
+    public ShadowRunner(Map<Script, TransliteratePort> candidates, int sampleEvery, int maxTextLength,
+                        int threads, int maxQueued, int mismatchesKept) {
+        this.candidates = Collections.unmodifiableMap(new EnumMap<>(candidates));
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.maxTextLength = maxTextLength;
+        this.mismatchesKept = mismatchesKept;
+        for (Script script : Script.values()) {
+            samples.put(script, new AtomicLong());
+            mismatches.put(script, new LongAdder());
+            dropped.put(script, new LongAdder());
+            primaryNanos.put(script, new LongAdder());
+            candidateNanos.put(script, new LongAdder());
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued), runnable -> {
+                    Thread thread = new Thread(runnable, "shadow-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * The candidate for {@code script}, or null if it has none.
+     */
+    public TransliteratePort candidate(Script script) {
+        return candidates.get(script);
+    }
+
+    public Map<Script, TransliteratePort> candidates() {
+        return candidates;
+    }
+
+    /**
+     * Whether this request should be compared.
+     */
+    public boolean sample(TransliterationRequest request) {
+        return request.rawText().length() <= maxTextLength
+                && (sampleEvery == 1 || ThreadLocalRandom.current().nextInt(sampleEvery) == 0);
+    }
+
+    /**
+     * Queues a comparison of a {@code transliterate} answer.
+     */
+    public void compare(TransliteratePort primary, TransliteratePort candidate,
+                        TransliterationRequest request, String expected) {
+        submit(primary, candidate, request, () -> expected,
+                engine -> engine.transliterate(request).runeText());
+    }
+
+    /**
+     * Queues a comparison of a {@code writeJsonUtf8} answer; the bytes are
+     * decoded on the shadow thread.
+     */
+    public void compareJson(TransliteratePort primary, TransliteratePort candidate,
+                            TransliterationRequest request, byte[] expected) {
+        submit(primary, candidate, request, () -> new String(expected, StandardCharsets.UTF_8), engine -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            engine.writeJsonUtf8(request, out);
+            return out.toString(StandardCharsets.UTF_8);
+        });
+    }
+
+    public long samples(Script script) {
+        return samples.get(script).get();
+    }
+
+    public long mismatches(Script script) {
+        return mismatches.get(script).sum();
+    }
+
+    public long dropped(Script script) {
+        return dropped.get(script).sum();
+    }
+
+    /**
+     * The candidate's time over the primary's on the same inputs; below 1 is faster.
+     */
+    public double latencyRatio(Script script) {
+        long primary = primaryNanos.get(script).sum();
+        return primary == 0 ? 0 : (double) candidateNanos.get(script).sum() / primary;
+    }
+
+    /**
+     * The latest mismatches, oldest first.
+     */
+    public List<Mismatch> recentMismatches() {
+        synchronized (recent) {
+            return List.copyOf(recent);
+        }
+    }
+
+    // Lets queued comparisons finish briefly, then abandons the rest
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit(TransliteratePort primary, TransliteratePort candidate, TransliterationRequest request,
+                        Supplier<String> expected, Output output) {
+        Script script = request.script();
+        try {
+            executor.execute(() -> run(script, primary, candidate, request, expected.get(), output));
+        } catch (RejectedExecutionException e) {
+            dropped.get(script).increment();
+        }
+    }
+
+    private void run(Script script, TransliteratePort primary, TransliteratePort candidate,
+                     TransliterationRequest request, String expected, Output output) {
+        long primaryTime;
+        long start = System.nanoTime();
+        try {
+            output.of(primary);
+            primaryTime = System.nanoTime() - start;
+        } catch (IOException | RuntimeException e) {
+            // The primary already answered this once; nothing to compare against
+            log.debug("Primary {} failed when re-run for shadowing", script, e);
+            return;
+        }
+
+        String actual;
+        start = System.nanoTime();
+        try {
+            actual = output.of(candidate);
+        } catch (IOException | RuntimeException e) {
+            actual = "threw " + e;
+        }
+        long candidateTime = System.nanoTime() - start;
+
+        primaryNanos.get(script).add(primaryTime);
+        candidateNanos.get(script).add(candidateTime);
+        if (!expected.equals(actual)) {
+            mismatch(new Mismatch(Instant.now(), script, request.rawText(), expected, actual));
+        }
+        long sampled = samples.get(script).incrementAndGet();
+        if (sampled % LOG_EVERY == 0) {
+            log.info("Shadow {}: {} samples, {} mismatches, {} dropped; candidate took {}x the primary's time",
+                    script, sampled, mismatches(script), dropped(script),
+                    String.format("%.2f", latencyRatio(script)));
+        }
+    }
+
+    private void mismatch(Mismatch mismatch) {
+        mismatches.get(mismatch.script()).increment();
+        synchronized (recent) {
+            if (recent.size() == mismatchesKept) {
+                recent.removeFirst();
+            }
+            if (mismatchesKept > 0) {
+                recent.addLast(mismatch);
+            }
+        }
+        log.warn("Shadow {} mismatch for input \"{}\": primary \"{}\", candidate \"{}\"", mismatch.script(),
+                abbreviate(mismatch.input()), abbreviate(mismatch.expected()), abbreviate(mismatch.actual()));
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= LOGGED_CHARS ? text : text.substring(0, LOGGED_CHARS) + "…";
+    }
+}
@@ -0,0 +1,91 @@
+package com.druidic.transliterator.adapter.out.shadow;
+
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.core.TransliterationRules;
+import com.druidic.transliterator.port.in.TransliteratePort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers every request from the decorated chain and hands a sample of them,
+ * with the answer given, to the {@link ShadowRunner} to try on a candidate
+ * engine. The caller never sees the candidate's output or waits for it.
+ */
+public class ShadowTransliterator implements TransliteratePort {
+
+    private final TransliteratePort delegate;
+    private final TransliteratePort primary;
+    private final TransliteratePort candidate;
+    private final ShadowRunner runner;
+
+    /**
+     * @param delegate  the chain that answers requests
+     * @param primary   the engine at the bottom of that chain, re-run for timing
+     * @param candidate the engine under trial
+     */
+    public ShadowTransliterator(TransliteratePort delegate, TransliteratePort primary,
+                                TransliteratePort candidate, ShadowRunner runner) {
+        if (candidate.script() != delegate.script()) {
+            throw new IllegalArgumentException("Candidate " + candidate + " writes " + candidate.script()
+                    + ", not " + delegate.script());
+        }
+        this.delegate = delegate;
+        this.primary = primary;
+        this.candidate = candidate;
+        this.runner = runner;
+    }
+
+    @Override
+    public Script script() {
+        return delegate.script();
+    }
+
+    @Override
+    public TransliterationResult transliterate(TransliterationRequest request) {
+        TransliterationResult result = delegate.transliterate(request);
+        if (runner.sample(request)) {
+            runner.compare(primary, candidate, request, result.runeText());
+        }
+        return result;
+    }
+
+    // A sampled request is buffered so the bytes sent can be compared too
+    @Override
+    public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+        if (!runner.sample(request)) {
+            delegate.writeJsonUtf8(request, out);
+            return;
+        }
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        delegate.writeJsonUtf8(request, copy);
+        copy.writeTo(out);
+        runner.compareJson(primary, candidate, request, copy.toByteArray());
+    }
+
+    @Override
+    public boolean isWhitespaceContextFree() {
+        return delegate.isWhitespaceContextFree();
+    }
+
+    @Override
+    public Optional<TransliterationRules> getRules() {
+        return delegate.getRules();
+    }
+
+    @Override
+    public String variant() {
+        return delegate.variant();
+    }
+
+    @Override
+    public List<LegendEntry> getLegend() {
+        return delegate.getLegend();
+    }
+}
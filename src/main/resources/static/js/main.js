@@ -250,6 +250,49 @@ document.addEventListener('DOMContentLoaded', () => {
         if (text && runes) saveToHistory(text, script, runes);
     }
 
+    // ── Local rules ─────────────────────────────────
+    // Compiled tables per script. Once the server has confirmed the current
+    // version, the preview runs on them without a request per keystroke; the
+    // API is only asked when they are missing, stale or inexact, and a cached
+    // copy covers for it when it can't be reached. Needs rules.js; without it
+    // the preview stays online-only.
+    const ruleSets = {};
+
+    function prefetchRules(script) {
+        if (typeof loadRules !== 'function') return;
+        loadRules(script).then(ruleSet => {
+            if (ruleSet) ruleSets[script] = ruleSet;
+        });
+    }
+
+    function localRules(script) {
+        const ruleSet = ruleSets[script];
+        return ruleSet && ruleSet.current && ruleSet.exact ? ruleSet.rules : null;
+    }
+
+    function showRunes(runeText, text, script) {
+        if (runeText) {
+            showOutput(runeText, text, script);
+            saveToHistory(text, script, runeText);
+        } else {
+            hideOutput();
+        }
+    }
+
+    function showOfflinePreview(text, script) {
+        if (typeof transliterateWithRules !== 'function') return;
+        const rules = (ruleSets[script] && ruleSets[script].rules) || getCachedRules(script);
+        if (!rules) return;
+        const runeText = transliterateWithRules(rules, text);
+        if (runeText) {
+            showOutput(runeText, text, script);
+        } else {
+            hideOutput();
+        }
+    }
+
+    if (scriptSelect) prefetchRules(scriptSelect.value);
+
     // ── Live preview ────────────────────────────────
     let debounceTimer;
     const DEBOUNCE_MS = 250;
@@ -263,17 +306,16 @@ document.addEventListener('DOMContentLoaded', () => {
             return;
         }
 
+        const rules = localRules(script);
+        if (rules) {
+            showRunes(transliterateWithRules(rules, text), text, script);
+            return;
+        }
+
         fetch(`/api/transliterate?text=${encodeURIComponent(text)}&script=${encodeURIComponent(script)}`)
             .then(r => r.json())
-            .then(data => {
-                if (data.runeText) {
-                    showOutput(data.runeText, text, script);
-                    saveToHistory(text, script, data.runeText);
-                } else {
-                    hideOutput();
-                }
-            })
-            .catch(() => { /* silently fail — user can still use submit button */ });
+            .then(data => showRunes(data.runeText, text, script))
+            .catch(() => showOfflinePreview(text, script));
     }
 
     if (textarea && scriptSelect) {
@@ -283,6 +325,7 @@ document.addEventListener('DOMContentLoaded', () => {
         });
 
         scriptSelect.addEventListener('change', () => {
+            prefetchRules(scriptSelect.value);
             if (textarea.value.trim()) {
                 updatePreview();
             }
@@ -0,0 +1,91 @@
+/* Fantasy Transliterator — rules.js */
+
+// Runs the compiled tables served by /api/rules, so the page can keep
+// transliterating when the server is out of reach. The rule order mirrors
+// TransliterationRules on the server; a conformance fixture keeps them equal.
+
+const RULES_KEY_PREFIX = 'transliteration_rules_';
+const RULES_FORMAT = 1;
+
+// Java's Character.isWhitespace — what the engines treat as blank input.
+// String.prototype.trim() also strips non-breaking spaces, so it can't be used.
+const BLANK = /^[\t\n\u000B\f\r\u001C-\u001F \u1680\u2000-\u2006\u2008-\u200A\u2028\u2029\u205F\u3000]*$/;
+
+function transliterateWithRules(rules, text) {
+    if (BLANK.test(text)) return '';
+
+    const lower = text.toLowerCase();
+    let out = '';
+    let pending = null;
+
+    for (let i = 0; i < lower.length; i++) {
+        const ch = lower[i];
+        const next = lower[i + 1];
+        const row = rules.digraphs[ch];
+        const digraph = row && next !== undefined ? row[next] : undefined;
+        const letter = rules.letters[ch];
+        const vowel = rules.vowels[ch];
+
+        if (ch === ' ' || ch === '\n') {
+            out += (pending || '') + ch;
+            pending = null;
+        } else if (digraph !== undefined) {
+            out += pending || '';
+            pending = digraph;
+            i++;
+        } else if (rules.doublingMark !== null && ch === next && letter !== undefined) {
+            out += pending || '';
+            pending = letter + rules.doublingMark;
+            i++;
+        } else if (vowel !== undefined) {
+            out += (pending === null ? rules.carrier : pending) + vowel;
+            pending = null;
+        } else if (letter !== undefined) {
+            out += pending || '';
+            pending = letter;
+        }
+        // unmapped — drop
+    }
+
+    return out + (pending || '');
+}
+
+function readCache(script) {
+    try {
+        const cached = JSON.parse(localStorage.getItem(RULES_KEY_PREFIX + script) || 'null');
+        return cached && cached.format === RULES_FORMAT ? cached : null;
+    } catch {
+        return null;
+    }
+}
+
+function getCachedRules(script) {
+    const cached = readCache(script);
+    return cached ? cached.rules : null;
+}
+
+// Resolves to { rules, version, exact, current }, or null when there are none.
+// current is true only when the server just confirmed this version; a cached
+// copy from an earlier visit may be stale. exact is false when the engine does
+// more than its tables (phonetic Tengwar), so the rules only serve offline.
+function loadRules(script) {
+    const fromCache = () => {
+        const cached = readCache(script);
+        return cached
+            ? { rules: cached.rules, version: cached.version, exact: cached.exact === true, current: false }
+            : null;
+    };
+    // no-cache revalidates with the ETag, so an unchanged version costs a 304
+    return fetch(`/api/rules?script=${encodeURIComponent(script)}`, { cache: 'no-cache' })
+        .then(r => (r.ok ? r.json() : null))
+        .then(data => {
+            if (!data || data.format !== RULES_FORMAT) return fromCache();
+            localStorage.setItem(RULES_KEY_PREFIX + script, JSON.stringify(data));
+            return { rules: data.rules, version: data.version, exact: data.exact === true, current: true };
+        })
+        .catch(fromCache);
+}
+
+if (typeof module !== 'undefined') {
+    module.exports = { transliterateWithRules, getCachedRules, loadRules };
+}
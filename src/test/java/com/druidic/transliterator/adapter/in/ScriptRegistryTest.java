@@ -0,0 +1,67 @@
+package com.druidic.transliterator.adapter.in;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.Script;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptRegistryTest {
+
+    private final FutharkTransliterator futhark = new FutharkTransliterator();
+    private final TengwarTransliterator tengwar = new TengwarTransliterator();
+
+    @Test
+    void dispatchesOnTheScriptEachEngineWrites() {
+        ScriptRegistry registry = new ScriptRegistry(List.of(tengwar, futhark, new DethekTransliterator()));
+
+        assertSame(tengwar, registry.get(Script.TENGWAR));
+        assertSame(futhark, registry.get(Script.ELDER_FUTHARK));
+        assertEquals(List.of(Script.ELDER_FUTHARK, Script.TENGWAR, Script.DETHEK), registry.scripts());
+    }
+
+    @Test
+    void parsesNamesAliasesAndDisplayNamesIgnoringCase() {
+        assertEquals(Optional.of(Script.ELDER_FUTHARK), Script.fromName("ELDER_FUTHARK"));
+        assertEquals(Optional.of(Script.ELDER_FUTHARK), Script.fromName("elder-futhark"));
+        assertEquals(Optional.of(Script.ELDER_FUTHARK), Script.fromName("Elder Futhark"));
+        assertEquals(Optional.of(Script.ELDER_FUTHARK), Script.fromName("runes"));
+        assertEquals(Optional.of(Script.TENGWAR), Script.fromName("tEnGwAr"));
+        assertEquals(Optional.of(Script.TENGWAR), Script.fromName("elvish"));
+        assertEquals(Optional.of(Script.DETHEK), Script.fromName("Dwarvish"));
+    }
+
+    @Test
+    void unknownNamesAreEmptyWithoutThrowing() {
+        assertEquals(Optional.empty(), Script.fromName(null));
+        assertEquals(Optional.empty(), Script.fromName(""));
+        assertEquals(Optional.empty(), Script.fromName("klingon"));
+        assertEquals(Optional.empty(), Script.fromName("x".repeat(100_000)));
+    }
+
+    @Test
+    void scriptsWithoutAnEngineFallBackToTheDefault() {
+        ScriptRegistry registry = new ScriptRegistry(List.of(futhark, tengwar));
+
+        assertEquals(Optional.empty(), registry.parse("dethek"));
+        assertEquals(ScriptRegistry.DEFAULT_SCRIPT, registry.parseOrDefault("dethek"));
+        assertSame(futhark, registry.get(Script.DETHEK));
+        assertEquals(List.of(Script.ELDER_FUTHARK, Script.TENGWAR), registry.scripts());
+    }
+
+    @Test
+    void rejectsTwoEnginesForOneScript() {
+        assertThrows(IllegalStateException.class,
+                () -> new ScriptRegistry(List.of(futhark, new FutharkTransliterator())));
+    }
+
+    @Test
+    void requiresAnEngineForTheDefaultScript() {
+        assertThrows(IllegalStateException.class, () -> new ScriptRegistry(List.of(tengwar)));
+    }
+}
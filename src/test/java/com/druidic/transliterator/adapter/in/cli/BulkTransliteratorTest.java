@@ -0,0 +1,90 @@
+package com.druidic.transliterator.adapter.in.cli;
+
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTransliteratorTest {
+
+    private final TransliteratePort tengwar = new TengwarTransliterator();
+
+    @TempDir
+    private Path tempDir;
+
+    private String transliterate(String text) {
+        return tengwar.transliterate(new TransliterationRequest(text, Script.TENGWAR)).runeText();
+    }
+
+    @Test
+    void smallWindowsProduceSameOutputAsWholeFile() throws Exception {
+        String text = "The quick brown fox\njumps over the lazy dog. Thistle and ÆTHER all ".repeat(200);
+        Path input = Files.writeString(tempDir.resolve("corpus.txt"), text);
+        Path output = tempDir.resolve("out");
+
+        // 7-byte windows split almost every word, exercising the boundary search
+        BulkTransliterator bulk = new BulkTransliterator(tengwar, Script.TENGWAR, 4, 7);
+        BulkTransliterator.Report report = bulk.transliterate(List.of(input), output);
+
+        assertEquals(transliterate(text), Files.readString(output.resolve("corpus.txt")));
+        assertEquals(1, report.files());
+        assertEquals(text.getBytes(StandardCharsets.UTF_8).length, report.bytesRead());
+    }
+
+    @Test
+    void wordLongerThanWindowIsNotSplit() throws Exception {
+        String text = "a thththththththththth word";
+        Path input = Files.writeString(tempDir.resolve("long.txt"), text);
+        Path output = tempDir.resolve("out");
+
+        new BulkTransliterator(tengwar, Script.TENGWAR, 2, 3).transliterate(List.of(input), output);
+
+        assertEquals(transliterate(text), Files.readString(output.resolve("long.txt")));
+    }
+
+    @Test
+    void runWithoutSeparatorsBeyondTheWordLimitIsRejected() throws Exception {
+        String text = "a " + "x".repeat(1024 + BulkTransliterator.MAX_WORD_BYTES) + " b";
+        Path input = Files.writeString(tempDir.resolve("unbroken.txt"), text);
+        Path output = tempDir.resolve("out");
+
+        IOException e = assertThrows(IOException.class,
+                () -> new BulkTransliterator(tengwar, Script.TENGWAR, 1, 1024).transliterate(List.of(input), output));
+        assertTrue(e.getMessage().contains("at offset 2"), e.getMessage());
+    }
+
+    @Test
+    void directoryInputKeepsRelativePaths() throws Exception {
+        Path archive = Files.createDirectories(tempDir.resolve("archive/nested"));
+        Files.writeString(archive.resolve("one.txt"), "hello");
+        Files.writeString(archive.getParent().resolve("two.txt"), "world");
+        Path output = tempDir.resolve("out");
+
+        BulkTransliterator.Report report = new BulkTransliterator(tengwar, Script.TENGWAR, 2, 1024)
+                .transliterate(List.of(archive.getParent()), output);
+
+        assertEquals(2, report.files());
+        assertEquals(transliterate("hello"), Files.readString(output.resolve("nested/one.txt")));
+        assertEquals(transliterate("world"), Files.readString(output.resolve("two.txt")));
+    }
+
+    @Test
+    void emptyFileProducesEmptyOutput() throws Exception {
+        Path input = Files.writeString(tempDir.resolve("empty.txt"), "");
+        Path output = tempDir.resolve("out");
+
+        new BulkTransliterator(tengwar, Script.TENGWAR, 1, 1024).transliterate(List.of(input), output);
+
+        assertEquals("", Files.readString(output.resolve("empty.txt")));
+    }
+}
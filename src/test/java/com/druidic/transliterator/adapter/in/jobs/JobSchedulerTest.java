@@ -0,0 +1,428 @@
+package com.druidic.transliterator.adapter.in.jobs;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSchedulerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private JobScheduler scheduler;
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        if (scheduler != null) {
+            scheduler.destroy();
+        }
+    }
+
+    private JobScheduler scheduler(TransliteratePort futhark, int maxQueued) {
+        scheduler = new JobScheduler(Map.of(
+                Script.ELDER_FUTHARK, futhark,
+                Script.TENGWAR, new TengwarTransliterator(),
+                Script.DETHEK, new DethekTransliterator()
+        ), new JobScheduler.Settings(1, 1, maxQueued, 100, Duration.ofMinutes(15)), clock);
+        return scheduler;
+    }
+
+    @Test
+    void runsJobAndKeepsResultsInOrder() throws Exception {
+        JobScheduler scheduler = scheduler(new FutharkTransliterator(), 10);
+
+        TransliterationJob job = scheduler.submit(Script.TENGWAR, List.of("hello", "the ring"), JobLane.INTERACTIVE).orElseThrow();
+        awaitFinished(job);
+
+        assertEquals(TransliterationJob.State.SUCCEEDED, job.state());
+        TengwarTransliterator tengwar = new TengwarTransliterator();
+        assertEquals(List.of(
+                tengwar.transliterate(new TransliterationRequest("hello", Script.TENGWAR)).runeText(),
+                tengwar.transliterate(new TransliterationRequest("the ring", Script.TENGWAR)).runeText()
+        ), job.results().orElseThrow());
+        assertEquals(1.0, job.snapshot().progress());
+    }
+
+    @Test
+    void onlySmallJobsRunInTheInteractiveLane() {
+        JobScheduler scheduler = scheduler(new FutharkTransliterator(), 10);
+
+        assertEquals(JobLane.INTERACTIVE, scheduler.laneFor(100, JobLane.INTERACTIVE));
+        assertEquals(JobLane.BULK, scheduler.laneFor(101, JobLane.INTERACTIVE));
+        assertEquals(JobLane.BULK, scheduler.laneFor(5, JobLane.BULK));
+    }
+
+    @Test
+    void fullLaneRefusesNewJobsWithoutBlockingTheOtherLane() throws Exception {
+        JobScheduler scheduler = scheduler(blocking(), 1);
+
+        TransliterationJob running = scheduler.submit(Script.ELDER_FUTHARK, List.of("a"), JobLane.BULK).orElseThrow();
+        awaitState(running, TransliterationJob.State.RUNNING);
+        assertTrue(scheduler.submit(Script.ELDER_FUTHARK, List.of("b"), JobLane.BULK).isPresent());
+        assertTrue(scheduler.submit(Script.ELDER_FUTHARK, List.of("c"), JobLane.BULK).isEmpty());
+
+        TransliterationJob interactive = scheduler.submit(Script.DETHEK, List.of("quick"), JobLane.INTERACTIVE).orElseThrow();
+        awaitFinished(interactive);
+        assertEquals(List.of("quick"), interactive.results().orElseThrow());
+        assertEquals(1, scheduler.queued(JobLane.BULK));
+    }
+
+    @Test
+    void cancelsQueuedJobAndFreesItsSlot() throws Exception {
+        JobScheduler scheduler = scheduler(blocking(), 1);
+
+        TransliterationJob running = scheduler.submit(Script.ELDER_FUTHARK, List.of("a"), JobLane.BULK).orElseThrow();
+        awaitState(running, TransliterationJob.State.RUNNING);
+        TransliterationJob queued = scheduler.submit(Script.ELDER_FUTHARK, List.of("b"), JobLane.BULK).orElseThrow();
+
+        assertTrue(scheduler.cancel(queued.id()));
+        assertEquals(TransliterationJob.State.CANCELLED, queued.state());
+        assertEquals(0, scheduler.queued(JobLane.BULK));
+        assertTrue(scheduler.submit(Script.ELDER_FUTHARK, List.of("c"), JobLane.BULK).isPresent());
+    }
+
+    @Test
+    void cancelledRunningJobStopsAtTheNextText() throws Exception {
+        JobScheduler scheduler = scheduler(blocking(), 1);
+
+        TransliterationJob job = scheduler.submit(Script.ELDER_FUTHARK, List.of("a", "b", "c"), JobLane.BULK).orElseThrow();
+        awaitState(job, TransliterationJob.State.RUNNING);
+        assertTrue(scheduler.cancel(job.id()));
+        release.countDown();
+        awaitFinished(job);
+
+        assertEquals(TransliterationJob.State.CANCELLED, job.state());
+        assertTrue(job.results().isEmpty());
+        assertFalse(scheduler.cancel(job.id()));
+    }
+
+    @Test
+    void failedEngineFailsTheJob() throws Exception {
+        TransliteratePort broken = new FutharkTransliterator() {
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                throw new IllegalStateException("engine broke");
+            }
+        };
+        JobScheduler scheduler = scheduler(broken, 10);
+
+        TransliterationJob job = scheduler.submit(Script.ELDER_FUTHARK, List.of("a"), JobLane.INTERACTIVE).orElseThrow();
+        awaitFinished(job);
+
+        assertEquals(TransliterationJob.State.FAILED, job.state());
+        assertEquals("engine broke", job.snapshot().error());
+    }
+
+    @Test
+    void finishedJobsExpireAfterTheResultTtl() throws Exception {
+        JobScheduler scheduler = scheduler(new FutharkTransliterator(), 10);
+
+        TransliterationJob job = scheduler.submit(Script.DETHEK, List.of("dwarf"), JobLane.INTERACTIVE).orElseThrow();
+        awaitFinished(job);
+        clock.advance(Duration.ofMinutes(14));
+        assertTrue(scheduler.find(job.id()).isPresent());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(scheduler.find(job.id()).isEmpty());
+    }
+
+    @Test
+    void oldestFinishedJobsAreEvictedBeyondRetainedJobs() throws Exception {
+        JobScheduler scheduler = retainingScheduler(2, 1_000_000);
+
+        TransliterationJob first = finishedJob(scheduler, "dwarf", 1);
+        TransliterationJob second = finishedJob(scheduler, "elf", 2);
+        TransliterationJob third = finishedJob(scheduler, "hobbit", 2);
+
+        assertTrue(scheduler.find(first.id()).isEmpty());
+        assertTrue(scheduler.find(second.id()).isPresent());
+        assertTrue(scheduler.find(third.id()).isPresent());
+    }
+
+    @Test
+    void oldestFinishedJobsAreEvictedBeyondRetainedChars() throws Exception {
+        JobScheduler scheduler = retainingScheduler(100, 1);
+
+        TransliterationJob first = finishedJob(scheduler, "dwarf", 1);
+        TransliterationJob second = finishedJob(scheduler, "elf", 1);
+
+        assertTrue(scheduler.find(first.id()).isEmpty());
+        assertTrue(scheduler.find(second.id()).isPresent());
+    }
+
+    @Test
+    void longTextsAreChunkedWithoutChangingTheResult() throws Exception {
+        JobScheduler scheduler = scheduler(new FutharkTransliterator(), 10);
+        String text = "the quick brown fox \n".repeat(JobScheduler.CHUNK_CHARS / 10)
+                + " ".repeat(JobScheduler.CHUNK_CHARS * 2) + "end";
+
+        TransliterationJob job = scheduler.submit(Script.ELDER_FUTHARK, List.of(text), JobLane.BULK).orElseThrow();
+        awaitFinished(job);
+
+        String whole = new FutharkTransliterator().transliterate(new TransliterationRequest(text, Script.ELDER_FUTHARK)).runeText();
+        assertEquals(whole, job.results().orElseThrow().get(0));
+        assertEquals(text.length(), job.snapshot().processedChars());
+    }
+
+    @Test
+    void chunksEndAfterASeparator() {
+        String text = "x".repeat(JobScheduler.CHUNK_CHARS - 10) + " tail " + "y".repeat(20);
+        assertEquals(JobScheduler.CHUNK_CHARS - 4, JobScheduler.chunkEnd(text, 0));
+
+        String oneWord = "z".repeat(JobScheduler.CHUNK_CHARS + 5) + " rest";
+        assertEquals(JobScheduler.CHUNK_CHARS + 6, JobScheduler.chunkEnd(oneWord, 0));
+    }
+
+    @Test
+    void seekablePagesMatchTheWholeOutput() throws Exception {
+        JobScheduler scheduler = seekableScheduler(new TengwarTransliterator());
+        String text = "the quick brown fox jumps over\nthe lazy dog ".repeat(200) + "  \n  " + "x".repeat(150) + " end";
+
+        TransliterationJob job = scheduler.submit(Script.TENGWAR, List.of(text, "  ", ""), JobLane.BULK, true).orElseThrow();
+        awaitFinished(job);
+
+        assertEquals(TransliterationJob.State.SUCCEEDED, job.state());
+        assertTrue(job.snapshot().seekable());
+        assertTrue(job.results().isEmpty());
+        assertEquals(text.length() + 2, job.snapshot().processedChars());
+
+        String whole = new TengwarTransliterator().transliterate(new TransliterationRequest(text, Script.TENGWAR)).runeText();
+        for (int offset = 0; offset < whole.length() + 100; offset += 97) {
+            for (int length : new int[] {0, 1, 63, 500}) {
+                JobScheduler.Page page = scheduler.page(job, 0, offset, length).orElseThrow();
+                int from = Math.min(offset, whole.length());
+                assertEquals(whole.substring(from, Math.min(from + length, whole.length())), page.runeText());
+                assertEquals(whole.length(), page.outputLength());
+            }
+        }
+        assertEquals("", scheduler.page(job, 1, 0, 10).orElseThrow().runeText());
+        assertEquals("", scheduler.page(job, 2, 0, 10).orElseThrow().runeText());
+    }
+
+    @Test
+    void seekablePageOnlyTransliteratesTheCheckpointsAroundIt() throws Exception {
+        CountingFuthark counting = new CountingFuthark();
+        JobScheduler scheduler = seekableScheduler(counting);
+        String text = "gandalf the grey ".repeat(10_000);
+
+        TransliterationJob job = scheduler.submit(Script.ELDER_FUTHARK, List.of(text), JobLane.BULK, true).orElseThrow();
+        awaitFinished(job);
+        counting.chars = 0;
+
+        String page = scheduler.page(job, 0, 150_000, 50).orElseThrow().runeText();
+
+        String whole = new FutharkTransliterator().transliterate(new TransliterationRequest(text, Script.ELDER_FUTHARK)).runeText();
+        assertEquals(whole.substring(150_000, 150_050), page);
+        assertTrue(counting.chars <= 3 * 64, "transliterated " + counting.chars + " chars for one page");
+    }
+
+    @Test
+    void readingAPageKeepsASeekableJobPastTheResultTtl() throws Exception {
+        JobScheduler scheduler = seekableScheduler(new FutharkTransliterator());
+
+        TransliterationJob job = scheduler.submit(Script.ELDER_FUTHARK, List.of("the fellowship of the ring"),
+                JobLane.INTERACTIVE, true).orElseThrow();
+        awaitFinished(job);
+        clock.advance(Duration.ofMinutes(10));
+        scheduler.page(job, 0, 0, 10).orElseThrow();
+
+        clock.advance(Duration.ofMinutes(10));
+        assertTrue(scheduler.find(job.id()).isPresent());
+
+        clock.advance(Duration.ofMinutes(6));
+        assertTrue(scheduler.find(job.id()).isEmpty());
+    }
+
+    @Test
+    void seekableJobsCountAgainstTheCapsAndAreEvicted() throws Exception {
+        JobScheduler scheduler = retainingScheduler(1, 1_000_000);
+
+        TransliterationJob seekable = finishedJob(scheduler, "khazad dum", true, 1);
+        assertTrue(scheduler.retainedChars() >= "khazad dum".length());
+        TransliterationJob plain = finishedJob(scheduler, "moria", false, 1);
+
+        assertTrue(scheduler.find(seekable.id()).isEmpty());
+        assertTrue(scheduler.find(plain.id()).isPresent());
+        assertEquals(plain.retainedChars(), scheduler.retainedChars());
+    }
+
+    @Test
+    void sweepForgetsExpiredSeekableJobsAndKeepsSweeping() throws Exception {
+        JobScheduler scheduler = retainingScheduler(100, 1_000_000);
+
+        TransliterationJob seekable = finishedJob(scheduler, "khazad dum", true, 1);
+        clock.advance(Duration.ofMinutes(16));
+        scheduler.expireFinished();
+        assertFalse(scheduler.isRetained(seekable.id()));
+        assertTrue(scheduler.find(seekable.id()).isEmpty());
+        assertEquals(0, scheduler.retainedChars());
+
+        TransliterationJob plain = finishedJob(scheduler, "moria", false, 1);
+        clock.advance(Duration.ofMinutes(16));
+        scheduler.expireFinished();
+        assertFalse(scheduler.isRetained(plain.id()));
+        assertEquals(0, scheduler.retainedJobs());
+    }
+
+    @Test
+    void discardingAFinishedSeekableJobReleasesIt() throws Exception {
+        JobScheduler scheduler = retainingScheduler(100, 1_000_000);
+
+        TransliterationJob job = finishedJob(scheduler, "khazad dum", true, 1);
+
+        assertTrue(scheduler.discard(job.id()));
+        assertTrue(scheduler.find(job.id()).isEmpty());
+        assertEquals(0, scheduler.retainedJobs());
+        assertEquals(0, scheduler.retainedChars());
+    }
+
+    @Test
+    void cancelsQueuedSeekableJob() throws Exception {
+        JobScheduler scheduler = scheduler(blocking(), 1);
+
+        TransliterationJob running = scheduler.submit(Script.ELDER_FUTHARK, List.of("a"), JobLane.BULK).orElseThrow();
+        awaitState(running, TransliterationJob.State.RUNNING);
+        TransliterationJob queued = scheduler.submit(Script.ELDER_FUTHARK, List.of("b"), JobLane.BULK, true).orElseThrow();
+
+        assertTrue(scheduler.cancel(queued.id()));
+        assertEquals(TransliterationJob.State.CANCELLED, queued.state());
+        assertTrue(scheduler.isRetained(queued.id()));
+        assertEquals(1, scheduler.retainedChars());
+    }
+
+    @Test
+    void plainJobsArePagedFromTheirResults() throws Exception {
+        JobScheduler scheduler = scheduler(new FutharkTransliterator(), 10);
+
+        TransliterationJob job = scheduler.submit(Script.DETHEK, List.of("khazad dum"), JobLane.INTERACTIVE).orElseThrow();
+        awaitFinished(job);
+
+        assertEquals(new JobScheduler.Page(7, 10, "dum"), scheduler.page(job, 0, 7, 100).orElseThrow());
+    }
+
+    private JobScheduler seekableScheduler(TransliteratePort engine) {
+        scheduler = new JobScheduler(Map.of(engine.script(), engine),
+                new JobScheduler.Settings(1, 1, 10, 100, Duration.ofMinutes(15), 64), clock);
+        return scheduler;
+    }
+
+    private JobScheduler retainingScheduler(int retainedJobs, long retainedChars) {
+        scheduler = new JobScheduler(Map.of(Script.DETHEK, new DethekTransliterator()),
+                new JobScheduler.Settings(1, 1, 10, 100, Duration.ofMinutes(15), 4096, retainedJobs, retainedChars),
+                clock);
+        return scheduler;
+    }
+
+    // Runs a one-text job, waits until it counts against the caps, and checks how many are kept
+    private static TransliterationJob finishedJob(JobScheduler scheduler, String text, int retained) throws Exception {
+        return finishedJob(scheduler, text, false, retained);
+    }
+
+    private static TransliterationJob finishedJob(JobScheduler scheduler, String text, boolean seekable, int retained)
+            throws Exception {
+        TransliterationJob job = scheduler.submit(Script.DETHEK, List.of(text), JobLane.INTERACTIVE, seekable).orElseThrow();
+        awaitFinished(job);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!scheduler.isRetained(job.id()) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(retained, scheduler.retainedJobs());
+        return job;
+    }
+
+    // Futhark engine that counts the characters it is given
+    private static final class CountingFuthark extends FutharkTransliterator {
+
+        volatile long chars;
+
+        @Override
+        public TransliterationResult transliterate(TransliterationRequest request) {
+            chars += request.rawText().length();
+            return super.transliterate(request);
+        }
+    }
+
+    // Futhark engine that holds every call until the test releases it
+    private TransliteratePort blocking() {
+        return new TransliteratePort() {
+            @Override
+            public Script script() {
+                return Script.ELDER_FUTHARK;
+            }
+
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new FutharkTransliterator().transliterate(request);
+            }
+
+            @Override
+            public List<LegendEntry> getLegend() {
+                return List.of();
+            }
+        };
+    }
+
+    private static void awaitFinished(TransliterationJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!job.state().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(job.state().isFinished(), "job did not finish");
+    }
+
+    private static void awaitState(TransliterationJob job, TransliterationJob.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (job.state() != state && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(state, job.state());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import com.druidic.transliterator.adapter.in.ScriptRegistry;
+import com.druidic.transliterator.adapter.out.cache.HeavyHitters;
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHitterWarmerTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<String> warmed = new ArrayList<>();
+
+    private HeavyHitterWarmer warmer(HeavyHitters heavyHitters, Path snapshot) {
+        TengwarTransliterator tengwar = new TengwarTransliterator() {
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                warmed.add(request.rawText());
+                return super.transliterate(request);
+            }
+        };
+        ScriptRegistry scripts = new ScriptRegistry(
+                List.of(new FutharkTransliterator(), tengwar, new DethekTransliterator()));
+        return new HeavyHitterWarmer(scripts, heavyHitters, 2, Duration.ZERO, snapshot.toString());
+    }
+
+    @Test
+    void snapshotRoundTrips() throws Exception {
+        Path file = dir.resolve("hh.bin");
+        List<HeavyHitters.Entry> entries = List.of(
+                new HeavyHitters.Entry(Script.TENGWAR, "mellon", 42),
+                new HeavyHitters.Entry(Script.DETHEK, "line one\nline two", 7));
+
+        HeavyHitterWarmer.write(file, entries);
+
+        assertEquals(entries, HeavyHitterWarmer.read(file));
+    }
+
+    @Test
+    void savesOnShutdownAndRestoresAndWarmsAtBoot() {
+        Path file = dir.resolve("state").resolve("hh.bin");
+        HeavyHitters before = new HeavyHitters(1024, 4, 10, 200);
+        before.add(Script.TENGWAR, "speak friend", 30);
+        before.add(Script.TENGWAR, "mellon", 20);
+        before.add(Script.TENGWAR, "and enter", 10);
+        warmer(before, file).destroy();
+        assertTrue(Files.isRegularFile(file));
+
+        HeavyHitters after = new HeavyHitters(1024, 4, 10, 200);
+        warmer(after, file).run(null);
+
+        assertEquals(before.top(10), after.top(10));
+        assertEquals(List.of("speak friend", "mellon"), warmed, "prewarm-count is 2");
+    }
+
+    @Test
+    void missingSnapshotIsNotAnError() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 10, 200);
+        warmer(heavyHitters, dir.resolve("absent.bin")).run(null);
+
+        assertTrue(heavyHitters.top(10).isEmpty());
+        assertTrue(warmed.isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.druidic.transliterator.adapter.in.warmup;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmUpRunnerTest {
+
+    private final WarmUpHealthIndicator indicator = new WarmUpHealthIndicator();
+
+    private WarmUpRunner runner(boolean enabled, int engineIterations) {
+        WarmUpEngines engines = new WarmUpEngines();
+        List.of(new FutharkTransliterator(), new TengwarTransliterator(), new DethekTransliterator())
+                .forEach(engines::register);
+        return new WarmUpRunner(engines, indicator, new MockEnvironment(), enabled, engineIterations, 10, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void reportsOutOfServiceUntilFinished() {
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    @Test
+    void warmsEveryEngineThenReportsUp() {
+        runner(true, 100).run(null);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(600, indicator.health().getDetails().get("engineCalls"), "3 engines x 2 output paths x 100");
+        assertEquals("skipped: no local server", indicator.health().getDetails().get("httpRequests"));
+    }
+
+    @Test
+    void disabledWarmUpIsImmediatelyReady() {
+        runner(false, 100).run(null);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals("disabled", indicator.health().getDetails().get("skipped"));
+    }
+
+    @Test
+    void syntheticTextIsDeterministicPerSeed() {
+        assertEquals(WarmUpRunner.syntheticText(new Random(7), 12), WarmUpRunner.syntheticText(new Random(7), 12));
+        assertEquals(12, WarmUpRunner.syntheticText(new Random(7), 12).split("[ \n]").length);
+    }
+}
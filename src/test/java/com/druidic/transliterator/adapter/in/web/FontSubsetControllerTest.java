@@ -0,0 +1,65 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FontSubsetControllerTest {
+
+    private static final int FULL_TENGWAR_WOFF_BYTES = 34468;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void scriptSubsetRedirectsToAnImmutableHashedUrl() throws Exception {
+        String location = mockMvc.perform(get("/fonts/subset/TENGWAR.woff"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Cache-Control", "max-age=3600, public"))
+                .andReturn().getResponse().getHeader("Location");
+        assertTrue(location.matches("/fonts/subset/TENGWAR/[0-9a-f]{16}\\.woff"), location);
+
+        byte[] woff = mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("font/woff"))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(woff.length < FULL_TENGWAR_WOFF_BYTES / 2, woff.length + " bytes");
+    }
+
+    @Test
+    void textSubsetUrlCarriesItsGlyphs() throws Exception {
+        String location = mockMvc.perform(get("/fonts/subset/dethek.woff").param("text", "dwarf"))
+                .andExpect(status().isFound())
+                .andReturn().getResponse().getHeader("Location");
+        assertTrue(location.startsWith("/fonts/subset/DETHEK/") && location.endsWith(".woff?g=adfrw"), location);
+
+        mockMvc.perform(get(URI.create(location)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("font/woff"));
+    }
+
+    @Test
+    void staleHashIsNotFound() throws Exception {
+        mockMvc.perform(get("/fonts/subset/TENGWAR/0000000000000000.woff"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void scriptsWithoutAWebFontAreNotFound() throws Exception {
+        mockMvc.perform(get("/fonts/subset/ELDER_FUTHARK.woff"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/fonts/subset/klingon.woff"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,57 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import com.druidic.transliterator.adapter.in.warmup.WarmUpRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "transliterator.admin.token=test-token")
+@AutoConfigureMockMvc
+class HeavyHittersControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void refusesRequestsWithoutToken() throws Exception {
+        mockMvc.perform(get("/admin/heavy-hitters"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/admin/heavy-hitters/prewarm"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void reportsTheHottestInputAcrossControllers() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            mockMvc.perform(get("/api/transliterate").param("text", "you shall not pass").param("script", "TENGWAR"));
+        }
+        mockMvc.perform(post("/").param("inputText", "you shall not pass").param("script", "TENGWAR"));
+
+        mockMvc.perform(get("/admin/heavy-hitters").param("limit", "1").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].script").value("TENGWAR"))
+                .andExpect(jsonPath("$.entries[0].text").value("you shall not pass"))
+                .andExpect(jsonPath("$.entries[0].estimate").value(51));
+
+        mockMvc.perform(post("/admin/heavy-hitters/prewarm").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prewarmed").isNumber());
+    }
+
+    @Test
+    void warmUpRequestsAreNotCounted() throws Exception {
+        mockMvc.perform(get("/api/transliterate").param("text", "warm-up only").param("script", "DETHEK")
+                .header(WarmUpRunner.HEADER, "true"));
+        mockMvc.perform(get("/").param("text", "warm-up only").param("script", "DETHEK")
+                .header(WarmUpRunner.HEADER, "true"));
+
+        mockMvc.perform(get("/admin/heavy-hitters").param("limit", "100").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[?(@.text == 'warm-up only')]").isEmpty());
+    }
+}
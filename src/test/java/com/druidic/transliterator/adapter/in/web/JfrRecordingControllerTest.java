@@ -0,0 +1,66 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "transliterator.admin.token=test-token")
+@AutoConfigureMockMvc
+class JfrRecordingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void refusesRequestsWithoutToken() throws Exception {
+        mockMvc.perform(post("/admin/jfr/start"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/jfr/dump").header(AdminAccess.HEADER, "wrong"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void startsStopsAndDumpsRecording() throws Exception {
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/transliterate").param("text", "hello"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/admin/jfr/status").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(post("/admin/jfr/stop").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/admin/jfr/dump").header(AdminAccess.HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"fantasy-transliterator.jfr\""));
+    }
+
+    @Test
+    void rejectsUnknownConfiguration() throws Exception {
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token")
+                        .param("configuration", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsMaxAgeBelowOneSecond() throws Exception {
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token")
+                        .param("maxAgeSeconds", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token")
+                        .param("maxAgeSeconds", "-5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/admin/jfr/start").header(AdminAccess.HEADER, "test-token")
+                        .param("engineThresholdMillis", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,123 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "transliterator.jobs.max-chars=1000")
+@AutoConfigureMockMvc
+class JobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void runsSubmittedJobAndServesResults() throws Exception {
+        String location = mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"script\":\"DETHEK\",\"texts\":[\"moria\",\"Khazad Dum\"]}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/jobs/")))
+                .andExpect(jsonPath("$.lane").value("INTERACTIVE"))
+                .andReturn().getResponse().getHeader("Location");
+
+        String state = "QUEUED";
+        for (int attempt = 0; attempt < 200 && !state.equals("SUCCEEDED"); attempt++) {
+            Thread.sleep(10);
+            String body = mockMvc.perform(get(location)).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            state = body.replaceAll(".*\"state\":\"(\\w+)\".*", "$1");
+        }
+        assertEquals("SUCCEEDED", state);
+
+        mockMvc.perform(get(location + "/results"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0]").value("moria"))
+                .andExpect(jsonPath("$.results[1]").value("khazad dum"));
+
+        mockMvc.perform(post(location + "/cancel"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(delete(location))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(location))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void seekableJobIsReadAPageAtATime() throws Exception {
+        String location = mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"script\":\"DETHEK\",\"texts\":[\"Khazad Dum\"],\"seekable\":true}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.seekable").value(true))
+                .andReturn().getResponse().getHeader("Location");
+
+        String state = "QUEUED";
+        for (int attempt = 0; attempt < 200 && !state.equals("SUCCEEDED"); attempt++) {
+            Thread.sleep(10);
+            String body = mockMvc.perform(get(location)).andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            state = body.replaceAll(".*\"state\":\"(\\w+)\".*", "$1");
+        }
+        assertEquals("SUCCEEDED", state);
+
+        mockMvc.perform(get(location + "/texts/0").param("offset", "7").param("length", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset").value(7))
+                .andExpect(jsonPath("$.outputLength").value(10))
+                .andExpect(jsonPath("$.runeText").value("dum"));
+        mockMvc.perform(get(location + "/results"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get(location + "/texts/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(location + "/texts/0").param("offset", "-1"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete(location))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get(location))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void bulkPriorityIsHonoured() throws Exception {
+        mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"texts\":[\"hello\"],\"priority\":\"bulk\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.lane").value("BULK"))
+                .andExpect(jsonPath("$.script").value("ELDER_FUTHARK"));
+    }
+
+    @Test
+    void rejectsInvalidSubmissions() throws Exception {
+        mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"script\":\"KLINGON\",\"texts\":[\"a\"]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"texts\":[]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"texts\":[\"" + "a".repeat(1001) + "\"]}"))
+                .andExpect(status().is(413));
+    }
+
+    @Test
+    void unknownJobIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/jobs/no-such-job"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/jobs/no-such-job/results"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,62 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "transliterator.ndjson.max-line-bytes=200")
+@AutoConfigureMockMvc
+class NdjsonControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void answersEachRecordInOrder() throws Exception {
+        String body = mockMvc.perform(post("/api/transliterate/ndjson")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                        {"id":1,"text":"hello world"}
+                        {"id":"two","text":"Moria","script":"dwarvish"}
+
+                        {"text":""}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals("""
+                {"id":1,"runeText":"ᚺᛖᛚᛚᛟ ᚹᛟᚱᛚᛞ"}
+                {"id":"two","runeText":"moria"}
+                {"runeText":""}
+                """, body);
+    }
+
+    @Test
+    void badRecordsGetAnErrorLineAndTheStreamCarriesOn() throws Exception {
+        String body = mockMvc.perform(post("/api/transliterate/ndjson")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"id\":1,\"text\":\"hel\n"
+                        + "{\"id\":2,\"text\":\"a\",\"script\":\"KLINGON\"}\r\n"
+                        + "{\"id\":3,\"text\":\"" + "x".repeat(300) + "\"}\n"
+                        + "{\"id\":4,\"text\":\"hello\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("{\"id\":1,\"line\":1,\"error\":\"unterminated string\"}", lines[0]);
+        assertEquals("{\"id\":2,\"line\":2,\"error\":\"unknown script: KLINGON\"}", lines[1]);
+        assertEquals("{\"line\":3,\"error\":\"line exceeds 200 bytes\"}", lines[2]);
+        assertEquals("{\"id\":4,\"runeText\":\"ᚺᛖᛚᛚᛟ\"}", lines[3]);
+    }
+}
@@ -0,0 +1,52 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonLineReaderTest {
+
+    @Test
+    void splitsOnNewlinesAndDropsCarriageReturns() throws IOException {
+        NdjsonLineReader lines = reader("one\r\ntwo\n\nthree", 100);
+
+        assertEquals("one", lines.readLine());
+        assertEquals("two", lines.readLine());
+        assertEquals("", lines.readLine());
+        assertEquals("three", lines.readLine());
+        assertNull(lines.readLine());
+        assertNull(lines.readLine());
+    }
+
+    @Test
+    void skipsOverlongLinesWithoutBufferingThem() throws IOException {
+        NdjsonLineReader lines = reader("short\n" + "ᚠ".repeat(20_000) + "\nafter\n", 16);
+
+        assertEquals("short", lines.readLine());
+        assertFalse(lines.lastLineTooLong());
+        assertEquals("", lines.readLine());
+        assertTrue(lines.lastLineTooLong());
+        assertEquals("after", lines.readLine());
+        assertFalse(lines.lastLineTooLong());
+        assertNull(lines.readLine());
+    }
+
+    @Test
+    void reportsBufferedInput() throws IOException {
+        NdjsonLineReader lines = reader("a\nb\n", 100);
+
+        assertTrue(lines.hasBuffered());
+        lines.readLine();
+        assertTrue(lines.hasBuffered());
+        lines.readLine();
+        assertFalse(lines.hasBuffered());
+    }
+
+    private static NdjsonLineReader reader(String body, int maxLineBytes) {
+        return new NdjsonLineReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), maxLineBytes);
+    }
+}
@@ -0,0 +1,59 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonRecordTest {
+
+    @Test
+    void readsIdTextAndScript() {
+        NdjsonRecord record = NdjsonRecord.parse("{\"id\":\"a-1\",\"text\":\"hello\",\"script\":\"TENGWAR\"}");
+
+        assertFalse(record.failed());
+        assertEquals("\"a-1\"", record.id());
+        assertEquals("hello", record.text());
+        assertEquals("TENGWAR", record.script());
+    }
+
+    @Test
+    void keepsNumericIdsAsWrittenAndSkipsUnknownKeys() {
+        NdjsonRecord record = NdjsonRecord.parse(
+                " { \"id\" : -12.5e3 , \"meta\" : {\"tags\":[1,true,null,\"x\"]}, \"text\" : \"hi\" } ");
+
+        assertFalse(record.failed());
+        assertEquals("-12.5e3", record.id());
+        assertEquals("hi", record.text());
+        assertNull(record.script());
+    }
+
+    @Test
+    void decodesEscapes() {
+        NdjsonRecord record = NdjsonRecord.parse("{\"text\":\"a\\\"b\\\\c\\n\\u00e9\\/\"}");
+
+        assertEquals("a\"b\\c\né/", record.text());
+    }
+
+    @Test
+    void reportsMalformedLinesWithTheIdReadSoFar() {
+        NdjsonRecord truncated = NdjsonRecord.parse("{\"id\":7,\"text\":\"unterminated");
+        assertTrue(truncated.failed());
+        assertEquals("7", truncated.id());
+        assertEquals("unterminated string", truncated.error());
+
+        assertTrue(NdjsonRecord.parse("not json").failed());
+        assertTrue(NdjsonRecord.parse("{\"text\":\"a\"} trailing").failed());
+        assertTrue(NdjsonRecord.parse("{\"text\":42}").failed());
+        assertTrue(NdjsonRecord.parse("{\"id\":{},\"text\":\"a\"}").failed());
+        assertTrue(NdjsonRecord.parse("{\"x\":" + "[".repeat(1000) + "]".repeat(1000) + ",\"text\":\"a\"}").failed());
+    }
+
+    @Test
+    void requiresText() {
+        NdjsonRecord record = NdjsonRecord.parse("{\"id\":\"x\"}");
+
+        assertTrue(record.failed());
+        assertEquals("\"x\"", record.id());
+        assertEquals("text is required", record.error());
+    }
+}
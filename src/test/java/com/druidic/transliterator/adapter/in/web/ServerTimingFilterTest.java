@@ -0,0 +1,50 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "transliterator.server-timing.enabled=true")
+@AutoConfigureMockMvc
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pageResponseBreaksDownEveryStage() throws Exception {
+        mockMvc.perform(post("/").param("inputText", "hello").param("script", "TENGWAR"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER, matchesPattern(
+                        "bind;dur=\\d+\\.\\d{3}, normalize;dur=\\d+\\.\\d{3}, engine;dur=\\d+\\.\\d{3}, "
+                                + "render;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")))
+                .andExpect(content().string(containsString("hello")));
+    }
+
+    @Test
+    void apiResponseKeepsItsBody() throws Exception {
+        mockMvc.perform(get("/api/transliterate").param("text", "hello"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER, containsString("engine;dur=")))
+                .andExpect(jsonPath("$.runeText").value("ᚺᛖᛚᛚᛟ"));
+    }
+
+    @Test
+    void legendReportsJacksonAsItsOwnStage() throws Exception {
+        mockMvc.perform(get("/api/legend"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER, containsString("json;dur=")));
+    }
+
+    @Test
+    void otherEndpointsAreLeftAlone() throws Exception {
+        mockMvc.perform(get("/api/rules"))
+                .andExpect(header().doesNotExist(ServerTiming.HEADER));
+    }
+}
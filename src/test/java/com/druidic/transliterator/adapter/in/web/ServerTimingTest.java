@@ -0,0 +1,40 @@
+package com.druidic.transliterator.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingTest {
+
+    @Test
+    void listsOnlyTheStagesARequestEnteredInOrder() {
+        ServerTiming timing = ServerTiming.start();
+        timing.begin(ServerTiming.Stage.NORMALIZE);
+        timing.begin(ServerTiming.Stage.ENGINE);
+        timing.begin(ServerTiming.Stage.NORMALIZE);
+        timing.finish();
+
+        String header = timing.header();
+        assertTrue(header.matches("bind;dur=\\d+\\.\\d{3}, normalize;dur=\\d+\\.\\d{3}, "
+                + "engine;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}"), header);
+    }
+
+    @Test
+    void finishingTwiceKeepsTheFirstTotal() throws InterruptedException {
+        ServerTiming timing = ServerTiming.start();
+        timing.finish();
+        String header = timing.header();
+        Thread.sleep(5);
+        timing.finish();
+
+        assertEquals(header, timing.header());
+    }
+
+    @Test
+    void noneRecordsNothing() {
+        ServerTiming.NONE.begin(ServerTiming.Stage.ENGINE);
+        ServerTiming.NONE.finish();
+
+        assertEquals("total;dur=0.000", ServerTiming.NONE.header());
+    }
+}
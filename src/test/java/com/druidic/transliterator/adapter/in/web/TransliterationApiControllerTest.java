@@ -26,6 +26,24 @@ class TransliterationApiControllerTest {
                 .andExpect(jsonPath("$.runeText").isNotEmpty());
     }
 
+    @Test
+    void writesRunesAsUtf8() throws Exception {
+        mockMvc.perform(get("/api/transliterate")
+                .param("text", "hello world")
+                .param("script", "ELDER_FUTHARK"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.runeText").value("ᚺᛖᛚᛚᛟ ᚹᛟᚱᛚᛞ"));
+    }
+
+    @Test
+    void escapesNewlinesInJsonBody() throws Exception {
+        mockMvc.perform(get("/api/transliterate")
+                .param("text", "a\nb")
+                .param("script", "DETHEK"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"runeText\":\"a\\nb\"}"));
+    }
+
     @Test
     void blankTextReturnsEmptyResult() throws Exception {
         mockMvc.perform(get("/api/transliterate")
@@ -53,6 +71,15 @@ class TransliterationApiControllerTest {
                 .andExpect(jsonPath("$.runeText").isNotEmpty());
     }
 
+    @Test
+    void scriptNamesIgnoreCaseAndAcceptAliases() throws Exception {
+        for (String name : new String[] {"tengwar", "Tengwar", "elvish"}) {
+            mockMvc.perform(get("/api/legend").param("script", name))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.displayName").value("Tengwar"));
+        }
+    }
+
     @Test
     void longTextIsTruncated() throws Exception {
         String longText = "a".repeat(600);
@@ -62,4 +89,32 @@ class TransliterationApiControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.runeText").isNotEmpty());
     }
+
+    @Test
+    void exportsTengwarRules() throws Exception {
+        mockMvc.perform(get("/api/rules")
+                .param("script", "TENGWAR"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "max-age=3600, public"))
+                .andExpect(jsonPath("$.script").value("TENGWAR"))
+                .andExpect(jsonPath("$.format").value(1))
+                .andExpect(jsonPath("$.exact").value(true))
+                .andExpect(jsonPath("$.rules.digraphs.t.h").value("3"))
+                .andExpect(jsonPath("$.rules.vowels.a").value("#"))
+                .andExpect(jsonPath("$.rules.carrier").value("`"))
+                .andExpect(jsonPath("$.rules.doublingMark").value("~"));
+    }
+
+    @Test
+    void unchangedRulesRevalidateWithNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/rules")
+                .param("script", "DETHEK"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/rules")
+                .param("script", "DETHEK")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
 }
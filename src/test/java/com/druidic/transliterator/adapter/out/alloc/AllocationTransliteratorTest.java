@@ -0,0 +1,58 @@
+package com.druidic.transliterator.adapter.out.alloc;
+
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTransliteratorTest {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final AllocationStats stats = new AllocationStats();
+
+    @Test
+    void countsBytesAllocatedByEachCall() throws Exception {
+        // Allocates a known amount on top of the real engine's output
+        TransliteratePort wasteful = new TransliteratePort() {
+            private final FutharkTransliterator engine = new FutharkTransliterator();
+            byte[] kept;
+
+            @Override
+            public Script script() {
+                return Script.ELDER_FUTHARK;
+            }
+
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                kept = new byte[BUFFER_BYTES];
+                return engine.transliterate(request);
+            }
+
+            @Override
+            public List<LegendEntry> getLegend() {
+                return engine.getLegend();
+            }
+        };
+        AllocationTransliterator transliterator = new AllocationTransliterator(wasteful, stats);
+
+        assertEquals("ᚺᛖᛚᛚᛟ", transliterator
+                .transliterate(new TransliterationRequest("hello", Script.ELDER_FUTHARK)).runeText());
+        transliterator.writeJsonUtf8(new TransliterationRequest("hi", Script.ELDER_FUTHARK), new ByteArrayOutputStream());
+
+        assertEquals(2, stats.calls(Script.ELDER_FUTHARK));
+        assertEquals(7, stats.chars(Script.ELDER_FUTHARK));
+        assertTrue(stats.bytes(Script.ELDER_FUTHARK) >= 2L * BUFFER_BYTES, stats.bytes(Script.ELDER_FUTHARK) + " bytes");
+        assertTrue(stats.bytesPerChar(Script.ELDER_FUTHARK) > BUFFER_BYTES / 7.0);
+        assertEquals(0, stats.calls(Script.TENGWAR));
+        assertEquals(0.0, stats.bytesPerChar(Script.TENGWAR));
+    }
+}
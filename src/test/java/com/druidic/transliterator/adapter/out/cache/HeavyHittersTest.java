@@ -0,0 +1,106 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.Script;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHittersTest {
+
+    @Test
+    void findsTheHeaviestInputsInASkewedStream() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 10, 200);
+        Random random = new Random(34);
+        for (int i = 0; i < 50_000; i++) {
+            // rank r arrives about 1/r as often
+            int rank = (int) Math.floor(Math.pow(2000, random.nextDouble()));
+            heavyHitters.record(Script.TENGWAR, "phrase " + rank);
+        }
+
+        List<HeavyHitters.Entry> top = heavyHitters.top(3);
+        assertEquals(List.of("phrase 1", "phrase 2", "phrase 3"), top.stream().map(HeavyHitters.Entry::text).toList());
+        assertTrue(top.get(0).estimate() > top.get(1).estimate());
+    }
+
+    @Test
+    void neverUnderestimates() {
+        HeavyHitters heavyHitters = new HeavyHitters(64, 2, 4, 200);
+        for (int i = 0; i < 1000; i++) {
+            heavyHitters.record(Script.DETHEK, "word " + (i % 300));
+        }
+        for (int w = 0; w < 300; w++) {
+            assertTrue(heavyHitters.estimate(Script.DETHEK, "word " + w) >= 3);
+        }
+    }
+
+    @Test
+    void keysAreScopedByScript() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 10, 200);
+        heavyHitters.add(Script.ELDER_FUTHARK, "hello", 5);
+        heavyHitters.add(Script.TENGWAR, "hello", 2);
+
+        assertEquals(List.of(
+                new HeavyHitters.Entry(Script.ELDER_FUTHARK, "hello", 5),
+                new HeavyHitters.Entry(Script.TENGWAR, "hello", 2)
+        ), heavyHitters.top(10));
+    }
+
+    @Test
+    void textsWithEqualStringHashesDoNotShareCounters() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 10, 200);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        heavyHitters.add(Script.TENGWAR, "Aa", 5);
+
+        assertEquals(5, heavyHitters.estimate(Script.TENGWAR, "Aa"));
+        assertEquals(0, heavyHitters.estimate(Script.TENGWAR, "BB"));
+    }
+
+    @Test
+    void ignoresBlankAndOverlongTexts() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 10, 8);
+        heavyHitters.record(Script.DETHEK, "   ");
+        heavyHitters.record(Script.DETHEK, "far too long");
+
+        assertEquals(0, heavyHitters.total());
+        assertTrue(heavyHitters.top(10).isEmpty());
+    }
+
+    @Test
+    void agingHalvesCountsSoNewInputsCanOvertake() {
+        HeavyHitters heavyHitters = new HeavyHitters(1024, 4, 1, 200);
+        heavyHitters.add(Script.TENGWAR, "old", 10);
+        heavyHitters.age();
+        assertEquals(5, heavyHitters.top(1).get(0).estimate());
+
+        heavyHitters.add(Script.TENGWAR, "new", 6);
+        assertEquals("new", heavyHitters.top(1).get(0).text());
+    }
+
+    @Test
+    void concurrentRecordingKeepsTheHeavyKey() throws Exception {
+        HeavyHitters heavyHitters = new HeavyHitters(4096, 4, 8, 200);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            pool.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    heavyHitters.record(Script.ELDER_FUTHARK, i % 2 == 0 ? "hot" : "cold " + thread + " " + i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        HeavyHitters.Entry hottest = heavyHitters.top(1).get(0);
+        assertEquals("hot", hottest.text());
+        assertTrue(heavyHitters.estimate(Script.ELDER_FUTHARK, "hot") >= 40_000);
+        assertEquals(80_000, heavyHitters.total());
+    }
+}
@@ -0,0 +1,212 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.adapter.out.transliteration.PronunciationDictionary;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultStoreTest {
+
+    private static final long SIZE = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void storesOutputsPerScript() throws Exception {
+        try (ResultStore store = new ResultStore(dir.resolve("store.bin"), SIZE, 500)) {
+            store.put(Script.TENGWAR, "mellon", "tengwar mellon");
+            store.put(Script.DETHEK, "mellon", "dethek mellon");
+
+            assertEquals("tengwar mellon", store.get(Script.TENGWAR, "mellon"));
+            assertEquals("dethek mellon", store.get(Script.DETHEK, "mellon"));
+            assertNull(store.get(Script.ELDER_FUTHARK, "mellon"));
+            assertNull(store.get(Script.TENGWAR, "mello"));
+            assertEquals(2, store.entries());
+            assertEquals(2, store.hits());
+            assertEquals(2, store.misses());
+        }
+    }
+
+    @Test
+    void jsonBodiesAreEscapedOnlyWhenNeeded() throws Exception {
+        try (ResultStore store = new ResultStore(null, SIZE, 500)) {
+            store.put(Script.ELDER_FUTHARK, "plain", "ᛈᛚᚨᛁᚾ");
+            store.put(Script.ELDER_FUTHARK, "two\nlines", "ᛏᚹᛟ\nᛚᛁᚾᛖᛊ \"quoted\"");
+
+            assertArrayEquals(JsonUtf8.encode("ᛈᛚᚨᛁᚾ"), store.getJsonUtf8(Script.ELDER_FUTHARK, "plain"));
+            assertArrayEquals(JsonUtf8.encode("ᛏᚹᛟ\nᛚᛁᚾᛖᛊ \"quoted\""),
+                    store.getJsonUtf8(Script.ELDER_FUTHARK, "two\nlines"));
+        }
+    }
+
+    @Test
+    void ignoresBlankAndOverlongTexts() throws Exception {
+        try (ResultStore store = new ResultStore(null, SIZE, 8)) {
+            store.put(Script.DETHEK, "   ", "");
+            store.put(Script.DETHEK, "far too long", "x");
+
+            assertEquals(0, store.entries());
+        }
+    }
+
+    @Test
+    void cleanCloseIsMappedBackInAsIs() throws Exception {
+        Path file = dir.resolve("state").resolve("store.bin");
+        try (ResultStore store = new ResultStore(file, SIZE, 500)) {
+            for (int i = 0; i < 1000; i++) {
+                store.put(Script.TENGWAR, "phrase " + i, "output " + i);
+            }
+        }
+
+        try (ResultStore reopened = new ResultStore(file, SIZE, 500)) {
+            assertTrue(reopened.restored());
+            assertEquals(1000, reopened.entries());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("output " + i, reopened.get(Script.TENGWAR, "phrase " + i));
+            }
+        }
+    }
+
+    @Test
+    void fileThatWasNotClosedStartsEmpty() throws Exception {
+        Path file = dir.resolve("store.bin");
+        ResultStore crashed = new ResultStore(file, SIZE, 500);
+        crashed.put(Script.TENGWAR, "mellon", "output");
+
+        try (ResultStore reopened = new ResultStore(file, SIZE, 500)) {
+            assertFalse(reopened.restored());
+            assertEquals(0, reopened.entries());
+            assertNull(reopened.get(Script.TENGWAR, "mellon"));
+        }
+    }
+
+    @Test
+    void resizedFileStartsEmpty() throws Exception {
+        Path file = dir.resolve("store.bin");
+        try (ResultStore store = new ResultStore(file, SIZE, 500)) {
+            store.put(Script.TENGWAR, "mellon", "output");
+        }
+
+        try (ResultStore resized = new ResultStore(file, 2 * SIZE, 500)) {
+            assertFalse(resized.restored());
+            assertNull(resized.get(Script.TENGWAR, "mellon"));
+            assertEquals(2 * SIZE, Files.size(file));
+        }
+    }
+
+    @Test
+    void anotherEngineFingerprintClearsTheRestoredStore() throws Exception {
+        Path file = dir.resolve("store.bin");
+        try (ResultStore store = new ResultStore(file, SIZE, 500)) {
+            assertFalse(store.bind(Script.TENGWAR, 1));
+            store.put(Script.TENGWAR, "mellon", "spelled");
+        }
+        try (ResultStore same = new ResultStore(file, SIZE, 500)) {
+            assertFalse(same.bind(Script.TENGWAR, 1));
+            assertEquals("spelled", same.get(Script.TENGWAR, "mellon"));
+        }
+
+        try (ResultStore changed = new ResultStore(file, SIZE, 500)) {
+            assertTrue(changed.bind(Script.TENGWAR, 2));
+            assertNull(changed.get(Script.TENGWAR, "mellon"));
+            assertEquals(0, changed.entries());
+        }
+    }
+
+    @Test
+    void spelledAndPhoneticTengwarHaveDifferentFingerprints() {
+        assertEquals(ResultStoreTransliterator.fingerprint(new TengwarTransliterator()),
+                ResultStoreTransliterator.fingerprint(new TengwarTransliterator()));
+        assertNotEquals(ResultStoreTransliterator.fingerprint(new TengwarTransliterator()),
+                ResultStoreTransliterator.fingerprint(new TengwarTransliterator(PronunciationDictionary.bundled())));
+    }
+
+    @Test
+    void cleanFileWithASlotOutsideTheRecordsStartsEmpty() throws Exception {
+        Path file = dir.resolve("store.bin");
+        try (ResultStore store = new ResultStore(file, SIZE, 500)) {
+            store.put(Script.TENGWAR, "mellon", "output");
+        }
+        // Point the one used slot past the end of the written records
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer slot = ByteBuffer.allocate(16);
+            for (long at = 64; ; at += 16) {
+                slot.clear();
+                channel.read(slot, at);
+                if (slot.getLong(0) != 0) {
+                    channel.write(ByteBuffer.allocate(4).putInt(0, (int) SIZE - 4), at + 8);
+                    break;
+                }
+            }
+        }
+
+        try (ResultStore reopened = new ResultStore(file, SIZE, 500)) {
+            assertFalse(reopened.restored());
+            assertNull(reopened.get(Script.TENGWAR, "mellon"));
+        }
+    }
+
+    @Test
+    void clearsAndRefillsWhenFull() throws Exception {
+        try (ResultStore store = new ResultStore(null, 64 * 1024, 500)) {
+            for (int i = 0; i < 5000; i++) {
+                store.put(Script.DETHEK, "phrase " + i, "output " + i);
+                assertEquals("output " + i, store.get(Script.DETHEK, "phrase " + i));
+            }
+
+            assertTrue(store.resets() > 0);
+            assertTrue(store.usedBytes() <= store.mappedBytes());
+        }
+    }
+
+    @Test
+    void temporaryStoreIsDeletedOnClose() throws Exception {
+        ResultStore store = new ResultStore(null, SIZE, 500);
+        assertTrue(Files.isRegularFile(store.file()));
+
+        store.close();
+
+        assertFalse(Files.exists(store.file()));
+    }
+
+    @Test
+    void decoratorServesRepeatsFromTheStore() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TengwarTransliterator engine = new TengwarTransliterator() {
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                calls.incrementAndGet();
+                return super.transliterate(request);
+            }
+        };
+        TransliterationRequest request = new TransliterationRequest("speak friend\nand enter", Script.TENGWAR);
+        String expected = new TengwarTransliterator().transliterate(request).runeText();
+
+        try (ResultStore store = new ResultStore(null, SIZE, 500)) {
+            ResultStoreTransliterator stored = new ResultStoreTransliterator(engine, store);
+
+            assertEquals(expected, stored.transliterate(request).runeText());
+            assertEquals(expected, stored.transliterate(request).runeText());
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            stored.writeJsonUtf8(request, json);
+
+            assertArrayEquals(JsonUtf8.encode(expected), json.toByteArray());
+            assertEquals(1, calls.get());
+        }
+    }
+}
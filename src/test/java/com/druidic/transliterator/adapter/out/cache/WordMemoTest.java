@@ -0,0 +1,55 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.core.Script;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordMemoTest {
+
+    private final WordMemo memo = new WordMemo(64);
+
+    @Test
+    void missThenHitWithinLargerText() {
+        assertNull(memo.get(Script.TENGWAR, "say hello", 4, 9));
+        memo.put(Script.TENGWAR, "hello", "9$j~^");
+
+        WordMemo.Entry entry = memo.get(Script.TENGWAR, "oh hello there", 3, 8);
+        assertNotNull(entry);
+        assertEquals("9$j~^", entry.output());
+        assertEquals(1, memo.hits(Script.TENGWAR));
+        assertEquals(1, memo.misses(Script.TENGWAR));
+        assertEquals(0.5, memo.hitRate(Script.TENGWAR), 1e-9);
+    }
+
+    @Test
+    void entriesAreScopedByScript() {
+        memo.put(Script.ELDER_FUTHARK, "hello", "ᚺᛖᛚᛚᛟ");
+        assertNull(memo.get(Script.DETHEK, "hello", 0, 5));
+        assertEquals(1, memo.misses(Script.DETHEK));
+        assertEquals(0, memo.hits(Script.ELDER_FUTHARK));
+    }
+
+    @Test
+    void capacityIsRoundedToPowerOfTwo() {
+        assertEquals(64, new WordMemo(64).capacity());
+        assertEquals(128, new WordMemo(100).capacity());
+    }
+
+    @Test
+    void staysBoundedUnderManyDistinctWords() {
+        for (int i = 0; i < 10_000; i++) {
+            memo.put(Script.DETHEK, "w" + i, "w" + i);
+        }
+        assertEquals(64, memo.capacity());
+        String recent = "w9999";
+        assertNotNull(memo.get(Script.DETHEK, recent, 0, recent.length()));
+    }
+
+    @Test
+    void overlongWordsAreNotStored() {
+        String word = "a".repeat(WordMemo.MAX_WORD_LENGTH + 1);
+        assertEquals("x", memo.put(Script.DETHEK, word, "x").output());
+        assertNull(memo.get(Script.DETHEK, word, 0, word.length()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.druidic.transliterator.adapter.out.cache;
+
+import com.druidic.transliterator.adapter.out.transliteration.DethekTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.adapter.out.transliteration.TengwarTransliterator;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordMemoTransliteratorTest {
+
+    private static final List<String> INPUTS = List.of(
+            "hello world", "the thistle\nthe thistle", "  leading and trailing  ",
+            "Quick! Brown, fox.", "all\tthe\ttabs", "x\n\nxx", "ÄBC İstanbul", "a", "\n");
+
+    private final Map<Script, TransliteratePort> engines = Map.of(
+            Script.ELDER_FUTHARK, new FutharkTransliterator(),
+            Script.TENGWAR, new TengwarTransliterator(),
+            Script.DETHEK, new DethekTransliterator());
+
+    private final WordMemo memo = new WordMemo(1024);
+
+    @Test
+    void matchesEngineOutputForEveryScript() throws Exception {
+        for (Map.Entry<Script, TransliteratePort> engine : engines.entrySet()) {
+            WordMemoTransliterator memoized = new WordMemoTransliterator(engine.getValue(), memo);
+            for (String input : INPUTS) {
+                TransliterationRequest request = new TransliterationRequest(input, engine.getKey());
+
+                assertEquals(engine.getValue().transliterate(request).runeText(),
+                        memoized.transliterate(request).runeText(), engine.getKey() + ": " + input);
+
+                ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                ByteArrayOutputStream actual = new ByteArrayOutputStream();
+                engine.getValue().writeJsonUtf8(request, expected);
+                memoized.writeJsonUtf8(request, actual);
+                assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    void alignmentRequestsGoStraightToTheEngine() {
+        WordMemoTransliterator memoized = new WordMemoTransliterator(engines.get(Script.TENGWAR), memo);
+        TransliterationResult result = memoized.transliterate(new TransliterationRequest("tap tap", Script.TENGWAR, true));
+
+        assertArrayEquals(new int[] {2, 2, 1, 1, 1, 1, 2, 2, 1, 1}, result.alignment());
+        assertEquals(0, memo.misses(Script.TENGWAR));
+    }
+
+    @Test
+    void repeatedWordsHitTheMemo() {
+        WordMemoTransliterator memoized = new WordMemoTransliterator(engines.get(Script.TENGWAR), memo);
+        memoized.transliterate(new TransliterationRequest("the cat and the hat and the bat", Script.TENGWAR));
+
+        assertEquals(3, memo.hits(Script.TENGWAR));
+        assertEquals(5, memo.misses(Script.TENGWAR));
+    }
+
+    @Test
+    void rejectsEnginesWithStateAcrossWhitespace() {
+        TransliteratePort stateful = new TransliteratePort() {
+            @Override
+            public Script script() {
+                return Script.TENGWAR;
+            }
+
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                return null;
+            }
+
+            @Override
+            public List<LegendEntry> getLegend() {
+                return List.of();
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> new WordMemoTransliterator(stateful, memo));
+    }
+}
@@ -0,0 +1,60 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.core.Script;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    @Test
+    void spreadsKeysEvenly() {
+        HashRing ring = new HashRing(List.of("a:7071", "b:7071", "c:7071"));
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.owner(Script.TENGWAR, "text " + i), 1, Integer::sum);
+        }
+        assertEquals(3, counts.size());
+        counts.forEach((peer, count) ->
+                assertTrue(Math.abs(count - KEYS / 3) < KEYS / 3 / 5, peer + " owns " + count));
+    }
+
+    @Test
+    void addingAPeerOnlyMovesKeysToIt() {
+        HashRing before = new HashRing(List.of("a:7071", "b:7071", "c:7071"));
+        HashRing after = new HashRing(List.of("a:7071", "b:7071", "c:7071", "d:7071"));
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String text = "text " + i;
+            String owner = after.owner(Script.DETHEK, text);
+            if (!owner.equals(before.owner(Script.DETHEK, text))) {
+                assertEquals("d:7071", owner, text);
+                moved++;
+            }
+        }
+        assertTrue(moved > KEYS / 5 && moved < KEYS * 3 / 10, moved + " keys moved");
+    }
+
+    @Test
+    void agreesRegardlessOfListOrderAndSeparatesScripts() {
+        HashRing ring = new HashRing(List.of("a:7071", "b:7071", "c:7071"));
+        HashRing reordered = new HashRing(List.of("c:7071", "a:7071", "b:7071", "a:7071"));
+        int sameOwnerAcrossScripts = 0;
+        for (int i = 0; i < 1_000; i++) {
+            String text = "word" + i;
+            assertEquals(ring.owner(Script.ELDER_FUTHARK, text), reordered.owner(Script.ELDER_FUTHARK, text));
+            if (ring.owner(Script.ELDER_FUTHARK, text).equals(ring.owner(Script.TENGWAR, text))) {
+                sameOwnerAcrossScripts++;
+            }
+        }
+        assertEquals(3, reordered.peers().size());
+        assertTrue(sameOwnerAcrossScripts < 500, "script should be part of the key");
+        assertNull(new HashRing(List.of()).owner(Script.TENGWAR, "anything"));
+    }
+}
@@ -0,0 +1,225 @@
+package com.druidic.transliterator.adapter.out.cluster;
+
+import com.druidic.transliterator.adapter.in.socket.SocketServer;
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.core.LegendEntry;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedTransliteratorTest {
+
+    private static final TransliteratePort FUTHARK = new FutharkTransliterator();
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void close() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    @Test
+    void eachKeyIsComputedOnlyByItsOwner() throws IOException {
+        Replica a = replica();
+        Replica b = replica();
+        List<String> peers = List.of(a.address, b.address);
+        ShardedTransliterator viaA = a.join(peers);
+        ShardedTransliterator viaB = b.join(peers);
+        HashRing ring = new HashRing(peers);
+
+        for (int i = 0; i < 200; i++) {
+            String text = "hot phrase " + i;
+            assertEquals(expected(text), transliterate(viaA, text));
+            assertEquals(expected(text), transliterate(viaB, text));
+            assertEquals(expected(text), json(viaA, text));
+        }
+
+        int ownedByA = 0;
+        for (int i = 0; i < 200; i++) {
+            String text = "hot phrase " + i;
+            boolean aOwns = ring.owner(Script.ELDER_FUTHARK, text).equals(a.address);
+            assertEquals(aOwns, a.computed.contains(text), text);
+            assertEquals(!aOwns, b.computed.contains(text), text);
+            ownedByA += aOwns ? 1 : 0;
+        }
+        assertTrue(ownedByA > 50 && ownedByA < 150, "A owns " + ownedByA);
+
+        // The second lookup of each of B's keys on A came from the near-cache
+        assertEquals(200 - ownedByA, a.cache.remoteHits());
+        assertEquals(200 - ownedByA, a.cache.nearHits());
+        assertEquals(0, a.cache.fallbacks() + b.cache.fallbacks());
+    }
+
+    @Test
+    void computesLocallyWhenTheOwnerIsUnreachable() throws IOException {
+        Replica a = replica();
+        String dead = "127.0.0.1:" + unusedPort();
+        ShardedTransliterator viaA = a.join(List.of(a.address, dead));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected("phrase " + i), transliterate(viaA, "phrase " + i));
+        }
+        assertEquals(100, a.computed.size());
+        assertTrue(a.cache.fallbacks() > 0);
+        assertEquals(0, a.cache.remoteHits());
+    }
+
+    @Test
+    void aTimeoutFailsOnlyItsOwnRequestUntilTimeoutsRepeat() throws IOException {
+        TransliteratePort slowOnRequest = new FutharkTransliterator() {
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                if (request.rawText().startsWith("slow")) {
+                    try {
+                        Thread.sleep(1_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.transliterate(request);
+            }
+        };
+        SocketServer owner = new SocketServer(Map.of(Script.ELDER_FUTHARK, slowOnRequest),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), null, 4, 4096, 1);
+        resources.add(owner);
+        owner.start();
+        String address = "127.0.0.1:" + owner.port();
+        ShardedCache cache = new ShardedCache(new ShardedCache.Settings("127.0.0.1:1", List.of(address), null,
+                Duration.ofSeconds(1), 64, 500, Duration.ofMillis(200), Duration.ofSeconds(30)));
+        resources.add(cache);
+
+        assertNull(cache.fetch(address, Script.ELDER_FUTHARK, "slow 1"));
+        assertEquals(expected("fast"), cache.fetch(address, Script.ELDER_FUTHARK, "fast"));
+
+        for (int i = 0; i < ShardedCache.TIMEOUTS_BEFORE_DOWN; i++) {
+            assertNull(cache.fetch(address, Script.ELDER_FUTHARK, "slow " + i));
+        }
+        assertNull(cache.fetch(address, Script.ELDER_FUTHARK, "fast"), "the peer is down after repeated timeouts");
+        assertEquals(1, cache.remoteHits());
+    }
+
+    @Test
+    void keepsLongAndBlankTextsLocal() throws IOException {
+        Replica a = replica();
+        Replica b = replica();
+        // A owns nothing, so anything it computes was kept local on purpose
+        ShardedTransliterator viaA = a.join(List.of(b.address));
+
+        String longText = "x".repeat(501);
+        assertEquals(expected(longText), transliterate(viaA, longText));
+        assertEquals(expected("   "), transliterate(viaA, "   "));
+        assertEquals(expected("short"), transliterate(viaA, "short"));
+        assertEquals(Set.of(longText, "   "), Set.copyOf(a.computed));
+    }
+
+    @Test
+    void followsChangesToThePeersFile(@TempDir Path dir) throws IOException {
+        Replica a = replica();
+        Replica b = replica();
+        Path file = dir.resolve("peers");
+        Files.writeString(file, "# replicas\n" + a.address + "\n");
+        ShardedCache cache = new ShardedCache(new ShardedCache.Settings(a.address, List.of(), file, Duration.ZERO,
+                64, 500, Duration.ofSeconds(2), Duration.ofSeconds(5)));
+        resources.add(cache);
+        assertEquals(List.of(a.address), cache.peers());
+
+        Files.writeString(file, a.address + "\n" + b.address + "  # added\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2_000));
+        assertEquals(List.of(a.address, b.address).stream().sorted().toList(), cache.peers());
+
+        Files.delete(file);
+        assertEquals(2, cache.peers().size(), "a missing file keeps the last good list");
+    }
+
+    private Replica replica() throws IOException {
+        Replica replica = new Replica();
+        resources.add(replica.server);
+        return replica;
+    }
+
+    private static String expected(String text) {
+        return FUTHARK.transliterate(new TransliterationRequest(text, Script.ELDER_FUTHARK)).runeText();
+    }
+
+    private static String transliterate(TransliteratePort port, String text) {
+        TransliterationResult result = port.transliterate(new TransliterationRequest(text, Script.ELDER_FUTHARK));
+        assertEquals(text, result.originalText());
+        return result.runeText();
+    }
+
+    private static String json(TransliteratePort port, String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        port.writeJsonUtf8(new TransliterationRequest(text, Script.ELDER_FUTHARK), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // One replica: a counting engine served to peers on an ephemeral port
+    private final class Replica {
+
+        final Set<String> computed = ConcurrentHashMap.newKeySet();
+        final TransliteratePort engine = new TransliteratePort() {
+            @Override
+            public Script script() {
+                return Script.ELDER_FUTHARK;
+            }
+
+            @Override
+            public TransliterationResult transliterate(TransliterationRequest request) {
+                computed.add(request.rawText());
+                return FUTHARK.transliterate(request);
+            }
+
+            @Override
+            public List<LegendEntry> getLegend() {
+                return FUTHARK.getLegend();
+            }
+        };
+        final SocketServer server;
+        final String address;
+        ShardedCache cache;
+
+        Replica() throws IOException {
+            server = new SocketServer(Map.of(Script.ELDER_FUTHARK, engine),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), null, 1, 4096, Integer.MAX_VALUE);
+            server.start();
+            address = "127.0.0.1:" + server.port();
+        }
+
+        ShardedTransliterator join(List<String> peers) throws IOException {
+            cache = new ShardedCache(new ShardedCache.Settings(address, peers, null, Duration.ofSeconds(1),
+                    1024, 500, Duration.ofSeconds(2), Duration.ofSeconds(5)));
+            resources.add(cache);
+            return new ShardedTransliterator(engine, cache);
+        }
+    }
+}
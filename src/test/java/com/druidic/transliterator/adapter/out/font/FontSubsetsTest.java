@@ -0,0 +1,96 @@
+package com.druidic.transliterator.adapter.out.font;
+
+import com.druidic.transliterator.core.Script;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FontSubsetsTest {
+
+    private final FontSubsets subsets = new FontSubsets(16);
+
+    @Test
+    void keepsOnlyTheGlyphsOfTheText() throws Exception {
+        WoffFont source = WoffFont.read(resource("/static/fonts/dethek_stone.woff"));
+
+        FontSubsets.Subset subset = subsets.subset(Script.DETHEK, "dwarf").orElseThrow();
+        WoffFont font = WoffFont.read(subset.woff());
+
+        // .notdef plus d, w, a, r, f
+        assertEquals(6, drawnGlyphs(font));
+        assertTrue(drawnGlyphs(source) > 200);
+        assertTrue(subset.woff().length < resource("/static/fonts/dethek_stone.woff").length / 2);
+        assertArrayEquals(source.table("cmap"), font.table("cmap"), "glyph ids are kept");
+    }
+
+    @Test
+    void equalGlyphSetsShareAHashWhateverTheText() {
+        FontSubsets.Subset first = subsets.subset(Script.TENGWAR, "1q1q").orElseThrow();
+        FontSubsets.Subset second = subsets.subset(Script.TENGWAR, "q1\n").orElseThrow();
+
+        assertEquals(first.hash(), second.hash());
+        assertEquals("1q", first.glyphs());
+        assertSame(first, second);
+        assertEquals(1, subsets.cached());
+    }
+
+    @Test
+    void hashDependsOnGlyphsAndScript() {
+        String tengwar = subsets.subset(Script.TENGWAR, "abc").orElseThrow().hash();
+
+        assertNotEquals(tengwar, subsets.subset(Script.TENGWAR, "abcd").orElseThrow().hash());
+        assertNotEquals(tengwar, subsets.subset(Script.DETHEK, "abc").orElseThrow().hash());
+    }
+
+    @Test
+    void hashIsKnownBeforeTheSubsetIsBuilt() {
+        String hash = subsets.hash(Script.DETHEK, "dwarf").orElseThrow();
+        assertEquals(0, subsets.cached());
+
+        assertEquals(hash, subsets.subset(Script.DETHEK, "fwdra\n").orElseThrow().hash());
+        assertTrue(subsets.hash(Script.ELDER_FUTHARK, "dwarf").isEmpty());
+    }
+
+    @Test
+    void scriptsWithoutAWebFontHaveNoSubsets() {
+        assertFalse(subsets.supports(Script.ELDER_FUTHARK));
+        assertTrue(subsets.subset(Script.ELDER_FUTHARK, "ᚠᚢᚦ").isEmpty());
+    }
+
+    @Test
+    void woffRoundTripsTableForTable() throws Exception {
+        WoffFont font = WoffFont.read(resource("/static/fonts/tngan-webfont.woff"));
+        WoffFont copy = WoffFont.read(font.toWoff());
+
+        assertEquals(font.tables().keySet(), copy.tables().keySet());
+        for (String tag : font.tables().keySet()) {
+            if (!tag.equals("head")) {
+                assertArrayEquals(font.table(tag), copy.table(tag), tag);
+            }
+        }
+    }
+
+    private static int drawnGlyphs(WoffFont font) {
+        boolean longLoca = ByteBuffer.wrap(font.table("head")).getShort(50) != 0;
+        ByteBuffer loca = ByteBuffer.wrap(font.table("loca"));
+        int numGlyphs = ByteBuffer.wrap(font.table("maxp")).getShort(4) & 0xFFFF;
+        int drawn = 0;
+        for (int i = 0; i < numGlyphs; i++) {
+            long start = longLoca ? loca.getInt(i * 4) : loca.getShort(i * 2) & 0xFFFF;
+            long end = longLoca ? loca.getInt(i * 4 + 4) : loca.getShort(i * 2 + 2) & 0xFFFF;
+            if (end > start) {
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    private static byte[] resource(String name) throws Exception {
+        try (InputStream in = FontSubsetsTest.class.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+}
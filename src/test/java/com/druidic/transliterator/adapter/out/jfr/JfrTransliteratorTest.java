@@ -0,0 +1,76 @@
+package com.druidic.transliterator.adapter.out.jfr;
+
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrTransliteratorTest {
+
+    private final JfrTransliterator transliterator = new JfrTransliterator(new FutharkTransliterator(), new JfrSampler(1));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void passesResultsThroughWithoutRecording() {
+        assertEquals("ᚺᛖᛚᛚᛟ", transliterator
+                .transliterate(new TransliterationRequest("hello", Script.ELDER_FUTHARK)).runeText());
+    }
+
+    @Test
+    void emitsEventsWhileRecording() throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TransliterationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            transliterator.transliterate(new TransliterationRequest("hello", Script.ELDER_FUTHARK));
+            transliterator.writeJsonUtf8(new TransliterationRequest("hi", Script.ELDER_FUTHARK),
+                    new ByteArrayOutputStream());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.druidic.transliterator.Transliteration"))
+                .toList();
+        assertEquals(2, events.size());
+        assertEquals("ELDER_FUTHARK", events.get(0).getString("script"));
+        assertEquals(5, events.get(0).getInt("inputLength"));
+        assertEquals(5, events.get(0).getInt("outputLength"));
+        assertEquals(6, events.get(1).getInt("outputLength"), "two runes, three UTF-8 bytes each");
+        assertTrue(events.get(1).getBoolean("utf8Output"));
+    }
+
+    @Test
+    void recordingServiceStartsStopsAndDumps() throws Exception {
+        JfrRecordingService service = new JfrRecordingService();
+
+        assertTrue(service.start("default", Duration.ofMinutes(1), Duration.ZERO));
+        assertFalse(service.start("default", Duration.ofMinutes(1), Duration.ZERO), "only one recording at a time");
+        transliterator.transliterate(new TransliterationRequest("hello", Script.ELDER_FUTHARK));
+        assertEquals("RUNNING", service.status().orElseThrow().state());
+
+        assertTrue(service.stop());
+        assertFalse(service.stop());
+
+        Path dump = service.dump().orElseThrow();
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+                .anyMatch(e -> e.getEventType().getName().equals("com.druidic.transliterator.Transliteration")));
+        Files.delete(dump);
+    }
+}
@@ -0,0 +1,117 @@
+package com.druidic.transliterator.adapter.out.shadow;
+
+import com.druidic.transliterator.adapter.out.transliteration.FutharkTransliterator;
+import com.druidic.transliterator.core.JsonUtf8;
+import com.druidic.transliterator.core.Script;
+import com.druidic.transliterator.core.TransliterationRequest;
+import com.druidic.transliterator.core.TransliterationResult;
+import com.druidic.transliterator.port.in.TransliteratePort;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShadowTransliteratorTest {
+
+    private static final TransliteratePort FUTHARK = new FutharkTransliterator();
+
+    // Writes Z as S; right on everything else
+    private static final class SkewedFuthark extends FutharkTransliterator {
+
+        @Override
+        public TransliterationResult transliterate(TransliterationRequest request) {
+            TransliterationResult result = super.transliterate(request);
+            return new TransliterationResult(result.originalText(), result.runeText().replace("ᛉ", "ᛊ"));
+        }
+
+        @Override
+        public void writeJsonUtf8(TransliterationRequest request, OutputStream out) throws IOException {
+            out.write(JsonUtf8.encode(transliterate(request).runeText()));
+        }
+    }
+
+    private static final class BrokenFuthark extends FutharkTransliterator {
+
+        @Override
+        public TransliterationResult transliterate(TransliterationRequest request) {
+            throw new IllegalStateException("not finished");
+        }
+    }
+
+    private static ShadowRunner runner(TransliteratePort candidate, int maxTextLength) {
+        return new ShadowRunner(Map.of(Script.ELDER_FUTHARK, candidate), 1, maxTextLength, 1, 100, 10);
+    }
+
+    private static TransliterationRequest request(String text) {
+        return new TransliterationRequest(text, Script.ELDER_FUTHARK);
+    }
+
+    @Test
+    void answersFromThePrimaryAndRecordsWhereTheCandidateDiffers() throws Exception {
+        TransliteratePort candidate = new SkewedFuthark();
+        ShadowRunner runner = runner(candidate, 100);
+        ShadowTransliterator shadowed = new ShadowTransliterator(FUTHARK, FUTHARK, candidate, runner);
+
+        assertEquals(FUTHARK.transliterate(request("zap")), shadowed.transliterate(request("zap")));
+        assertEquals(FUTHARK.transliterate(request("hello")), shadowed.transliterate(request("hello")));
+        runner.close();
+
+        assertEquals(2, runner.samples(Script.ELDER_FUTHARK));
+        assertEquals(1, runner.mismatches(Script.ELDER_FUTHARK));
+        List<ShadowRunner.Mismatch> mismatches = runner.recentMismatches();
+        assertEquals(1, mismatches.size());
+        assertEquals("zap", mismatches.get(0).input());
+        assertEquals("ᛉᚨᛈ", mismatches.get(0).expected());
+        assertEquals("ᛊᚨᛈ", mismatches.get(0).actual());
+        assertTrue(runner.latencyRatio(Script.ELDER_FUTHARK) > 0);
+    }
+
+    @Test
+    void comparesTheJsonBytesThatWereSent() throws Exception {
+        TransliteratePort candidate = new SkewedFuthark();
+        ShadowRunner runner = runner(candidate, 100);
+        ShadowTransliterator shadowed = new ShadowTransliterator(FUTHARK, FUTHARK, candidate, runner);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        FUTHARK.writeJsonUtf8(request("fizz"), expected);
+        shadowed.writeJsonUtf8(request("fizz"), actual);
+        runner.close();
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        assertEquals(1, runner.mismatches(Script.ELDER_FUTHARK));
+        assertEquals(expected.toString(StandardCharsets.UTF_8), runner.recentMismatches().get(0).expected());
+    }
+
+    @Test
+    void aCandidateThatThrowsIsAMismatchNotAFailedRequest() throws Exception {
+        TransliteratePort candidate = new BrokenFuthark();
+        ShadowRunner runner = runner(candidate, 100);
+        ShadowTransliterator shadowed = new ShadowTransliterator(FUTHARK, FUTHARK, candidate, runner);
+
+        assertEquals("ᚺᛁ", shadowed.transliterate(request("hi")).runeText());
+        runner.close();
+
+        assertEquals(1, runner.mismatches(Script.ELDER_FUTHARK));
+        assertTrue(runner.recentMismatches().get(0).actual().startsWith("threw "));
+    }
+
+    @Test
+    void longInputsAreNotSampled() throws Exception {
+        TransliteratePort candidate = new SkewedFuthark();
+        ShadowRunner runner = runner(candidate, 4);
+        ShadowTransliterator shadowed = new ShadowTransliterator(FUTHARK, FUTHARK, candidate, runner);
+
+        shadowed.transliterate(request("zzzzz"));
+        shadowed.transliterate(request("zzzz"));
+        runner.close();
+
+        assertEquals(1, runner.samples(Script.ELDER_FUTHARK));
+    }
+}
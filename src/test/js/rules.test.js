@@ -0,0 +1,71 @@
+const path = require('path');
+
+const {
+  transliterateWithRules,
+  getCachedRules,
+  loadRules,
+} = require(path.resolve(__dirname, '../../main/resources/static/js/rules.js'));
+
+// Written by TransliterationRulesConformanceTest from the Java engines
+const FIXTURE = require(path.resolve(__dirname, '../../../core/src/test/resources/rules-conformance.json'));
+
+// ── Conformance with the Java engines ─────────────────
+
+describe.each(Object.keys(FIXTURE))('%s rules', (script) => {
+  const { rules, cases } = FIXTURE[script];
+
+  test.each(cases)('%j', (input, expected) => {
+    expect(transliterateWithRules(rules, input)).toBe(expected);
+  });
+});
+
+// ── Loading and caching ───────────────────────────────
+
+describe('loadRules', () => {
+  const payload = {
+    script: 'TENGWAR',
+    format: 1,
+    version: 'abc123',
+    exact: true,
+    rules: FIXTURE.TENGWAR.rules,
+  };
+
+  beforeEach(() => {
+    localStorage.clear();
+  });
+
+  test('caches fetched rules for offline use', async () => {
+    global.fetch = jest.fn().mockResolvedValue({ ok: true, json: () => Promise.resolve(payload) });
+
+    const ruleSet = await loadRules('TENGWAR');
+
+    expect(global.fetch).toHaveBeenCalledWith('/api/rules?script=TENGWAR', { cache: 'no-cache' });
+    expect(ruleSet).toEqual({ rules: FIXTURE.TENGWAR.rules, version: 'abc123', exact: true, current: true });
+    expect(getCachedRules('TENGWAR')).toEqual(FIXTURE.TENGWAR.rules);
+  });
+
+  test('falls back to the cached copy when the fetch fails', async () => {
+    localStorage.setItem('transliteration_rules_TENGWAR', JSON.stringify(payload));
+    global.fetch = jest.fn().mockRejectedValue(new Error('offline'));
+
+    const ruleSet = await loadRules('TENGWAR');
+
+    expect(ruleSet.rules).toEqual(FIXTURE.TENGWAR.rules);
+    expect(ruleSet.current).toBe(false);
+  });
+
+  test('marks rules of a phonetic engine as inexact', async () => {
+    global.fetch = jest.fn().mockResolvedValue({
+      ok: true,
+      json: () => Promise.resolve({ ...payload, exact: false }),
+    });
+
+    expect((await loadRules('TENGWAR')).exact).toBe(false);
+  });
+
+  test('ignores cached rules of another format', () => {
+    localStorage.setItem('transliteration_rules_TENGWAR', JSON.stringify({ ...payload, format: 0 }));
+
+    expect(getCachedRules('TENGWAR')).toBeNull();
+  });
+});